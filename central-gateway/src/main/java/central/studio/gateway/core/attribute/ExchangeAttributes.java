@@ -69,6 +69,11 @@ public interface ExchangeAttributes {
      */
     Attribute<Integer> TIMEOUT = Attribute.of(ExchangeAttributes.class.getName() + ".timeout");
 
+    /**
+     * 最大请求体大小（字节）
+     */
+    Attribute<Long> MAX_REQUEST_SIZE = Attribute.of(ExchangeAttributes.class.getName() + ".max_request_size");
+
     /**
      * 响应
      */
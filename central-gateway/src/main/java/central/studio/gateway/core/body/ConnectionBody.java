@@ -25,6 +25,7 @@
 package central.studio.gateway.core.body;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -47,17 +48,30 @@ public class ConnectionBody implements HttpResponseBody {
 
     private final Connection connection;
 
+    /**
+     * 最多预取的缓冲区数量
+     */
+    private final int prefetch;
+
     public ConnectionBody(Connection connection) {
+        this(connection, 16);
+    }
+
+    public ConnectionBody(Connection connection, int prefetch) {
         this.connection = connection;
+        this.prefetch = prefetch;
     }
 
     @NotNull
     @Override
     public Flux<DataBuffer> get(DataBufferFactory bufferFactory) {
+        // 按需从上游读取数据，客户端消费变慢时上游连接停止读取，不会无限堆积缓冲区
         return connection.inbound()
                 .receive()
                 .retain()
-                .map(byteBuf -> wrap(byteBuf, bufferFactory));
+                .limitRate(this.prefetch)
+                .map(byteBuf -> wrap(byteBuf, bufferFactory))
+                .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease);
     }
 
     protected DataBuffer wrap(ByteBuf byteBuf, DataBufferFactory bufferFactory) {
@@ -30,8 +30,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
-import java.util.zip.DeflaterInputStream;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Deflate 压缩
@@ -42,7 +42,7 @@ import java.util.zip.DeflaterOutputStream;
 public class DeflateSerializer implements BodySerializer {
     @Override
     public String read(InputStream body, Charset charset) throws IOException {
-        return IOStreamx.readText(new DeflaterInputStream(body), charset);
+        return IOStreamx.readText(new InflaterInputStream(body), charset);
     }
 
     @Override
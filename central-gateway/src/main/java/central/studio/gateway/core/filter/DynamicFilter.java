@@ -38,6 +38,7 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -59,6 +60,11 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
 
     private final List<Predicate> predicates = new ArrayList<>();
 
+    /**
+     * 按开销排序后的断言
+     */
+    private final Predicate[] evaluators;
+
     private final Filter delegate;
 
     private final FilterResolver filterResolver;
@@ -85,6 +91,11 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
                     throw new IllegalStateException(Stringx.format("初始化断言插件[id={}, type={}]异常: {}", this.data.getId(), predicate.getType(), ex.getLocalizedMessage()), ex);
                 }
             }
+
+            // 3. 开销小的断言先执行，尽早短路
+            this.evaluators = this.predicates.stream()
+                    .sorted(Comparator.comparingInt(Predicate::getOrder))
+                    .toArray(Predicate[]::new);
         }
 
         {
@@ -100,7 +111,12 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
 
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return this.predicates.stream().allMatch(it -> it.predicate(exchange));
+        for (var evaluator : this.evaluators) {
+            if (!evaluator.predicate(exchange)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
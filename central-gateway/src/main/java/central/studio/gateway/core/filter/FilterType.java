@@ -59,7 +59,8 @@ public enum FilterType implements OptionalEnum<String> {
     REQUEST_DETAILS("请求详情（Request Details）", "request_details", RequestDetailsFilter.class),
 
     CROSS_ORIGIN("跨域（Cross Origin）", "cross_origin", CrossOriginFilter.class),
-    TIMEOUT("设置超时时间（Timeout）", "timeout", TimeoutFilter.class);
+    TIMEOUT("设置超时时间（Timeout）", "timeout", TimeoutFilter.class),
+    REQUEST_SIZE("限制请求体大小（Request Size）", "request_size", RequestSizeFilter.class);
 
     private final String name;
     private final String value;
@@ -46,6 +46,8 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBuffer;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -53,6 +55,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
@@ -60,8 +63,12 @@ import reactor.netty.resources.ConnectionProvider;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 发送 http、https 请求
@@ -83,7 +90,15 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
 
     private HttpRoutingProperties properties = new HttpRoutingProperties();
 
-    private HttpClient client;
+    /**
+     * 明文（http）上游服务使用的客户端
+     */
+    private final Map<UpstreamProtocol, HttpClient> plainClients = new EnumMap<>(UpstreamProtocol.class);
+
+    /**
+     * 加密（https）上游服务使用的客户端
+     */
+    private final Map<UpstreamProtocol, HttpClient> secureClients = new EnumMap<>(UpstreamProtocol.class);
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -105,7 +120,48 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
                 .metrics(false)
                 .build();
 
-        this.client = HttpClient.create(provider).protocol(HttpProtocol.HTTP11, HttpProtocol.H2, HttpProtocol.H2C);
+        // HTTP/2 在同一个连接上多路复用多个请求，因此只需要少量的连接
+        var http2Provider = ConnectionProvider.builder("http-routing-h2")
+                .maxConnections(this.properties.getHttp2MaxConnections())
+                .pendingAcquireMaxCount(this.properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(this.properties.getPendingAcquireTimeout()))
+                .evictInBackground(Duration.ZERO)
+                .metrics(false)
+                .build();
+
+        // HTTP/1.1
+        this.plainClients.put(UpstreamProtocol.HTTP11, HttpClient.create(provider).protocol(HttpProtocol.HTTP11));
+        this.secureClients.put(UpstreamProtocol.HTTP11, HttpClient.create(provider).protocol(HttpProtocol.HTTP11));
+
+        // HTTP/2：明文使用 h2c（Prior Knowledge），加密使用 ALPN 协商 h2，上游不支持时回退到 HTTP/1.1
+        this.plainClients.put(UpstreamProtocol.H2, HttpClient.create(http2Provider).protocol(HttpProtocol.H2C));
+        this.secureClients.put(UpstreamProtocol.H2, HttpClient.create(http2Provider).protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure());
+
+        // 自动协商：明文先使用 HTTP/1.1 再通过 Upgrade 升级到 h2c，加密使用 ALPN 协商
+        this.plainClients.put(UpstreamProtocol.AUTO, HttpClient.create(http2Provider).protocol(HttpProtocol.HTTP11, HttpProtocol.H2C));
+        this.secureClients.put(UpstreamProtocol.AUTO, HttpClient.create(http2Provider).protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure());
+    }
+
+    /**
+     * 获取转发到指定上游服务的客户端
+     *
+     * @param target 上游服务地址
+     */
+    protected HttpClient getClient(URI target) {
+        // 地址中没有显式指定端口时，使用协议的默认端口
+        var port = target.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(target.getScheme()) ? 443 : 80;
+        }
+        var protocol = this.properties.getUpstreams().get(target.getHost() + ":" + port);
+        if (protocol == null) {
+            protocol = this.properties.getUpstreams().getOrDefault(target.getHost(), this.properties.getProtocol());
+        }
+        if ("https".equalsIgnoreCase(target.getScheme())) {
+            return this.secureClients.get(protocol);
+        } else {
+            return this.plainClients.get(protocol);
+        }
     }
 
     @Override
@@ -131,22 +187,16 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
             headers.set(XForwardedHeaders.TOKEN, token);
         }
 
-        var provider = ConnectionProvider.builder("http-routing")
-                // 最大连接数
-                .maxConnections(this.properties.getMaxConnections())
-                // 超过连接数之后的队列大小
-                .pendingAcquireMaxCount(this.properties.getPendingAcquireMaxCount())
-                // 在队列的最大等待时间
-                .pendingAcquireTimeout(Duration.ofMillis(this.properties.getPendingAcquireTimeout()))
-                .evictInBackground(Duration.ZERO)
-                .metrics(false)
-                .build();
-
-        this.client = HttpClient.create(provider).protocol(HttpProtocol.HTTP11);
+        // 限制请求体大小
+        long maxRequestSize = exchange.getAttributeOrDefault(ExchangeAttributes.MAX_REQUEST_SIZE, this.properties.getMaxRequestSize());
+        if (maxRequestSize >= 0 && exchange.getRequest().getHeaders().getContentLength() > maxRequestSize) {
+            // 请求头已声明了请求体大小，则在转发前直接拒绝
+            return Mono.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Request body exceeds the maximum size: " + maxRequestSize));
+        }
 
         // 设置超时时间
         int timeout = exchange.getAttributeOrDefault(ExchangeAttributes.TIMEOUT, this.properties.getTimeout());
-        var responseFlux = this.client
+        var responseFlux = this.getClient(targetServer)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
                 // 转发请求头
                 .headers(it -> {
@@ -157,11 +207,14 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
                 .request(HttpMethod.valueOf(exchange.getRequest().getMethod().name()))
                 .uri(targetServer)
                 .send((req, nettOutbound) -> {
-                    return nettOutbound.send(exchange.getRequest().getBody().map(this::getByteBuf));
-//                    return nettOutbound.withConnection(connection -> )
+                    // 限制在途的缓冲区数量，客户端只有在上游消费后才会继续读取请求体（背压）
+                    return nettOutbound.send(this.limitBody(exchange.getRequest().getBody(), maxRequestSize)
+                            .limitRate(this.properties.getMaxInFlightBuffers())
+                            .map(this::getByteBuf)
+                            .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
                 }).responseConnection((res, connection) -> {
                     exchange.setAttribute(ExchangeAttributes.RESPONSE, res);
-                    exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new ConnectionBody(connection));
+                    exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new ConnectionBody(connection, this.properties.getMaxInFlightBuffers()));
 
                     exchange.getResponse().setRawStatusCode(res.status().code());
                     res.responseHeaders().forEach(entry -> exchange.getResponse().getHeaders().add(entry.getKey(), entry.getValue()));
@@ -172,6 +225,7 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
         return responseFlux
                 .timeout(Duration.ofMillis(timeout), Mono.error(new TimeoutException("Response timeout: " + timeout)))
                 .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
+                .onErrorMap(DataBufferLimitException.class, th -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, th.getMessage(), th))
                 .then(Mono.empty());
 
 
@@ -228,6 +282,29 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
 //        }).then();
     }
 
+    /**
+     * 统计已转发的请求体大小，超过限制时中止转发
+     *
+     * @param body    请求体
+     * @param maxSize 最大请求体大小，小于 0 时不限制
+     */
+    protected Flux<DataBuffer> limitBody(Flux<DataBuffer> body, long maxSize) {
+        if (maxSize < 0) {
+            return body;
+        }
+        return Flux.defer(() -> {
+            var total = new AtomicLong();
+            return body.<DataBuffer>handle((buffer, sink) -> {
+                if (total.addAndGet(buffer.readableByteCount()) > maxSize) {
+                    DataBufferUtils.release(buffer);
+                    sink.error(new DataBufferLimitException("Request body exceeds the maximum size: " + maxSize));
+                } else {
+                    sink.next(buffer);
+                }
+            });
+        });
+    }
+
     protected ByteBuf getByteBuf(DataBuffer dataBuffer) {
         if (dataBuffer instanceof NettyDataBuffer buffer) {
             return buffer.getNativeBuffer();
@@ -259,5 +336,54 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
          * 请求进入队列后的最大等待时间（ms）
          */
         private int pendingAcquireTimeout = 60000;
+        /**
+         * 最大请求体大小（字节）
+         * -1 为不设上限，可以通过 RequestSizeFilter 为指定路由单独设置
+         */
+        private long maxRequestSize = -1;
+        /**
+         * 转发请求体、响应体时，最多预取的缓冲区数量
+         * 用于在客户端与上游服务之间传递背压，避免慢速的一方导致缓冲区堆积
+         */
+        private int maxInFlightBuffers = 16;
+        /**
+         * 转发到上游服务时使用的默认协议
+         */
+        private UpstreamProtocol protocol = UpstreamProtocol.HTTP11;
+        /**
+         * 为指定上游服务设置协议
+         * 键为上游服务的主机名（host）或主机名加端口（host:port），值为协议。
+         * 配置文件中的键必须使用方括号括起来，否则 Spring Boot 在绑定时会去掉冒号等字符，导致无法匹配，如:
+         * <pre>
+         * studio.gateway.filter.http-routing.upstreams:
+         *   "[api.example.com]": H2
+         *   "[api.example.com:8443]": AUTO
+         * </pre>
+         */
+        private Map<String, UpstreamProtocol> upstreams = new HashMap<>();
+        /**
+         * 使用 HTTP/2 时，每个上游服务的最大连接数
+         */
+        private int http2MaxConnections = 8;
+    }
+
+    /**
+     * 上游服务协议
+     */
+    public enum UpstreamProtocol {
+        /**
+         * 只使用 HTTP/1.1
+         */
+        HTTP11,
+        /**
+         * 使用 HTTP/2
+         * 明文连接使用 h2c（Prior Knowledge），加密连接通过 ALPN 协商 h2，协商失败时回退到 HTTP/1.1
+         */
+        H2,
+        /**
+         * 自动协商
+         * 明文连接通过 HTTP/1.1 Upgrade 升级到 h2c，加密连接通过 ALPN 协商 h2，上游不支持时使用 HTTP/1.1
+         */
+        AUTO
     }
 }
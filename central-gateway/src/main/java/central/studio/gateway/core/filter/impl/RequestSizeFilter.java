@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.impl;
+
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.validation.Label;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 设置代理请求的最大请求体大小
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class RequestSizeFilter implements Filter {
+
+    @Control(label = "说明", type = ControlType.LABEL, required = false,
+            defaultValue = "　　本过滤器用于设置网关转发到目标服务器的<code>最大请求体大小</code>。超过此大小的请求将被拒绝（413 Payload Too Large）。")
+    private String label;
+
+    @Setter
+    @Label("最大请求体大小")
+    @NotNull
+    @Min(0)
+    @Control(label = "最大请求体大小", type = ControlType.NUMBER, defaultValue = "10485760", comment = "单位字节")
+    private Long maxSize;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        exchange.setAttribute(ExchangeAttributes.MAX_REQUEST_SIZE, this.maxSize);
+        return chain.filter(exchange);
+    }
+}
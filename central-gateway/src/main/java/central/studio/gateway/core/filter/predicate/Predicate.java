@@ -24,6 +24,7 @@
 
 package central.studio.gateway.core.filter.predicate;
 
+import org.springframework.core.Ordered;
 import org.springframework.web.server.ServerWebExchange;
 
 /**
@@ -32,7 +33,37 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/10/13
  */
-public interface Predicate {
+public interface Predicate extends Ordered {
+    /**
+     * 只需要比较数值的断言，如时间区间
+     */
+    int CHEAPEST = -300;
+
+    /**
+     * 只需要查表的断言，如请求方法、请求路径
+     */
+    int CHEAP = -200;
+
+    /**
+     * 需要解析请求信息的断言，如来源地址
+     */
+    int NORMAL = 0;
+
+    /**
+     * 需要执行正则表达式的断言，如请求头、Cookie
+     */
+    int EXPENSIVE = 100;
+
+    /**
+     * 执行顺序
+     * <p>
+     * 同一个过滤器的多个断言按此顺序执行，开销越小的断言越先执行，断言失败时不再执行后续的断言
+     */
+    @Override
+    default int getOrder() {
+        return NORMAL;
+    }
+
     /**
      * 判断当前请求是否满足条件
      *
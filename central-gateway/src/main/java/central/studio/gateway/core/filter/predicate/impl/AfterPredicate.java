@@ -25,11 +25,13 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.CachedClock;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
 import jakarta.validation.constraints.NotNull;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.sql.Timestamp;
@@ -43,7 +45,7 @@ import java.sql.Timestamp;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class AfterPredicate implements Predicate {
+public class AfterPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("After")
@@ -51,8 +53,20 @@ public class AfterPredicate implements Predicate {
     @Control(label = "After", type = ControlType.DATETIME, comment = "请求时间发生在 After 之后，匹配成功")
     private Timestamp after;
 
+    private long afterMillis;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.afterMillis = this.after.getTime();
+    }
+
+    @Override
+    public int getOrder() {
+        return CHEAPEST;
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return System.currentTimeMillis() > after.getTime();
+        return CachedClock.currentTimeMillis() > this.afterMillis;
     }
 }
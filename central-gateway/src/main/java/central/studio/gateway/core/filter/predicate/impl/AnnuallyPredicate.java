@@ -25,17 +25,17 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.bean.OptionalEnum;
-import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.WindowedPredicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
+import jakarta.annotation.Nonnull;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.web.server.ServerWebExchange;
 
-import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -45,7 +45,7 @@ import java.util.Objects;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class AnnuallyPredicate implements Predicate {
+public class AnnuallyPredicate extends WindowedPredicate {
 
     @Setter
     @Label("月份")
@@ -54,9 +54,10 @@ public class AnnuallyPredicate implements Predicate {
     private List<Month> months;
 
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        var now = OffsetDateTime.now();
-        return this.months.stream().anyMatch(it -> it.isCompatibleWith(now.getMonthValue()));
+    protected @Nonnull Window compute(@Nonnull ZonedDateTime now) {
+        var firstDay = now.toLocalDate().withDayOfMonth(1);
+        var matched = this.months.stream().anyMatch(it -> it.isCompatibleWith(now.getMonthValue()));
+        return Window.of(firstDay.atStartOfDay(now.getZone()), firstDay.plusMonths(1).atStartOfDay(now.getZone()), matched);
     }
 
     @Getter
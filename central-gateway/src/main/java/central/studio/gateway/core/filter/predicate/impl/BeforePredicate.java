@@ -25,11 +25,13 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.CachedClock;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
 import jakarta.validation.constraints.NotNull;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.sql.Timestamp;
@@ -42,7 +44,7 @@ import java.sql.Timestamp;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class BeforePredicate implements Predicate {
+public class BeforePredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("Before")
@@ -50,8 +52,20 @@ public class BeforePredicate implements Predicate {
     @Control(label = "Before", type = ControlType.DATETIME, comment = "请求时间发生在 Before 之前，匹配成功")
     private Timestamp before;
 
+    private long beforeMillis;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.beforeMillis = this.before.getTime();
+    }
+
+    @Override
+    public int getOrder() {
+        return CHEAPEST;
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return System.currentTimeMillis() < before.getTime();
+        return CachedClock.currentTimeMillis() < this.beforeMillis;
     }
 }
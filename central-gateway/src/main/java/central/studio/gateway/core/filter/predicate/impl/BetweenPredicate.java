@@ -25,6 +25,7 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.CachedClock;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
@@ -55,16 +56,27 @@ public class BetweenPredicate implements Predicate, InitializingBean {
     @Control(label = "结束时间", type = ControlType.DATETIME)
     private Timestamp end;
 
+    private long beginMillis;
+
+    private long endMillis;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         if (begin.getTime() > end.getTime()) {
             throw new IllegalArgumentException("开始时间不能晚于结束时间");
         }
+        this.beginMillis = begin.getTime();
+        this.endMillis = end.getTime();
+    }
+
+    @Override
+    public int getOrder() {
+        return CHEAPEST;
     }
 
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        var now = System.currentTimeMillis();
-        return now > begin.getTime() && now < end.getTime();
+        var now = CachedClock.currentTimeMillis();
+        return now > this.beginMillis && now < this.endMillis;
     }
 }
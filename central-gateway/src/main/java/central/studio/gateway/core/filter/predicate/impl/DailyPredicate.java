@@ -24,16 +24,21 @@
 
 package central.studio.gateway.core.filter.predicate.impl;
 
-import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.WindowedPredicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
+import jakarta.annotation.Nonnull;
 import jakarta.validation.constraints.NotNull;
 import lombok.Setter;
-import org.springframework.web.server.ServerWebExchange;
+import org.springframework.beans.factory.InitializingBean;
 
 import java.sql.Timestamp;
-import java.time.OffsetDateTime;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 每日区间断言
@@ -41,7 +46,7 @@ import java.time.OffsetDateTime;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class DailyPredicate implements Predicate {
+public class DailyPredicate extends WindowedPredicate implements InitializingBean {
 
     @Setter
     @Label("开始时间")
@@ -55,21 +60,42 @@ public class DailyPredicate implements Predicate {
     @Control(label = "结束时间", type = ControlType.TIME)
     private Timestamp endTime;
 
+    /**
+     * 每日开始时间（精确到秒）
+     */
+    private LocalTime begin;
+
+    /**
+     * 每日结束时间（精确到秒）
+     */
+    private LocalTime end;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.begin = LocalDateTime.ofInstant(this.beginTime.toInstant(), ZoneId.systemDefault()).toLocalTime().truncatedTo(ChronoUnit.SECONDS);
+        this.end = LocalDateTime.ofInstant(this.endTime.toInstant(), ZoneId.systemDefault()).toLocalTime().truncatedTo(ChronoUnit.SECONDS);
+    }
+
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        // 当前时间
-        var now = OffsetDateTime.now();
+    protected @Nonnull Window compute(@Nonnull ZonedDateTime now) {
+        var today = now.toLocalDate();
+        var dayBegin = today.atStartOfDay(now.getZone());
+        var dayEnd = today.plusDays(1).atStartOfDay(now.getZone());
 
-        // 每日开始时间
-        var offsetBeginTime = OffsetDateTime.ofInstant(beginTime.toInstant(), now.getOffset());
-        var begin = OffsetDateTime.of(now.getYear(), now.getMonthValue(), now.getDayOfMonth(), offsetBeginTime.getHour(), offsetBeginTime.getMinute(), offsetBeginTime.getSecond(), 0, now.getOffset());
+        var begin = today.atTime(this.begin).atZone(now.getZone());
+        // 结束时间所在的那一秒的起点仍然匹配
+        var end = today.atTime(this.end).atZone(now.getZone()).plus(1, ChronoUnit.MILLIS);
+
+        if (!begin.isBefore(end)) {
+            // 开始时间晚于结束时间，全天都不匹配
+            return Window.of(dayBegin, dayEnd, false);
+        }
         if (now.isBefore(begin)) {
-            return false;
+            return Window.of(dayBegin, begin, false);
         }
-
-        // 每日结束时间
-        var offsetEndTime = OffsetDateTime.ofInstant(endTime.toInstant(), now.getOffset());
-        var end = OffsetDateTime.of(now.getYear(), now.getMonthValue(), now.getDayOfMonth(), offsetEndTime.getHour(), offsetEndTime.getMinute(), offsetEndTime.getSecond(), 0, now.getOffset());
-        return !now.isAfter(end);
+        if (now.isBefore(end)) {
+            return Window.of(begin, end, true);
+        }
+        return Window.of(end, dayEnd, false);
     }
 }
@@ -31,8 +31,11 @@ import central.util.Listx;
 import central.validation.Label;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.regex.Pattern;
+
 /**
  * Header 断言
  * <p>
@@ -41,7 +44,7 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class HeaderPredicate implements Predicate {
+public class HeaderPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("请求头")
@@ -54,15 +57,37 @@ public class HeaderPredicate implements Predicate {
     @Control(label = "匹配规则", required = false, comment = "用于判断请求头值是否符合正则表达式，使用 String::matches 进行匹配。如果为空，则仅判断是否包含指定请求头")
     private String regexp;
 
+    /**
+     * 预编译的匹配规则
+     */
+    private Pattern pattern;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (Stringx.isNotBlank(this.regexp)) {
+            this.pattern = Pattern.compile(this.regexp);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return this.pattern == null ? CHEAP : EXPENSIVE;
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
         var headers = exchange.getRequest().getHeaders().get(this.header);
         if (Listx.isNullOrEmpty(headers)) {
             return false;
         }
-        if (Stringx.isNullOrBlank(regexp)) {
+        if (this.pattern == null) {
             return true;
         }
-        return headers.stream().anyMatch(it -> it != null && it.matches(this.regexp));
+        for (var it : headers) {
+            if (it != null && this.pattern.matcher(it).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -33,9 +33,12 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 请求方法断言
@@ -43,7 +46,7 @@ import java.util.List;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class MethodPredicate implements Predicate {
+public class MethodPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("请求方法")
@@ -51,9 +54,24 @@ public class MethodPredicate implements Predicate {
     @Control(label = "请求方法", type = ControlType.CHECKBOX, defaultValue = "GET", comment = "请求方法在指定的方法列表中，匹配成功")
     private List<HttpMethod> methods;
 
+    /**
+     * 允许的请求方法名
+     */
+    private Set<String> names;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.names = this.methods.stream().map(HttpMethod::getValue).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public int getOrder() {
+        return CHEAP;
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return this.methods.contains(HttpMethod.resolve(exchange.getRequest().getMethod().name()));
+        return this.names.contains(exchange.getRequest().getMethod().name());
     }
 
     @Getter
@@ -29,8 +29,12 @@ import central.pluglet.annotation.Control;
 import central.validation.Label;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
 
 /**
  * 路径匹配
@@ -38,7 +42,7 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class PathPredicate implements Predicate {
+public class PathPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("路径")
@@ -46,10 +50,33 @@ public class PathPredicate implements Predicate {
     @Control(label = "路径")
     private String path;
 
+    /**
+     * 预编译的路径模式
+     */
+    private PathPattern pattern;
+
     private final AntPathMatcher matcher = new AntPathMatcher();
 
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        try {
+            this.pattern = PathPatternParser.defaultInstance.parse(this.path);
+        } catch (PatternParseException ignored) {
+            // PathPattern 不支持部分 AntPathMatcher 语法（如在路径中间使用 **），此时回退到 AntPathMatcher
+            this.pattern = null;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return CHEAP;
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
+        if (this.pattern != null) {
+            return this.pattern.matches(exchange.getRequest().getPath());
+        }
         return matcher.match(this.path, exchange.getRequest().getPath().value());
     }
 }
@@ -25,17 +25,17 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.bean.OptionalEnum;
-import central.studio.gateway.core.filter.predicate.Predicate;
+import central.studio.gateway.core.filter.predicate.support.WindowedPredicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
+import jakarta.annotation.Nonnull;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.web.server.ServerWebExchange;
 
-import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
@@ -44,7 +44,7 @@ import java.util.List;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class WeeklyPredicate implements Predicate {
+public class WeeklyPredicate extends WindowedPredicate {
 
     @Setter
     @Label("星期")
@@ -53,10 +53,10 @@ public class WeeklyPredicate implements Predicate {
     private List<DayOfWeak> days;
 
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        var now = OffsetDateTime.now();
-
-        return this.days.contains(DayOfWeak.resolve(String.valueOf(now.getDayOfWeek())));
+    protected @Nonnull Window compute(@Nonnull ZonedDateTime now) {
+        var today = now.toLocalDate();
+        var matched = this.days.contains(DayOfWeak.resolve(String.valueOf(now.getDayOfWeek().getValue())));
+        return Window.of(today.atStartOfDay(now.getZone()), today.plusDays(1).atStartOfDay(now.getZone()), matched);
     }
 
     @Getter
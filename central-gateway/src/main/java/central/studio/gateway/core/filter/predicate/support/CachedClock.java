@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.predicate.support;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 低精度时钟
+ * <p>
+ * 由后台线程定时刷新当前时间，断言在每次请求中只需要读取一个 volatile 变量
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public final class CachedClock {
+    /**
+     * 刷新间隔（ms）
+     */
+    public static final long PRECISION = 5;
+
+    private static volatile long now = System.currentTimeMillis();
+
+    private static final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "gateway-cached-clock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        ticker.scheduleAtFixedRate(() -> now = System.currentTimeMillis(), PRECISION, PRECISION, TimeUnit.MILLISECONDS);
+    }
+
+    private CachedClock() {
+    }
+
+    /**
+     * 获取当前时间（ms），误差在 {@link #PRECISION} 以内
+     */
+    public static long currentTimeMillis() {
+        return now;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.predicate.support;
+
+import central.studio.gateway.core.filter.predicate.Predicate;
+import jakarta.annotation.Nonnull;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 时间窗口断言
+ * <p>
+ * 日历类断言的结果在一段时间内是不变的（如每日区间在某一天之内，只会在开始、结束时间点发生变化）。
+ * 因此只在当前时间离开上一次计算的时间窗口时才重新计算，其余时间只需要两次数值比较。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public abstract class WindowedPredicate implements Predicate {
+
+    /**
+     * 当前时间窗口
+     */
+    private volatile Window window = new Window(0, 0, false);
+
+    @Override
+    public int getOrder() {
+        return CHEAPEST;
+    }
+
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        var now = CachedClock.currentTimeMillis();
+        var current = this.window;
+        if (now < current.begin() || now >= current.end()) {
+            current = this.window = this.compute(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()));
+        }
+        return current.matched();
+    }
+
+    /**
+     * 计算包含指定时间的时间窗口
+     *
+     * @param now 当前时间
+     * @return 时间窗口，窗口内断言结果保持不变
+     */
+    protected abstract @Nonnull Window compute(@Nonnull ZonedDateTime now);
+
+    /**
+     * 时间窗口
+     *
+     * @param begin   开始时间（包含，ms）
+     * @param end     结束时间（不包含，ms）
+     * @param matched 窗口内的断言结果
+     */
+    protected record Window(long begin, long end, boolean matched) {
+        public static Window of(ZonedDateTime begin, ZonedDateTime end, boolean matched) {
+            return new Window(begin.toInstant().toEpochMilli(), end.toInstant().toEpochMilli(), matched);
+        }
+    }
+}
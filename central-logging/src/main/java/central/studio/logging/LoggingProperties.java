@@ -24,9 +24,12 @@
 
 package central.studio.logging;
 
+import central.studio.logging.core.pipeline.OverflowPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * 日志中心配置
  *
@@ -36,4 +39,45 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Data
 @ConfigurationProperties("studio.logging")
 public class LoggingProperties {
+    /**
+     * 日志采集
+     */
+    private Collect collect = new Collect();
+
+    @Data
+    public static class Collect {
+        /**
+         * 每批交给采集器处理的日志数量
+         */
+        private int batchSize = 1000;
+    }
+
+    /**
+     * 存储队列
+     */
+    private Pipeline pipeline = new Pipeline();
+
+    @Data
+    public static class Pipeline {
+        /**
+         * 每个存储器的队列容量（日志条数）
+         */
+        private int capacity = 10000;
+        /**
+         * 队列满时的处理策略
+         */
+        private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+        /**
+         * 阻塞策略下的最长等待时间，超时后拒绝
+         */
+        private Duration blockTimeout = Duration.ofSeconds(5);
+        /**
+         * 每批交给存储器保存的日志数量
+         */
+        private int batchSize = 1000;
+        /**
+         * 销毁存储器时，等待队列中的日志存储完毕的最长时间
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
 }
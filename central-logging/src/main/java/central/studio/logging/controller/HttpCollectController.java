@@ -24,18 +24,21 @@
 
 package central.studio.logging.controller;
 
-import central.io.IOStreamx;
 import central.lang.Stringx;
-import central.lang.reflect.TypeRef;
-import central.studio.logging.controller.param.LogParams;
+import central.studio.logging.LoggingProperties;
 import central.studio.logging.core.collector.impl.http.HttpEvent;
-import central.util.Jsonx;
+import central.studio.logging.core.collector.impl.http.HttpLogReader;
+import central.studio.logging.core.pipeline.IngestRejectedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -43,10 +46,11 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.Map;
-import java.util.zip.DeflaterInputStream;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * HTTP 日志收集入口
@@ -56,53 +60,69 @@ import java.util.zip.GZIPInputStream;
  */
 @RestController
 @RequestMapping("/logging/api/collect/http")
-public class HttpCollectController {
+public class HttpCollectController implements InitializingBean {
 
     @Setter(onMethod_ = @Autowired)
     private ApplicationEventPublisher publisher;
 
+    @Setter(onMethod_ = @Autowired)
+    private ObjectMapper mapper;
+
+    @Setter(onMethod_ = @Autowired)
+    private LoggingProperties properties;
+
+    private HttpLogReader reader;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.reader = new HttpLogReader(this.mapper, this.properties.getCollect().getBatchSize());
+    }
+
     /**
      * 收集日志
+     * <p>
+     * 请求体是日志数组，边读边解析，每凑满一批就交给采集器处理。
+     * 日志进入存储队列后立即返回 202，如果队列已满则返回 429，请求体格式错误则返回 400。
+     * <p>
+     * 由于是边读边处理，出错时前面的批次可能已经被接收。出错时响应体中的 accepted 表示已接收的日志数量
+     * （总是请求体中最前面的若干条日志），客户端重试时应跳过这些日志，避免重复保存
      *
      * @param path Http 日志入口
      */
     @PostMapping("/{path}")
-    public Map<String, String> collect(@PathVariable String path,
-                                       HttpServletRequest request) throws IOException {
-        String body;
+    public ResponseEntity<Map<String, Object>> collect(@PathVariable String path,
+                                                       HttpServletRequest request) throws IOException {
+        var accepted = new AtomicLong();
+        try (var stream = this.decode(request)) {
+            this.reader.read(stream, logs -> {
+                this.publisher.publishEvent(new HttpEvent(path, logs));
+                accepted.addAndGet(logs.size());
+            });
+        } catch (IngestRejectedException ex) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of("message", ex.getLocalizedMessage(), "accepted", accepted.get()));
+        } catch (IllegalArgumentException | JsonProcessingException ex) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Invalid log body: " + ex.getLocalizedMessage(), "accepted", accepted.get()));
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("message", "success", "accepted", accepted.get()));
+    }
 
+    /**
+     * 根据 Content-Encoding 解压请求体
+     */
+    private InputStream decode(HttpServletRequest request) throws IOException {
         var contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
-        if (Stringx.isNullOrBlank(contentEncoding)) {
+        if (Stringx.isNullOrBlank(contentEncoding) || "identity".equalsIgnoreCase(contentEncoding)) {
             // 没有压缩
-            try (var stream = request.getInputStream()) {
-                body = IOStreamx.readText(stream, StandardCharsets.UTF_8);
-            }
+            return request.getInputStream();
         } else if ("gzip".equalsIgnoreCase(contentEncoding)) {
             // Gzip 压缩
-            try (var stream = new GZIPInputStream(request.getInputStream())) {
-                body = IOStreamx.readText(stream, StandardCharsets.UTF_8);
-            }
+            return new GZIPInputStream(request.getInputStream());
         } else if ("deflate".equalsIgnoreCase(contentEncoding)) {
-            try (var stream = new DeflaterInputStream(request.getInputStream())) {
-                body = IOStreamx.readText(stream, StandardCharsets.UTF_8);
-            }
+            // Deflate 压缩
+            return new InflaterInputStream(request.getInputStream());
         } else {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Stringx.format("Unsupported content-encoding '{}'", contentEncoding));
         }
-
-        if (Stringx.isNullOrEmpty(body)) {
-            // 没有请求体
-            return Map.of("message", "success");
-        }
-
-        var params = Jsonx.Default().deserialize(body, TypeRef.ofList(LogParams.class));
-        if (params.isEmpty()) {
-            return Map.of("message", "success");
-        }
-
-        // 异步处理日志
-        this.publisher.publishEvent(new HttpEvent(path, params.stream().map(LogParams::toData).toList()));
-
-        return Map.of("message", "success");
     }
 }
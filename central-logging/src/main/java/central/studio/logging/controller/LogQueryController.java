@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.controller;
+
+import central.provider.scheduled.DataContext;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.provider.scheduled.fetcher.saas.SaasContainer;
+import central.studio.logging.controller.query.SearchQuery;
+import central.studio.logging.core.LoggingContainer;
+import central.studio.logging.core.storage.search.LogPage;
+import central.web.XForwardedHeaders;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 日志查询
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@RestController
+@RequestMapping("/logging/api/query")
+public class LogQueryController {
+
+    @Setter(onMethod_ = @Autowired)
+    private LoggingContainer container;
+
+    @Setter(onMethod_ = @Autowired)
+    private DataContext context;
+
+    /**
+     * 校验查询凭证
+     * <p>
+     * 凭证需要使用应用的密钥签名，并且必须设置不超过 30 分钟的有效期。
+     * 应用必须已在当前租户下启用，通过校验后只能查询该应用的日志
+     *
+     * @param token       访问凭证
+     * @param tenant      租户标识
+     * @param application 应用标识
+     */
+    private void validate(String token, String tenant, String application) {
+        SaasContainer saas = this.context.getData(DataFetcherType.SAAS);
+        if (saas == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "应用数据尚未加载，请稍后再试");
+        }
+
+        var app = saas.getApplicationByCode(application);
+        if (app == null || !Boolean.TRUE.equals(app.getEnabled())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "应用[" + application + "]不存在或已禁用");
+        }
+        var owner = saas.getTenantByCode(tenant);
+        if (owner == null || owner.getApplications() == null || owner.getApplications().stream()
+                .noneMatch(it -> Objects.equals(app.getId(), it.getApplicationId()) && Boolean.TRUE.equals(it.getEnabled()))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "应用[" + application + "]未在租户[" + tenant + "]下启用");
+        }
+
+        DecodedJWT jwt;
+        try {
+            jwt = JWT.require(Algorithm.HMAC256(app.getSecret())).build().verify(token);
+        } catch (AlgorithmMismatchException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: 签名算法不匹配");
+        } catch (SignatureVerificationException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: 签名不匹配");
+        } catch (TokenExpiredException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: 已过期");
+        } catch (Exception ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: " + ex.getLocalizedMessage());
+        }
+
+        // 日志中可能包含敏感信息，凭证必须设置有效期
+        var expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: 必须设置有效期");
+        }
+        if (expiresAt.getTime() > System.currentTimeMillis() + Duration.ofMinutes(30).toMillis()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "访问凭证[token]无效: 有效期过长");
+        }
+    }
+
+    /**
+     * 查询日志
+     * <p>
+     * 需要提供使用应用密钥签名的访问凭证，只能查询当前租户下该应用的日志。
+     * 返回的游标不为空时，可以使用该游标查询下一页
+     *
+     * @param query  查询条件
+     * @param tenant 租户标识
+     */
+    @GetMapping
+    public LogPage search(@Validated SearchQuery query,
+                          @RequestHeader(XForwardedHeaders.TENANT) String tenant) throws IOException {
+        this.validate(query.getToken(), tenant, query.getApplication());
+
+        var storage = this.container.findStorage(query.getStorage());
+        if (storage == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "存储器[" + query.getStorage() + "]不存在");
+        }
+        if (!storage.isSearchable()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "存储器[" + query.getStorage() + "]不支持查询");
+        }
+
+        try {
+            return storage.search(query.toSearch(tenant));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getLocalizedMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.controller.query;
+
+import central.studio.logging.core.storage.search.LogSearch;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 日志查询
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchQuery implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2750232329932806370L;
+
+    @Label("存储器标识")
+    @NotBlank
+    @Size(min = 1, max = 32)
+    private String storage;
+
+    @Label("开始时间")
+    private Long from;
+
+    @Label("结束时间")
+    private Long to;
+
+    @Label("应用标识")
+    @NotBlank
+    @Size(min = 1, max = 32)
+    private String application;
+
+    @Label("等级")
+    @Size(max = 32)
+    private String level;
+
+    @Label("类型")
+    @Size(max = 32)
+    private String type;
+
+    @Label("跟踪标识")
+    @Size(max = 128)
+    private String traceId;
+
+    @Label("关键字")
+    @Size(max = 256)
+    private String keyword;
+
+    @Label("游标")
+    @Size(max = 64)
+    private String cursor;
+
+    @Label("访问凭证")
+    @NotBlank
+    @Size(min = 1, max = 4096)
+    private String token;
+
+    @Label("每页数量")
+    @Min(1)
+    @Max(1000)
+    private Integer limit = 100;
+
+    public LogSearch toSearch(String tenant) {
+        return LogSearch.builder()
+                .from(this.getFrom())
+                .to(this.getTo())
+                .tenantCode(tenant)
+                .applicationCode(this.getApplication())
+                .level(this.getLevel())
+                .type(this.getType())
+                .traceId(this.getTraceId())
+                .keyword(this.getKeyword())
+                .cursor(this.getCursor())
+                .limit(this.getLimit())
+                .build();
+    }
+}
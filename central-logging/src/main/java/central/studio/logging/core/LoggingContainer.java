@@ -27,10 +27,13 @@ package central.studio.logging.core;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.log.LogContainer;
+import central.studio.logging.LoggingProperties;
 import central.studio.logging.core.collector.CollectorResolver;
 import central.studio.logging.core.collector.DynamicCollector;
 import central.studio.logging.core.filter.DynamicFilter;
+import central.studio.logging.core.filter.FilterIndex;
 import central.studio.logging.core.filter.predicate.PredicateResolver;
+import central.studio.logging.core.pipeline.IngestMetrics;
 import central.studio.logging.core.storage.DynamicStorage;
 import central.studio.logging.core.storage.StorageResolver;
 import jakarta.annotation.Nonnull;
@@ -46,8 +49,10 @@ import org.springframework.context.event.GenericApplicationListener;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -70,6 +75,9 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
     @Setter(onMethod_ = @Autowired)
     private StorageResolver storageResolver;
 
+    @Setter(onMethod_ = @Autowired)
+    private LoggingProperties properties;
+
     @Setter
     private ApplicationContext applicationContext;
 
@@ -124,6 +132,32 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
      */
     private final Map<String, DynamicStorage> storages = new HashMap<>();
 
+    /**
+     * 根据标识获取存储器
+     */
+    public DynamicStorage findStorage(String code) {
+        return this.storages.values().stream()
+                .filter(it -> Objects.equals(it.getData().getCode(), code))
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * 创建指定采集器的过滤器索引
+     *
+     * @param collectorId 采集器主键
+     */
+    private FilterIndex index(String collectorId) {
+        return new FilterIndex(this.filters.values().stream()
+                .filter(it -> it.getCollectorIds().contains(collectorId))
+                .toList());
+    }
+
+    /**
+     * 获取所有存储器的队列指标
+     */
+    public List<IngestMetrics> getIngestMetrics() {
+        return this.storages.values().stream().map(DynamicStorage::getMetrics).toList();
+    }
 
     @Override
     public boolean supportsEventType(@Nonnull ResolvableType eventType) {
@@ -144,7 +178,7 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
                     var current = this.getCollector(data.getId());
                     if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
                         // 如果当前没有，或者已经过期了，就创建新的采集器
-                        var collector = new DynamicCollector(data, this.collectorResolver, this.applicationContext);
+                        var collector = new DynamicCollector(data, this.collectorResolver, this.applicationContext, this.index(data.getId()));
                         var old = this.collectors.put(data.getId(), collector);
                         if (old != null) {
                             try {
@@ -163,7 +197,7 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
                     var current = this.getStorage(data.getId());
                     if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
                         // 如果当前没有，或者已经过期了，就创建新的存储器
-                        var storage = new DynamicStorage(data, this.storageResolver);
+                        var storage = new DynamicStorage(data, this.storageResolver, this.properties.getPipeline());
                         var old = this.storages.put(data.getId(), storage);
                         if (old != null) {
                             try {
@@ -178,6 +212,7 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
 
             {
                 // 初始化过滤器
+                var olds = new ArrayList<DynamicFilter>();
                 for (var data : container.getFilters()) {
                     var current = this.getFilter(data.getId());
                     if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
@@ -185,14 +220,23 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
                         var filter = new DynamicFilter(data, this, this.predicateResolver);
                         var old = this.filters.put(data.getId(), filter);
                         if (old != null) {
-                            try {
-                                old.destroy();
-                            } catch (Exception ex) {
-                                log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                            }
+                            olds.add(old);
                         }
                     }
                 }
+
+                // 重建采集器的过滤器索引，之后再销毁旧的过滤器，保证采集器不会用到已销毁的过滤器
+                for (var collector : this.collectors.values()) {
+                    collector.setIndex(this.index(collector.getData().getId()));
+                }
+
+                for (var old : olds) {
+                    try {
+                        old.destroy();
+                    } catch (Exception ex) {
+                        log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
+                    }
+                }
             }
         }
     }
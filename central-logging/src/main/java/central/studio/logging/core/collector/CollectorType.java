@@ -27,6 +27,7 @@ package central.studio.logging.core.collector;
 import central.bean.OptionalEnum;
 import central.studio.logging.core.collector.impl.http.HttpCollector;
 import central.studio.logging.core.collector.impl.local.LocalCollector;
+import central.studio.logging.core.collector.impl.rabbit.RabbitCollector;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -41,7 +42,8 @@ import lombok.Getter;
 public enum CollectorType implements OptionalEnum<String> {
 
     HTTP("HTTP 采集器（Http）", "http", HttpCollector.class),
-    LOCAL("本地文件采集器（Local）", "local", LocalCollector.class);
+    LOCAL("本地文件采集器（Local）", "local", LocalCollector.class),
+    RABBIT("RabbitMQ 采集器（Rabbit）", "rabbit", RabbitCollector.class);
 
     private final String name;
     private final String value;
@@ -29,15 +29,15 @@ import central.data.log.LogCollector;
 import central.lang.Assertx;
 import central.lang.Stringx;
 import central.lang.reflect.TypeRef;
-import central.studio.logging.core.filter.Filter;
+import central.studio.logging.core.filter.FilterIndex;
 import central.util.Jsonx;
 import central.util.Listx;
 import central.util.Objectx;
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -57,10 +57,12 @@ public class DynamicCollector extends Collector implements DisposableBean {
 
     private final ApplicationContext applicationContext;
 
-    public DynamicCollector(LogCollector data, CollectorResolver resolver, ApplicationContext applicationContext) {
+    public DynamicCollector(LogCollector data, CollectorResolver resolver, ApplicationContext applicationContext, FilterIndex index) {
         this.data = data;
         this.resolver = resolver;
         this.applicationContext = applicationContext;
+        // 采集器初始化后可能立即开始采集，因此需要先设置索引
+        this.index = index;
 
         try {
             var params = Jsonx.Default().deserialize(this.data.getParams(), TypeRef.ofMap(String.class, Object.class));
@@ -76,21 +78,13 @@ public class DynamicCollector extends Collector implements DisposableBean {
         this.resolver.destroy(this.collector);
     }
 
-    private final List<Filter> filters = new ArrayList<>();
-
     /**
-     * 注册过滤器
+     * 过滤器索引
+     * <p>
+     * 由 LoggingContainer 在过滤器变更后重新创建
      */
-    public void register(Filter filter) {
-        this.filters.add(filter);
-    }
-
-    /**
-     * 撤销注册过滤器
-     */
-    public void deregister(Filter filter) {
-        this.filters.remove(filter);
-    }
+    @Setter
+    private volatile FilterIndex index;
 
     @Override
     public void collect(List<Log> logs) {
@@ -111,9 +105,7 @@ public class DynamicCollector extends Collector implements DisposableBean {
 
         this.applicationContext.publishEvent(new CollectEvent(this.data.getId(), logs));
 
-        // 传递到过滤器
-        for (var filter : this.filters) {
-            filter.filter(logs);
-        }
+        // 通过索引传递到过滤器
+        this.index.dispatch(logs);
     }
 }
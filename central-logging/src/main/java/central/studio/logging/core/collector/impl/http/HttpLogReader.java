@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.http;
+
+import central.data.log.Log;
+import central.studio.logging.controller.param.LogParams;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Http 日志读取器
+ * <p>
+ * 从请求体中逐条解析日志（JSON 数组），每凑满一批就交给消费者处理，
+ * 内存中最多只保留一批日志，不会因为请求体过大而占用大量堆内存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class HttpLogReader {
+
+    private final ObjectMapper mapper;
+
+    private final ObjectReader reader;
+
+    /**
+     * 每批日志数量
+     */
+    @Getter
+    private final int batchSize;
+
+    public HttpLogReader(ObjectMapper mapper, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize 必须大于 0");
+        }
+        this.mapper = mapper;
+        this.reader = mapper.readerFor(LogParams.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 读取日志
+     *
+     * @param stream   请求体
+     * @param consumer 日志消费者，每次最多接收 {@link #batchSize} 条日志
+     * @return 读取到的日志数量
+     * @throws IOException              读取请求体失败
+     * @throws IllegalArgumentException 请求体不是 JSON 数组
+     */
+    public long read(InputStream stream, Consumer<List<Log>> consumer) throws IOException {
+        try (var parser = this.mapper.getFactory().createParser(stream)) {
+            var token = parser.nextToken();
+            if (token == null) {
+                // 空请求体
+                return 0;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("请求体必须是 JSON 数组");
+            }
+
+            long total = 0;
+            var batch = new ArrayList<Log>(this.batchSize);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("请求体不完整");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("日志必须是 JSON 对象");
+                }
+                LogParams params = this.reader.readValue(parser);
+                batch.add(params.toData());
+                total++;
+
+                if (batch.size() >= this.batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(this.batchSize);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            return total;
+        }
+    }
+}
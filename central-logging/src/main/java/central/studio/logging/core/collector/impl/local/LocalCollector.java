@@ -24,40 +24,59 @@
 
 package central.studio.logging.core.collector.impl.local;
 
-import central.io.Filex;
-import central.io.IOStreamx;
-import central.lang.Arrayx;
 import central.lang.Stringx;
-import central.lang.reflect.TypeRef;
 import central.pluglet.annotation.Control;
-import central.studio.logging.controller.param.LogParams;
+import central.pluglet.control.ControlType;
 import central.studio.logging.core.collector.Collector;
-import central.util.Jsonx;
+import central.studio.logging.core.collector.impl.http.HttpLogReader;
 import central.validation.Label;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
-import java.io.File;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 本地日志采集器
+ * <p>
+ * 通过 {@link WatchService} 监听采集目录，新的日志文件（*.logtmp）出现后立即处理；
+ * 文件系统不支持监听时，退化为每秒扫描一次目录。
+ * <p>
+ * 每个文件先通过原子重命名（*.logtmp.collecting）认领，因此多个采集器可以同时处理同一个目录。
+ * 文件内容流式解析，全部交给下游后再删除或归档；交给下游失败时释放认领，等待下次重试。
  *
  * @author Alan Yeh
  * @since 2024/01/21
  */
+@Slf4j
 public class LocalCollector extends Collector implements InitializingBean, DisposableBean, Runnable {
 
     @Setter
@@ -67,115 +86,326 @@ public class LocalCollector extends Collector implements InitializingBean, Dispo
     @Control(label = "采集路径", comment = "待采集的日志存放的路径")
     private String path;
 
-    private ExecutorService executor;
+    @Setter
+    @Label("并发数")
+    @Min(1)
+    @Max(16)
+    @Control(label = "并发数", type = ControlType.NUMBER, required = false, defaultValue = "4", comment = "同时处理的日志文件数量")
+    private Integer parallelism;
+
+    @Setter
+    @Label("归档路径")
+    @Size(max = 255)
+    @Control(label = "归档路径", required = false, comment = "处理完毕的日志文件移动到该目录。为空时直接删除")
+    private String archive;
+
+    /**
+     * 待采集的日志文件后缀
+     */
+    private static final String SUFFIX = ".logtmp";
+
+    /**
+     * 已被认领的日志文件后缀
+     */
+    private static final String CLAIMED = ".collecting";
+
+    /**
+     * 文件最后修改后需要静默的时间，避免读取到还没写完的文件
+     */
+    private static final Duration SETTLE = Duration.ofMillis(100);
+
+    /**
+     * 认领超时时间。超过这个时间还没处理完的文件，认为其采集器已经退出，重新放回目录
+     */
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+
+    /**
+     * 交给下游失败后，重试的间隔
+     */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * 监听模式下兜底扫描目录的间隔
+     */
+    private static final Duration RESCAN_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * 轮询模式下扫描目录的间隔
+     */
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
 
-    private File dir;
+    private Path dir;
+
+    private Path archiveDir;
+
+    private HttpLogReader reader;
+
+    private Thread watcher;
+
+    private volatile WatchService watchService;
+
+    private volatile boolean running;
+
+    /**
+     * 处理日志文件的线程池，线程数即并发数
+     */
+    private ScheduledThreadPoolExecutor workers;
+
+    /**
+     * 已提交但还没处理完的文件，避免重复提交
+     */
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        this.dir = new File(this.path);
-        this.executor = Executors.newCachedThreadPool(new CustomizableThreadFactory("central.logging.collector.local"));
-        this.executor.submit(this);
+        this.dir = Path.of(this.path).toAbsolutePath();
+        if (Stringx.isNotBlank(this.archive)) {
+            this.archiveDir = Path.of(this.archive).toAbsolutePath();
+            Files.createDirectories(this.archiveDir);
+        }
+
+        var mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.reader = new HttpLogReader(mapper, 1000);
+
+        this.workers = new ScheduledThreadPoolExecutor(Objects.requireNonNullElse(this.parallelism, 4), new CustomizableThreadFactory("central.logging.collector.local@" + this.hashCode() + "-"));
+        this.workers.setRemoveOnCancelPolicy(true);
+
+        this.running = true;
+        this.watcher = new CustomizableThreadFactory("central.logging.collector.local.watcher-").newThread(this);
+        this.watcher.start();
     }
 
     @Override
     public void destroy() throws Exception {
-        if (!this.executor.isShutdown()) {
-            this.executor.shutdown();
-            if (!this.executor.awaitTermination(30, java.util.concurrent.TimeUnit.SECONDS)) {
+        this.running = false;
+        this.closeWatchService();
+        if (this.watcher != null) {
+            this.watcher.interrupt();
+            this.watcher.join(Duration.ofSeconds(5).toMillis());
+        }
+        if (this.workers != null && !this.workers.isShutdown()) {
+            // 放弃还在等待静默的文件，下次启动时再处理
+            this.workers.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            this.workers.shutdown();
+            if (!this.workers.awaitTermination(30, TimeUnit.SECONDS)) {
                 // 30 秒后线程池还没能结束，则强制结束
-                this.executor.shutdownNow();
+                this.workers.shutdownNow();
             }
         }
     }
 
     @Override
     public void run() {
-        try {
-            while (true) {
-                // 每隔 1 秒查询是否有新的日志
-                Thread.sleep(Duration.ofSeconds(1).toMillis());
-
-                try {
-                    // 查询指定目录是否存在
-                    if (!this.dir.exists()) {
-                        continue;
-                    }
+        long lastScan = 0;
+        while (this.running) {
+            try {
+                if (this.watchService == null) {
+                    this.register();
+                }
 
-                    // 有可能多个线程去处理遗留的日志时，可能会导致冲突
-                    // 这里使用文件作为锁
-                    var lock = new File(this.dir, ".lock");
-
-                    if (lock.exists()) {
-                        // 锁已经存在，则检查锁的时间
-                        var dateStr = IOStreamx.readText(Files.newInputStream(lock.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8);
-                        if (Stringx.isNullOrBlank(dateStr)) {
-                            // 锁里面没有内容
-                            Filex.delete(lock);
-                        } else {
-                            try {
-                                // 如果文件锁存在，检查一下锁的创建时间
-                                var date = OffsetDateTime.parse(dateStr, DateTimeFormatter.ISO_DATE_TIME);
-                                var now = OffsetDateTime.now();
-
-                                if (date.plusMinutes(10).isBefore(now)) {
-                                    // 锁创建时间超过 10 分钟了，删除该锁
-                                    Filex.delete(lock);
-                                }
-                                if (date.isAfter(now)) {
-                                    // 这个创建时间比当前时间还晚，说明锁无效
-                                    Filex.delete(lock);
-                                }
-                            } catch (IOException ignored) {
-                                // 解析日志异常
-                                Filex.delete(lock);
-                            }
-                        }
-                    }
+                var now = System.currentTimeMillis();
+                var interval = this.watchService == null ? POLL_INTERVAL : RESCAN_INTERVAL;
+                if (now - lastScan >= interval.toMillis()) {
+                    // 启动时、轮询模式、以及监听模式下的兜底扫描
+                    this.scan();
+                    lastScan = now;
+                }
 
-                    if (lock.exists()) {
-                        // 锁已经存在了，则其它线程正在处理，因此跳过
-                        continue;
-                    }
+                var watchService = this.watchService;
+                if (watchService == null) {
+                    Thread.sleep(POLL_INTERVAL.toMillis());
+                    continue;
+                }
 
-                    // 判断是否持有文件锁
-                    boolean obtained = false;
-
-                    try {
-                        obtained = lock.createNewFile();
-                        if (obtained) {
-                            Filex.writeText(lock, OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
-
-                            var tmps = Arrayx.asStream(this.dir.listFiles()).filter(it -> it.getName().endsWith(".logtmp")).toList();
-
-                            for (var tmp : tmps) {
-                                if (tmp.length() > 0) {
-                                    // 文件有内容才发送
-                                    try {
-                                        var body = IOStreamx.readText(Files.newInputStream(tmp.toPath(), StandardOpenOption.READ), StandardCharsets.UTF_8);
-                                        var params = Jsonx.Default().deserialize(body, TypeRef.ofList(LogParams.class));
-                                        if (!params.isEmpty()) {
-                                            this.collect(params.stream().map(LogParams::toData).toList());
-                                        }
-                                    } catch (Exception ignored) {
-                                    }
-                                }
-                                Filex.delete(tmp);
-                                // 稍微卡一下再继续读取
-                                Thread.sleep(100);
-                            }
-                        }
-                    } finally {
-                        if (obtained) {
-                            Filex.delete(lock);
-                        }
+                var key = watchService.poll(RESCAN_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    continue;
+                }
+                for (var event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 事件太多丢失了，扫描一次目录
+                        lastScan = 0;
+                    } else if (event.context() instanceof Path name && name.toString().endsWith(SUFFIX)) {
+                        this.submit(this.dir.resolve(name), 0);
                     }
-                } catch (Throwable ignored) {
-                    // 忽略异常
                 }
+                if (!key.reset()) {
+                    // 目录被删除了，重新注册
+                    this.closeWatchService();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                if (!this.running) {
+                    break;
+                }
+            } catch (Throwable throwable) {
+                log.warn("采集本地日志目录[{}]出现异常: {}", this.dir, throwable.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * 监听采集目录
+     * <p>
+     * 目录不存在或文件系统不支持监听时，保持轮询模式
+     */
+    private void register() {
+        if (!Files.isDirectory(this.dir)) {
+            return;
+        }
+        try {
+            var watchService = this.dir.getFileSystem().newWatchService();
+            this.dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            this.watchService = watchService;
+        } catch (IOException | UnsupportedOperationException ex) {
+            log.debug("无法监听本地日志目录[{}]，使用轮询模式: {}", this.dir, ex.getLocalizedMessage());
+        }
+    }
+
+    private void closeWatchService() {
+        var watchService = this.watchService;
+        this.watchService = null;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 扫描目录，提交待采集的文件，并回收超时的认领
+     */
+    void scan() throws IOException {
+        if (!Files.isDirectory(this.dir)) {
+            return;
+        }
+        try (var files = Files.list(this.dir)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                var name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    this.submit(file, 0);
+                } else if (name.endsWith(SUFFIX + CLAIMED)) {
+                    this.reclaim(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * 其它采集器认领后没有处理完（如进程退出）的文件，放回目录重新采集
+     */
+    private void reclaim(Path claimed) {
+        try {
+            var modified = Files.getLastModifiedTime(claimed).toMillis();
+            if (modified + CLAIM_TIMEOUT.toMillis() < System.currentTimeMillis()) {
+                var name = claimed.getFileName().toString();
+                Files.move(claimed, claimed.resolveSibling(name.substring(0, name.length() - CLAIMED.length())), StandardCopyOption.ATOMIC_MOVE);
             }
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 已被其它采集器回收
+        }
+    }
+
+    /**
+     * 提交文件
+     */
+    private void submit(Path file, long delay) {
+        if (this.pending.add(file)) {
+            this.workers.schedule(() -> this.process(file), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 处理文件
+     */
+    private void process(Path file) {
+        boolean rescheduled = false;
+        try {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (NoSuchFileException ex) {
+                // 已被其它采集器处理
+                return;
+            }
+
+            // 文件刚刚被修改过，可能还没写完，等静默后再处理
+            var quiet = System.currentTimeMillis() - attributes.lastModifiedTime().toMillis();
+            if (quiet < SETTLE.toMillis()) {
+                this.pending.remove(file);
+                rescheduled = true;
+                this.submit(file, SETTLE.toMillis() - quiet);
+                return;
+            }
+
+            // 认领文件
+            var claimed = file.resolveSibling(file.getFileName() + CLAIMED);
+            try {
+                Files.move(file, claimed, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException | FileAlreadyExistsException ex) {
+                return;
+            }
+            // 重命名不会更新修改时间，记录认领时间，避免积压的旧文件被当作超时的认领放回目录
+            this.touch(claimed);
+
+            var touched = new AtomicLong(System.currentTimeMillis());
+            try (var stream = new BufferedInputStream(Files.newInputStream(claimed), 64 * 1024)) {
+                this.reader.read(stream, logs -> {
+                    this.collect(logs);
+                    // 处理大文件时定期更新认领时间
+                    if (System.currentTimeMillis() - touched.get() > CLAIM_TIMEOUT.toMillis() / 2) {
+                        this.touch(claimed);
+                        touched.set(System.currentTimeMillis());
+                    }
+                });
+            } catch (IllegalArgumentException | JsonProcessingException ex) {
+                // 文件内容无效，不再重试
+                log.warn("丢弃无法解析的日志文件[{}]: {}", file, ex.getLocalizedMessage());
+            } catch (IOException | RuntimeException ex) {
+                // 读取失败或下游拒绝，释放认领，稍后重试
+                // 重试时已经交给下游的日志会被重复采集
+                log.warn("采集日志文件[{}]失败，稍后重试: {}", file, ex.getLocalizedMessage());
+                Files.move(claimed, file, StandardCopyOption.ATOMIC_MOVE);
+                rescheduled = true;
+                this.workers.schedule(() -> this.process(file), RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            this.complete(claimed, file.getFileName().toString());
+        } catch (Throwable throwable) {
+            log.warn("采集日志文件[{}]出现异常: {}", file, throwable.getLocalizedMessage());
+        } finally {
+            if (!rescheduled) {
+                this.pending.remove(file);
+            }
+        }
+    }
+
+    /**
+     * 将已认领文件的修改时间更新为当前时间
+     */
+    private void touch(Path claimed) {
+        try {
+            Files.setLastModifiedTime(claimed, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            log.warn("更新日志文件[{}]的认领时间失败: {}", claimed, ex.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 归档或删除已处理的文件
+     */
+    private void complete(Path claimed, String name) throws IOException {
+        if (this.archiveDir == null) {
+            Files.deleteIfExists(claimed);
+            return;
+        }
+        var target = this.archiveDir.resolve(name);
+        try {
+            Files.move(claimed, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            // 归档目录与采集目录不在同一个文件系统
+            Files.move(claimed, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 }
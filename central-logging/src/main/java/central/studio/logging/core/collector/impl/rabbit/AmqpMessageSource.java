@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.rabbit;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * RabbitMQ 消息源
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class AmqpMessageSource implements MessageSource {
+
+    private final Connection connection;
+
+    public AmqpMessageSource(String host, int port, String virtualHost, String username, String password) throws IOException {
+        var factory = new ConnectionFactory();
+        factory.setHost(host);
+        factory.setPort(port);
+        factory.setVirtualHost(virtualHost);
+        factory.setUsername(username);
+        factory.setPassword(password);
+        // 断线后自动重连并恢复订阅
+        factory.setAutomaticRecoveryEnabled(true);
+        try {
+            this.connection = factory.newConnection("central-logging");
+        } catch (TimeoutException ex) {
+            throw new IOException("连接 RabbitMQ 超时", ex);
+        }
+    }
+
+    @Override
+    public void subscribe(String queue, int prefetch, MessageConsumer consumer) throws IOException {
+        var channel = this.connection.createChannel();
+        channel.queueDeclare(queue, true, false, false, null);
+        channel.basicQos(prefetch);
+
+        var adapter = new ChannelAdapter(channel);
+        channel.basicConsume(queue, false,
+                (tag, delivery) -> consumer.accept(new RabbitEvent(adapter, delivery.getEnvelope().getDeliveryTag(), delivery.getBody())),
+                tag -> {
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.connection.isOpen()) {
+            this.connection.close();
+        }
+    }
+
+    private record ChannelAdapter(Channel channel) implements MessageChannel {
+        @Override
+        public void ack(long deliveryTag, boolean multiple) throws IOException {
+            this.channel.basicAck(deliveryTag, multiple);
+        }
+
+        @Override
+        public void nack(long deliveryTag, boolean multiple, boolean requeue) throws IOException {
+            this.channel.basicNack(deliveryTag, multiple, requeue);
+        }
+    }
+}
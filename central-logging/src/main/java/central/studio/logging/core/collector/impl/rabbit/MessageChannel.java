@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.rabbit;
+
+import java.io.IOException;
+
+/**
+ * 消息通道
+ * <p>
+ * 一个消费者对应一个通道，消息确认只能在接收该消息的通道上进行
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public interface MessageChannel {
+
+    /**
+     * 确认消息
+     *
+     * @param deliveryTag 投递标识
+     * @param multiple    是否同时确认该标识之前的所有未确认消息
+     */
+    void ack(long deliveryTag, boolean multiple) throws IOException;
+
+    /**
+     * 拒绝消息
+     *
+     * @param deliveryTag 投递标识
+     * @param multiple    是否同时拒绝该标识之前的所有未确认消息
+     * @param requeue     是否重新入队。不重新入队的消息会被丢弃或进入死信队列
+     */
+    void nack(long deliveryTag, boolean multiple, boolean requeue) throws IOException;
+}
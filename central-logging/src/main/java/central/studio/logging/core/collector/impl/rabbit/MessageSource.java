@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.rabbit;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 消息源
+ * <p>
+ * 屏蔽具体的消息中间件，RabbitCollector 只依赖本接口，测试时可以使用进程内的实现代替消息中间件
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ * @see AmqpMessageSource
+ */
+public interface MessageSource extends Closeable {
+
+    /**
+     * 订阅队列
+     * <p>
+     * 每次订阅都会创建一个独立的通道
+     *
+     * @param queue    队列名
+     * @param prefetch 通道上未确认消息数量的上限
+     * @param consumer 消息消费者
+     */
+    void subscribe(String queue, int prefetch, MessageConsumer consumer) throws IOException;
+}
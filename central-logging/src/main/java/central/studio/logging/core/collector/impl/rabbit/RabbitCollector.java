@@ -24,9 +24,260 @@
 
 package central.studio.logging.core.collector.impl.rabbit;
 
+import central.data.log.Log;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.studio.logging.core.collector.Collector;
+import central.studio.logging.core.collector.impl.http.HttpLogReader;
+import central.validation.Label;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
+ * RabbitMQ 日志采集器
+ * <p>
+ * 每个消费者独占一个通道，通过 prefetch 控制未确认消息的数量。消费者把收到的消息攒成一批，
+ * 批次满了（消息数达到 prefetch 或日志数达到批量大小）或等待超时后交给下游，
+ * 下游接收成功后一次性确认整批消息（multiple ack），失败则整批重新入队。
+ *
  * @author Alan Yeh
  * @since 2024/01/21
  */
-public class RabbitCollector {
+@Slf4j
+public class RabbitCollector extends Collector implements InitializingBean, DisposableBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, defaultValue = """
+            本采集器会从 RabbitMQ 队列中消费日志。每条消息的消息体是日志的 JSON 数组，格式与 HTTP 采集器相同。""")
+    private String label;
+
+    @Setter
+    @Label("主机")
+    @NotBlank
+    @Control(label = "主机", defaultValue = "127.0.0.1", comment = "RabbitMQ 主机地址")
+    private String host;
+
+    @Setter
+    @Label("端口")
+    @NotNull
+    @Min(1)
+    @Max(65535)
+    @Control(label = "端口", type = ControlType.NUMBER, defaultValue = "5672")
+    private Integer port;
+
+    @Setter
+    @Label("虚拟主机")
+    @NotBlank
+    @Control(label = "虚拟主机", defaultValue = "/")
+    private String virtualHost;
+
+    @Setter
+    @Label("用户名")
+    @NotBlank
+    @Control(label = "用户名", defaultValue = "guest")
+    private String username;
+
+    @Setter
+    @Label("密码")
+    @NotBlank
+    @Control(label = "密码", type = ControlType.PASSWORD, defaultValue = "guest")
+    private String password;
+
+    @Setter
+    @Label("队列")
+    @NotBlank
+    @Size(min = 1, max = 255)
+    @Control(label = "队列", defaultValue = "central.logging", comment = "日志队列名，不存在时自动创建（持久化队列）")
+    private String queue;
+
+    @Setter
+    @Label("预取数量")
+    @NotNull
+    @Min(1)
+    @Max(5000)
+    @Control(label = "预取数量", type = ControlType.NUMBER, defaultValue = "250", comment = "每个消费者未确认消息的上限，也是每批最多确认的消息数量")
+    private Integer prefetch;
+
+    @Setter
+    @Label("消费者数量")
+    @NotNull
+    @Min(1)
+    @Max(32)
+    @Control(label = "消费者数量", type = ControlType.NUMBER, defaultValue = "2", comment = "并发消费的通道数量")
+    private Integer concurrency;
+
+    @Setter
+    @Label("批量大小")
+    @NotNull
+    @Min(1)
+    @Max(10000)
+    @Control(label = "批量大小", type = ControlType.NUMBER, defaultValue = "1000", comment = "每批交给存储器的日志数量上限")
+    private Integer batchSize;
+
+    /**
+     * 消息源
+     * <p>
+     * 未设置时根据配置连接 RabbitMQ
+     */
+    @Setter
+    private MessageSource source;
+
+    /**
+     * 批次最长等待时间
+     */
+    private static final Duration LINGER = Duration.ofMillis(200);
+
+    private HttpLogReader reader;
+
+    private ScheduledExecutorService timer;
+
+    private final List<Batcher> batchers = new ArrayList<>();
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.reader = new HttpLogReader(mapper, this.batchSize);
+
+        if (this.source == null) {
+            this.source = new AmqpMessageSource(this.host, this.port, this.virtualHost, this.username, this.password);
+        }
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.logging.collector.rabbit@" + this.hashCode() + "-"));
+        for (int i = 0; i < this.concurrency; i++) {
+            var batcher = new Batcher();
+            this.batchers.add(batcher);
+            this.source.subscribe(this.queue, this.prefetch, batcher);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        try {
+            // 先停止消费，未确认的消息由消息中间件重新投递
+            this.source.close();
+        } finally {
+            if (this.timer != null) {
+                this.timer.shutdownNow();
+            }
+            for (var batcher : this.batchers) {
+                batcher.discard();
+            }
+            this.batchers.clear();
+        }
+    }
+
+    /**
+     * 每个通道一个批次
+     */
+    private final class Batcher implements MessageConsumer {
+
+        private List<Log> logs = new ArrayList<>();
+
+        private int messages;
+
+        private RabbitEvent last;
+
+        private ScheduledFuture<?> linger;
+
+        @Override
+        public synchronized void accept(RabbitEvent event) {
+            var parsed = new ArrayList<Log>();
+            try {
+                reader.read(new ByteArrayInputStream(event.getBody()), parsed::addAll);
+            } catch (IllegalArgumentException | JsonProcessingException ex) {
+                // 无效消息不再重试，丢弃或进入死信队列
+                log.warn("丢弃无法解析的日志消息: {}", ex.getLocalizedMessage());
+                this.nack(event, false, false);
+                return;
+            } catch (IOException ex) {
+                this.nack(event, false, true);
+                return;
+            }
+
+            this.logs.addAll(parsed);
+            this.messages++;
+            this.last = event;
+
+            if (this.messages >= prefetch || this.logs.size() >= batchSize) {
+                // 消息数达到 prefetch 后消息中间件不会再投递，必须立即处理
+                this.flush();
+            } else if (this.linger == null) {
+                this.linger = timer.schedule(this::flush, LINGER.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * 将批次交给下游，并确认（或拒绝）批次中的所有消息
+         */
+        public synchronized void flush() {
+            if (this.linger != null) {
+                this.linger.cancel(false);
+                this.linger = null;
+            }
+            if (this.last == null) {
+                return;
+            }
+
+            var logs = this.logs;
+            var last = this.last;
+            this.logs = new ArrayList<>();
+            this.messages = 0;
+            this.last = null;
+
+            try {
+                if (!logs.isEmpty()) {
+                    collect(logs);
+                }
+            } catch (RuntimeException ex) {
+                // 下游拒绝（如写入队列已满），整批重新入队
+                log.warn("日志交给存储器失败，消息将重新投递: {}", ex.getLocalizedMessage());
+                this.nack(last, true, true);
+                return;
+            }
+
+            try {
+                last.getChannel().ack(last.getDeliveryTag(), true);
+            } catch (IOException ex) {
+                // 通道已断开，消息会被重新投递
+                log.warn("确认日志消息失败: {}", ex.getLocalizedMessage());
+            }
+        }
+
+        /**
+         * 丢弃未交给下游的日志，对应的消息由消息中间件重新投递
+         */
+        public synchronized void discard() {
+            this.logs = new ArrayList<>();
+            this.messages = 0;
+            this.last = null;
+        }
+
+        private void nack(RabbitEvent event, boolean multiple, boolean requeue) {
+            try {
+                event.getChannel().nack(event.getDeliveryTag(), multiple, requeue);
+            } catch (IOException ex) {
+                log.warn("拒绝日志消息失败: {}", ex.getLocalizedMessage());
+            }
+        }
+    }
 }
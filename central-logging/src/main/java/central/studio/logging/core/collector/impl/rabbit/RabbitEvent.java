@@ -24,9 +24,28 @@
 
 package central.studio.logging.core.collector.impl.rabbit;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
 /**
+ * 消息投递
+ *
  * @author Alan Yeh
  * @since 2024/01/21
  */
+@Getter
+@RequiredArgsConstructor
 public class RabbitEvent {
+    /**
+     * 接收该消息的通道
+     */
+    private final MessageChannel channel;
+    /**
+     * 投递标识，在通道内单调递增
+     */
+    private final long deliveryTag;
+    /**
+     * 消息体（日志 JSON 数组）
+     */
+    private final byte[] body;
 }
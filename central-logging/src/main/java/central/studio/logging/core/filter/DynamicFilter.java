@@ -30,14 +30,20 @@ import central.data.log.LogFilter;
 import central.data.log.LogStorage;
 import central.studio.logging.core.LoggingContainer;
 import central.studio.logging.core.filter.predicate.DynamicPredicate;
+import central.studio.logging.core.filter.predicate.LogField;
+import central.studio.logging.core.filter.predicate.Predicate;
 import central.studio.logging.core.filter.predicate.PredicateResolver;
+import central.studio.logging.core.storage.DynamicStorage;
 import central.util.Listx;
 import lombok.Getter;
 import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -59,6 +65,7 @@ public class DynamicFilter implements Filter, DisposableBean {
      * <p>
      * 集合里的采集器会将日志传输到本过滤器进行过滤
      */
+    @Getter
     private final Set<String> collectorIds = new HashSet<>();
 
     /**
@@ -70,6 +77,19 @@ public class DynamicFilter implements Filter, DisposableBean {
 
     private final List<DynamicPredicate> predicates = new ArrayList<>();
 
+    /**
+     * 编译后的断言
+     * 字段 -> 允许的取值
+     */
+    private final Map<LogField, Set<String>> conditions = new EnumMap<>(LogField.class);
+
+    private final LogField[] fields;
+
+    /**
+     * 无法编译的断言
+     */
+    private final Predicate[] residuals;
+
     public DynamicFilter(LogFilter data, LoggingContainer container, PredicateResolver resolver) {
         this.data = data;
         this.container = container;
@@ -79,14 +99,62 @@ public class DynamicFilter implements Filter, DisposableBean {
         this.storageIds.addAll(data.getStorages().stream().map(LogStorage::getId).toList());
 
         for (var predicate : this.data.getPredicates()) {
-            this.predicates.add(new DynamicPredicate(predicate, this.resolver));
+            var dynamic = new DynamicPredicate(predicate, this.resolver);
+            // 汇总日志（如采样丢弃的数量）直接交给存储器
+            dynamic.setReporter(this::store);
+            this.predicates.add(dynamic);
         }
 
-        // 添加与采集器的关联
-        for (var collectorId : this.collectorIds) {
-            var collector = this.container.getCollector(collectorId);
-            collector.register(this);
+        // 编译断言。同一字段的多个断言取交集
+        var residuals = new ArrayList<Predicate>();
+        for (var predicate : this.predicates) {
+            var condition = predicate.compile();
+            if (condition == null) {
+                residuals.add(predicate);
+                continue;
+            }
+            var values = this.conditions.get(condition.field());
+            if (values == null) {
+                this.conditions.put(condition.field(), new HashSet<>(condition.values()));
+            } else {
+                values.retainAll(condition.values());
+            }
+        }
+        this.residuals = residuals.toArray(new Predicate[0]);
+        this.fields = this.conditions.keySet().toArray(new LogField[0]);
+    }
+
+    /**
+     * 获取指定字段允许的取值
+     *
+     * @return 该字段不受限制时返回 null
+     */
+    public Set<String> getValues(LogField field) {
+        return this.conditions.get(field);
+    }
+
+    /**
+     * 是否不可能匹配任何日志（同一字段的断言没有交集）
+     */
+    public boolean isUnsatisfiable() {
+        return this.conditions.values().stream().anyMatch(Set::isEmpty);
+    }
+
+    /**
+     * 判断日志是否满足本过滤器的所有断言
+     */
+    public boolean matches(Log log) {
+        for (var field : this.fields) {
+            if (!this.conditions.get(field).contains(field.get(log))) {
+                return false;
+            }
+        }
+        for (var predicate : this.residuals) {
+            if (!predicate.predicate(log)) {
+                return false;
+            }
         }
+        return true;
     }
 
     @Override
@@ -97,26 +165,47 @@ public class DynamicFilter implements Filter, DisposableBean {
         }
 
         // 通过断言过滤日志
-        logs = logs.stream().filter(log -> predicates.stream().allMatch(it -> it.predicate(log))).toList();
+        var matched = new ArrayList<Log>();
+        for (var log : logs) {
+            if (this.matches(log)) {
+                matched.add(log);
+            }
+        }
 
+        this.store(matched);
+    }
+
+    /**
+     * 获取本过滤器的存储器
+     */
+    public List<DynamicStorage> getStorages() {
+        var storages = new ArrayList<DynamicStorage>(this.storageIds.size());
+        for (var storageId : this.storageIds) {
+            var storage = this.container.getStorage(storageId);
+            if (storage != null) {
+                storages.add(storage);
+            }
+        }
+        return storages;
+    }
+
+    /**
+     * 将已经通过断言的日志交给存储器
+     * <p>
+     * 任一存储器的队列已满时，所有存储器都不会入队
+     */
+    public void store(List<Log> logs) {
         if (Listx.isNotEmpty(logs)) {
-            for (var storageId : this.storageIds) {
-                var storage = this.container.getStorage(storageId);
-                if (storage != null) {
-                    storage.store(logs);
-                }
+            var storages = new LinkedHashMap<DynamicStorage, List<Log>>();
+            this.getStorages().forEach(it -> storages.put(it, logs));
+            if (!storages.isEmpty()) {
+                DynamicStorage.store(storages);
             }
         }
     }
 
     @Override
     public void destroy() throws Exception {
-        // 取消与采集器的关联
-        for (var collectorId : this.collectorIds) {
-            var collector = this.container.getCollector(collectorId);
-            collector.deregister(this);
-        }
-
         for (var predicate : this.predicates) {
             predicate.destroy();
         }
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.filter;
+
+import central.data.log.Log;
+import central.studio.logging.core.filter.predicate.LogField;
+import central.studio.logging.core.storage.DynamicStorage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 过滤器索引
+ * <p>
+ * 按 租户 -> 应用 对过滤器进行分组，日志只与可能匹配的过滤器进行比较，
+ * 而不是逐个遍历所有过滤器。索引创建后不可修改，过滤器变更时需要重新创建。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class FilterIndex {
+
+    public static final FilterIndex EMPTY = new FilterIndex(List.of());
+
+    /**
+     * 参与索引的过滤器
+     */
+    private final List<DynamicFilter> filters;
+
+    /**
+     * 租户 -> 应用索引
+     */
+    private final Map<String, Node> tenants = new HashMap<>();
+
+    /**
+     * 不限租户的过滤器
+     */
+    private final Node anyTenant = new Node();
+
+    /**
+     * 创建索引
+     * <p>
+     * 已禁用或断言没有交集的过滤器不参与索引
+     *
+     * @param filters 过滤器
+     */
+    public FilterIndex(List<DynamicFilter> filters) {
+        this.filters = filters.stream()
+                .filter(it -> Boolean.TRUE.equals(it.getData().getEnabled()))
+                .filter(it -> !it.isUnsatisfiable())
+                .toList();
+
+        for (int i = 0; i < this.filters.size(); i++) {
+            var entry = new Entry(i, this.filters.get(i));
+            var tenants = entry.filter().getValues(LogField.TENANT);
+            if (tenants == null) {
+                this.anyTenant.add(entry);
+            } else {
+                for (var tenant : tenants) {
+                    this.tenants.computeIfAbsent(tenant, key -> new Node()).add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否没有任何过滤器
+     */
+    public boolean isEmpty() {
+        return this.filters.isEmpty();
+    }
+
+    /**
+     * 将日志分发给匹配的过滤器
+     * <p>
+     * 每个过滤器只会收到一次调用，包含本批中所有与之匹配的日志。
+     * 匹配的日志汇总后同时交给所有存储器，任一存储器的队列已满时整批都不会入队
+     *
+     * @param logs 日志
+     * @throws central.studio.logging.core.pipeline.IngestRejectedException 存储器的队列已满
+     */
+    @SuppressWarnings("unchecked")
+    public void dispatch(List<Log> logs) {
+        if (this.filters.isEmpty()) {
+            return;
+        }
+
+        var outputs = (List<Log>[]) new List[this.filters.size()];
+        for (var log : logs) {
+            var node = this.tenants.get(log.getTenantCode());
+            if (node != null) {
+                node.match(log, outputs);
+            }
+            this.anyTenant.match(log, outputs);
+        }
+
+        // 按存储器汇总
+        var storages = new LinkedHashMap<DynamicStorage, List<Log>>();
+        for (int i = 0; i < outputs.length; i++) {
+            if (outputs[i] != null) {
+                for (var storage : this.filters.get(i).getStorages()) {
+                    storages.computeIfAbsent(storage, key -> new ArrayList<>()).addAll(outputs[i]);
+                }
+            }
+        }
+        if (!storages.isEmpty()) {
+            DynamicStorage.store(storages);
+        }
+    }
+
+    /**
+     * 索引项
+     *
+     * @param ordinal 过滤器序号，用于定位输出
+     * @param filter  过滤器
+     */
+    private record Entry(int ordinal, DynamicFilter filter) {
+    }
+
+    /**
+     * 应用索引
+     */
+    private static class Node {
+        /**
+         * 应用 -> 过滤器
+         */
+        private final Map<String, List<Entry>> applications = new HashMap<>();
+
+        /**
+         * 不限应用的过滤器
+         */
+        private final List<Entry> anyApplication = new ArrayList<>();
+
+        private void add(Entry entry) {
+            Set<String> applications = entry.filter().getValues(LogField.APPLICATION);
+            if (applications == null) {
+                this.anyApplication.add(entry);
+            } else {
+                for (var application : applications) {
+                    this.applications.computeIfAbsent(application, key -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+
+        private void match(Log log, List<Log>[] outputs) {
+            var candidates = this.applications.get(log.getApplicationCode());
+            if (candidates != null) {
+                match(log, candidates, outputs);
+            }
+            match(log, this.anyApplication, outputs);
+        }
+
+        private static void match(Log log, List<Entry> candidates, List<Log>[] outputs) {
+            for (var entry : candidates) {
+                if (entry.filter().matches(log)) {
+                    var output = outputs[entry.ordinal()];
+                    if (output == null) {
+                        outputs[entry.ordinal()] = output = new ArrayList<>();
+                    }
+                    output.add(log);
+                }
+            }
+        }
+    }
+}
@@ -33,6 +33,9 @@ import central.util.Jsonx;
 import lombok.Getter;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * 动态断言
  *
@@ -64,6 +67,22 @@ public class DynamicPredicate implements Predicate, DisposableBean {
         return this.delegate.predicate(log);
     }
 
+    @Override
+    public Condition compile() {
+        return this.delegate.compile();
+    }
+
+    /**
+     * 设置汇总日志的输出
+     *
+     * @see ReportingPredicate
+     */
+    public void setReporter(Consumer<List<Log>> reporter) {
+        if (this.delegate instanceof ReportingPredicate reporting) {
+            reporting.setReporter(reporter);
+        }
+    }
+
     @Override
     public void destroy() throws Exception {
         this.resolver.destroy(this.delegate);
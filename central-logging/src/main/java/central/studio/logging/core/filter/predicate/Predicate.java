@@ -39,4 +39,15 @@ public interface Predicate {
      * @param log 日志
      */
     boolean predicate(Log log);
+
+    /**
+     * 将断言编译成字段取值的集合判断
+     * <p>
+     * 编译后的断言可以用于建立过滤器索引，日志只会与可能匹配的过滤器进行比较
+     *
+     * @return 无法编译时返回 null，此时需要逐条调用 {@link #predicate(Log)}
+     */
+    default Condition compile() {
+        return null;
+    }
 }
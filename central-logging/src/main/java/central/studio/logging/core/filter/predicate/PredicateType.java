@@ -27,6 +27,7 @@ package central.studio.logging.core.filter.predicate;
 import central.bean.OptionalEnum;
 import central.studio.logging.core.filter.predicate.impl.ApplicationPredicate;
 import central.studio.logging.core.filter.predicate.impl.LevelPredicate;
+import central.studio.logging.core.filter.predicate.impl.SamplingPredicate;
 import central.studio.logging.core.filter.predicate.impl.TenantPredicate;
 import central.studio.logging.core.filter.predicate.impl.TypePredicate;
 import lombok.AllArgsConstructor;
@@ -44,7 +45,8 @@ public enum PredicateType implements OptionalEnum<String> {
     TENANT("租户（Tenant）", "tenant", TenantPredicate.class),
     APPLICATION("应用（Application）", "application", ApplicationPredicate.class),
     LEVEL("等级（Level）", "level", LevelPredicate.class),
-    TYPE("类型（Type）", "type", TypePredicate.class);
+    TYPE("类型（Type）", "type", TypePredicate.class),
+    SAMPLING("采样限流（Sampling）", "sampling", SamplingPredicate.class);
 
     private final String name;
     private final String value;
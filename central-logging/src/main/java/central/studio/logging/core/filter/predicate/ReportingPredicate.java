@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.filter.predicate;
+
+import central.data.log.Log;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 会输出汇总日志的断言
+ * <p>
+ * 如采样、限流等会丢弃日志的断言，需要定期将丢弃情况汇总成日志记录下来
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public interface ReportingPredicate extends Predicate {
+    /**
+     * 设置汇总日志的输出
+     * <p>
+     * 汇总日志不再经过断言，直接交给过滤器的存储器
+     *
+     * @param reporter 汇总日志的输出
+     */
+    void setReporter(Consumer<List<Log>> reporter);
+}
@@ -25,6 +25,8 @@
 package central.studio.logging.core.filter.predicate.impl;
 
 import central.data.log.Log;
+import central.studio.logging.core.filter.predicate.Condition;
+import central.studio.logging.core.filter.predicate.LogField;
 import central.studio.logging.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.validation.Label;
@@ -32,6 +34,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * 应用标识断言
@@ -51,4 +54,9 @@ public class ApplicationPredicate implements Predicate {
     public boolean predicate(Log log) {
         return Objects.equals(applicationCode, log.getApplicationCode());
     }
+
+    @Override
+    public Condition compile() {
+        return new Condition(LogField.APPLICATION, Set.of(this.applicationCode));
+    }
 }
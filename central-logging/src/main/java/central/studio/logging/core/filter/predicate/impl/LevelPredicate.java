@@ -26,6 +26,8 @@ package central.studio.logging.core.filter.predicate.impl;
 
 import central.data.log.Log;
 import central.data.log.option.LogLevel;
+import central.studio.logging.core.filter.predicate.Condition;
+import central.studio.logging.core.filter.predicate.LogField;
 import central.studio.logging.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
@@ -61,4 +63,9 @@ public class LevelPredicate implements Predicate, InitializingBean {
     public boolean predicate(Log log) {
         return this.level.contains(log.getLevel());
     }
+
+    @Override
+    public Condition compile() {
+        return new Condition(LogField.LEVEL, this.level);
+    }
 }
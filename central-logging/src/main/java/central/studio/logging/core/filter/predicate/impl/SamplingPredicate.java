@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.filter.predicate.impl;
+
+import central.data.log.Log;
+import central.data.log.option.LogLevel;
+import central.data.log.option.LogType;
+import central.lang.Stringx;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.studio.logging.core.filter.predicate.ReportingPredicate;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 采样限流断言
+ * <p>
+ * 按 租户 + 应用 + 等级 对日志进行采样和限流，被丢弃的日志数量会定期汇总成一条日志写入存储器
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+public class SamplingPredicate implements ReportingPredicate, InitializingBean, DisposableBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, defaultValue = """
+            本断言会对日志进行采样和限流，用于防止个别应用产生的大量日志挤占存储资源。
+            按链路采样时，同一个链路（traceId）的日志要么全部保留，要么全部丢弃。
+            限流按租户、应用、等级分别计算。被丢弃的日志数量会定期汇总成一条警告日志。""")
+    private String label;
+
+    @Label("采样方式")
+    @NotNull
+    @Control(label = "采样方式", type = ControlType.RADIO, defaultValue = "trace", comment = "按链路采样时，没有链路标识的日志使用随机采样")
+    private SamplingModeEnum mode;
+
+    @Label("采样率")
+    @NotNull
+    @Min(0)
+    @Max(100)
+    @Control(label = "采样率", type = ControlType.NUMBER, defaultValue = "100", comment = "保留日志的百分比，100 表示不采样")
+    private Integer rate;
+
+    @Label("限流")
+    @NotNull
+    @Min(0)
+    @Max(1000000)
+    @Control(label = "限流", type = ControlType.NUMBER, defaultValue = "0", comment = "每个租户、应用、等级每秒最多保留的日志数量，0 表示不限流")
+    private Integer limit;
+
+    @Label("豁免等级")
+    @Control(label = "豁免等级", type = ControlType.CHECKBOX, required = false, defaultValue = "error", comment = "这些等级的日志不参与采样和限流")
+    private List<LogLevel> exempts;
+
+    @Label("汇总间隔")
+    @NotNull
+    @Min(10)
+    @Max(3600)
+    @Control(label = "汇总间隔", type = ControlType.NUMBER, defaultValue = "60", comment = "每隔多少秒输出一次丢弃日志的汇总（秒）")
+    private Integer summaryInterval;
+
+    @Setter
+    private Consumer<List<Log>> reporter;
+
+    private Set<String> exempt;
+
+    /**
+     * 租户 + 应用 + 等级 -> 计数器
+     */
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.exempt = this.exempts == null ? Set.of() : this.exempts.stream().map(LogLevel::getValue).collect(Collectors.toSet());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.logging.sampling@" + this.hashCode() + "-"));
+        this.scheduler.scheduleWithFixedDelay(this::report, this.summaryInterval, this.summaryInterval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+        // 输出最后一次汇总
+        this.report();
+    }
+
+    @Override
+    public boolean predicate(Log log) {
+        if (this.exempt.contains(log.getLevel())) {
+            return true;
+        }
+
+        var key = new Key(log.getTenantCode(), log.getApplicationCode(), log.getLevel());
+        var counter = this.counters.computeIfAbsent(key, it -> new Counter(this.limit));
+        if (!counter.used) {
+            // 每个汇总周期只会走到这里一次。先标记为使用中，再确认计数器仍在表中：
+            // 如果汇总线程在标记之前移除了它，则放回去（或者改用其它线程新建的计数器）
+            counter.used = true;
+            var current = this.counters.putIfAbsent(key, counter);
+            if (current != null) {
+                counter = current;
+            }
+        }
+        if (!this.sample(log)) {
+            counter.sampled.increment();
+            return false;
+        }
+        if (this.limit > 0 && !counter.acquire(this.limit)) {
+            counter.limited.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 采样
+     */
+    private boolean sample(Log log) {
+        if (this.rate >= 100) {
+            return true;
+        }
+        if (this.rate <= 0) {
+            return false;
+        }
+        if (this.mode == SamplingModeEnum.TRACE && Stringx.isNotBlank(log.getTraceId())) {
+            // 同一个链路的日志得到相同的结果
+            return Math.floorMod(mix(log.getTraceId().hashCode()), 100) < this.rate;
+        }
+        return ThreadLocalRandom.current().nextInt(100) < this.rate;
+    }
+
+    /**
+     * 打散哈希值，避免相似的 traceId 落在同一区间
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * 输出丢弃日志的汇总
+     */
+    private void report() {
+        var now = System.currentTimeMillis();
+        var summaries = new ArrayList<Log>();
+        for (var entry : this.counters.entrySet()) {
+            var key = entry.getKey();
+            var sampled = entry.getValue().sampled.sumThenReset();
+            var limited = entry.getValue().limited.sumThenReset();
+            if (sampled + limited == 0) {
+                // 整个周期内都没有被使用的计数器才移除，避免计数器无限增长。
+                // 检查与移除在同一个原子操作中完成，与过滤线程的标记和放回配合，不会丢失计数
+                this.counters.computeIfPresent(key, (k, counter) -> {
+                    if (counter.used) {
+                        counter.used = false;
+                        return counter;
+                    }
+                    return null;
+                });
+                continue;
+            }
+
+            var summary = new Log();
+            summary.setType(LogType.DEBUG.getValue());
+            summary.setLevel(LogLevel.WARN.getValue());
+            summary.setTimestamp(new Timestamp(now));
+            summary.setTenantCode(key.tenantCode());
+            summary.setApplicationCode(key.applicationCode());
+            summary.setService("central-logging");
+            summary.setLogger(SamplingPredicate.class.getName());
+            summary.setContent(Stringx.format("过去 {} 秒内丢弃了 {} 条 {} 日志（采样丢弃 {} 条，限流丢弃 {} 条）",
+                    this.summaryInterval, sampled + limited, key.level(), sampled, limited));
+            summaries.add(summary);
+        }
+
+        if (!summaries.isEmpty() && this.reporter != null) {
+            try {
+                this.reporter.accept(summaries);
+            } catch (Exception ex) {
+                log.warn("输出采样汇总日志失败: " + ex.getLocalizedMessage(), ex);
+            }
+        }
+    }
+
+    private record Key(String tenantCode, String applicationCode, String level) {
+    }
+
+    /**
+     * 计数器与令牌桶
+     */
+    private static class Counter {
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder limited = new LongAdder();
+
+        /**
+         * 上次汇总以来是否被使用过
+         */
+        private volatile boolean used = true;
+
+        private double tokens;
+        private long refilled = System.nanoTime();
+
+        private Counter(int limit) {
+            this.tokens = limit;
+        }
+
+        /**
+         * 获取一个令牌，令牌桶容量为一秒的限额
+         */
+        private synchronized boolean acquire(int limit) {
+            var now = System.nanoTime();
+            this.tokens = Math.min(limit, this.tokens + (now - this.refilled) * limit / 1_000_000_000d);
+            this.refilled = now;
+            if (this.tokens >= 1) {
+                this.tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
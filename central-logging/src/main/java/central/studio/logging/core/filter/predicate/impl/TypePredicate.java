@@ -26,6 +26,8 @@ package central.studio.logging.core.filter.predicate.impl;
 
 import central.data.log.Log;
 import central.data.log.option.LogType;
+import central.studio.logging.core.filter.predicate.Condition;
+import central.studio.logging.core.filter.predicate.LogField;
 import central.studio.logging.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
@@ -61,4 +63,9 @@ public class TypePredicate implements Predicate, InitializingBean {
     public boolean predicate(Log log) {
         return this.type.contains(log.getType());
     }
+
+    @Override
+    public Condition compile() {
+        return new Condition(LogField.TYPE, this.type);
+    }
 }
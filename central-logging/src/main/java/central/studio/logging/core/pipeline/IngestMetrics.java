@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.pipeline;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 日志队列指标
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestMetrics implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4913538146458627418L;
+
+    /**
+     * 队列名称
+     */
+    private String name;
+    /**
+     * 队列容量
+     */
+    private int capacity;
+    /**
+     * 当前队列深度
+     */
+    private int depth;
+    /**
+     * 已入队日志数
+     */
+    private long enqueued;
+    /**
+     * 已存储日志数
+     */
+    private long stored;
+    /**
+     * 因溢出丢弃的日志数
+     */
+    private long dropped;
+    /**
+     * 因溢出拒绝的日志数
+     */
+    private long rejected;
+    /**
+     * 存储失败的日志数
+     */
+    private long failed;
+}
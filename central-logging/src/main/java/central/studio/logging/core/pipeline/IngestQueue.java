@@ -0,0 +1,285 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.pipeline;
+
+import central.data.log.Log;
+import central.studio.logging.core.storage.Storage;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 有界日志队列
+ * <p>
+ * 采集线程只负责把日志放入队列，由后台线程批量交给存储器保存，存储器再慢也不会拖住采集线程。
+ * 队列满时按 {@link OverflowPolicy} 处理
+ * <p>
+ * 队列容量通过许可管理，入队前先为整批日志预留容量（{@link #reserve(int)}），
+ * 预留成功后再入队（{@link #offer(List, int)}），因此同一批日志要么全部入队，要么全部被拒绝。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+public class IngestQueue implements AutoCloseable {
+
+    @Getter
+    private final String name;
+
+    private final Storage storage;
+
+    private final ArrayBlockingQueue<Log> queue;
+
+    /**
+     * 队列剩余容量许可
+     * <p>
+     * 入队前获取，后台线程取出日志后释放
+     */
+    private final Semaphore permits;
+
+    private final OverflowPolicy policy;
+
+    private final Duration blockTimeout;
+
+    private final int batchSize;
+
+    private final ExecutorService worker;
+
+    private volatile boolean running = true;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * @param name         队列名称
+     * @param storage      存储器
+     * @param capacity     队列容量（日志条数）
+     * @param policy       溢出策略
+     * @param blockTimeout 阻塞策略下的最长等待时间
+     * @param batchSize    每批交给存储器的日志数量
+     */
+    public IngestQueue(String name, Storage storage, int capacity, OverflowPolicy policy, Duration blockTimeout, int batchSize) {
+        this.name = name;
+        this.storage = storage;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.permits = new Semaphore(capacity, true);
+        this.policy = policy;
+        this.blockTimeout = blockTimeout;
+        this.batchSize = batchSize;
+
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("central.logging.ingest@" + name + "-"));
+        this.worker.submit(this::drain);
+    }
+
+    /**
+     * 日志入队
+     *
+     * @param logs 日志
+     * @throws IngestRejectedException 队列已满，且溢出策略为拒绝，或阻塞超时
+     */
+    public void offer(List<Log> logs) {
+        this.offer(logs, this.reserve(logs.size()));
+    }
+
+    /**
+     * 为指定数量的日志预留队列容量
+     * <p>
+     * 预留的容量必须通过 {@link #offer(List, int)} 使用，或通过 {@link #cancel(int)} 归还
+     *
+     * @param count 日志数量
+     * @return 预留的容量。溢出策略为丢弃最早的日志时，可能小于日志数量，不足的部分在入队时丢弃最早的日志
+     * @throws IngestRejectedException 队列已满，且溢出策略为拒绝，或阻塞超时
+     */
+    public int reserve(int count) {
+        if (!this.running) {
+            throw new IngestRejectedException("日志队列[" + this.name + "]已关闭");
+        }
+
+        switch (this.policy) {
+            case REJECT -> {
+                // 整批拒绝，避免只保存了一部分日志
+                if (!this.permits.tryAcquire(count)) {
+                    this.rejected.addAndGet(count);
+                    throw new IngestRejectedException("日志队列[" + this.name + "]已满");
+                }
+                return count;
+            }
+            case DROP_OLDEST -> {
+                // 尽量预留，不足的部分在入队时丢弃最早的日志
+                int reserved = 0;
+                while (reserved < count && this.permits.tryAcquire()) {
+                    reserved++;
+                }
+                return reserved;
+            }
+            default -> {
+                try {
+                    if (!this.permits.tryAcquire(count, this.blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        this.rejected.addAndGet(count);
+                        throw new IngestRejectedException("日志队列[" + this.name + "]已满，等待超时");
+                    }
+                    return count;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    this.rejected.addAndGet(count);
+                    throw new IngestRejectedException("日志队列[" + this.name + "]入队被中断");
+                }
+            }
+        }
+    }
+
+    /**
+     * 归还预留的队列容量
+     *
+     * @param reserved 通过 {@link #reserve(int)} 预留的容量
+     */
+    public void cancel(int reserved) {
+        if (reserved > 0) {
+            this.permits.release(reserved);
+        }
+    }
+
+    /**
+     * 使用预留的队列容量将日志入队
+     *
+     * @param logs     日志
+     * @param reserved 通过 {@link #reserve(int)} 预留的容量
+     */
+    public void offer(List<Log> logs, int reserved) {
+        for (int i = 0; i < logs.size(); i++) {
+            if (i >= reserved && !this.evict()) {
+                // 没能腾出容量，丢弃当前日志
+                this.dropped.incrementAndGet();
+                continue;
+            }
+            // 已持有许可，队列一定有空位
+            this.queue.add(logs.get(i));
+            this.enqueued.incrementAndGet();
+        }
+    }
+
+    /**
+     * 容量不足（丢弃最早的日志）时，为一条日志腾出容量
+     * <p>
+     * 优先使用空闲的容量，否则取出最早的日志，由当前日志占用它的容量。队列为空（容量都被其它线程预留）时，
+     * 最多等待阻塞超时时间，等其它线程入队或归还容量
+     *
+     * @return 是否已获得一个许可
+     */
+    private boolean evict() {
+        if (this.permits.tryAcquire()) {
+            return true;
+        }
+        if (this.queue.poll() != null) {
+            this.dropped.incrementAndGet();
+            return true;
+        }
+        try {
+            return this.permits.tryAcquire(this.blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 后台线程，批量将日志交给存储器
+     */
+    private void drain() {
+        var batch = new ArrayList<Log>(this.batchSize);
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                var first = this.queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.queue.drainTo(batch, this.batchSize - 1);
+                this.permits.release(batch.size());
+            } catch (InterruptedException ex) {
+                // 关闭超时，强制退出
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    this.storage.store(batch);
+                    this.stored.addAndGet(batch.size());
+                } catch (Exception ex) {
+                    this.failed.addAndGet(batch.size());
+                    log.error("日志队列[{}]存储日志失败: {}", this.name, ex.getLocalizedMessage(), ex);
+                }
+                // 存储器可能会持有列表引用，因此每批使用新的列表
+                batch = new ArrayList<>(this.batchSize);
+            }
+        }
+    }
+
+    /**
+     * 获取队列指标
+     */
+    public IngestMetrics getMetrics() {
+        return new IngestMetrics(this.name, this.queue.size() + this.queue.remainingCapacity(), this.queue.size(),
+                this.enqueued.get(), this.stored.get(), this.dropped.get(), this.rejected.get(), this.failed.get());
+    }
+
+    /**
+     * 停止接收日志，并等待队列中的日志存储完毕
+     *
+     * @param timeout 最长等待时间
+     */
+    public void close(Duration timeout) {
+        this.running = false;
+        this.worker.shutdown();
+        try {
+            if (!this.worker.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.worker.shutdownNow();
+                log.warn("日志队列[{}]关闭超时，丢弃 {} 条日志", this.name, this.queue.size());
+            }
+        } catch (InterruptedException ex) {
+            this.worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.close(Duration.ofSeconds(10));
+    }
+}
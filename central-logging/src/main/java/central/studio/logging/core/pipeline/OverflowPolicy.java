@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.pipeline;
+
+import central.bean.OptionalEnum;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 队列溢出策略
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OverflowPolicy implements OptionalEnum<String> {
+    /**
+     * 阻塞采集线程，直到队列有空间（超时后拒绝）
+     */
+    BLOCK("阻塞（Block）", "block"),
+    /**
+     * 丢弃队列中最旧的日志
+     */
+    DROP_OLDEST("丢弃最旧日志（Drop Oldest）", "drop_oldest"),
+    /**
+     * 直接拒绝，HTTP 采集返回 429
+     */
+    REJECT("拒绝（Reject）", "reject");
+
+    private final String name;
+    private final String value;
+
+    public static OverflowPolicy resolve(String value) {
+        return OptionalEnum.resolve(OverflowPolicy.class, value);
+    }
+}
@@ -29,11 +29,20 @@ import central.data.log.LogStorage;
 import central.lang.Assertx;
 import central.lang.Stringx;
 import central.lang.reflect.TypeRef;
+import central.studio.logging.LoggingProperties;
+import central.studio.logging.core.pipeline.IngestMetrics;
+import central.studio.logging.core.pipeline.IngestQueue;
+import central.studio.logging.core.storage.search.LogPage;
+import central.studio.logging.core.storage.search.LogSearch;
 import central.util.Jsonx;
 import lombok.Getter;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 动态存储器
@@ -50,9 +59,19 @@ public class DynamicStorage implements Storage, DisposableBean {
 
     private final StorageResolver resolver;
 
-    public DynamicStorage(LogStorage data, StorageResolver resolver) {
+    /**
+     * 日志队列
+     * <p>
+     * 日志先入队，再由后台线程交给存储器保存
+     */
+    private final IngestQueue queue;
+
+    private final LoggingProperties.Pipeline pipeline;
+
+    public DynamicStorage(LogStorage data, StorageResolver resolver, LoggingProperties.Pipeline pipeline) {
         this.data = data;
         this.resolver = resolver;
+        this.pipeline = pipeline;
 
         try {
             var params = Jsonx.Default().deserialize(this.data.getParams(), TypeRef.ofMap(String.class, Object.class));
@@ -60,15 +79,82 @@ public class DynamicStorage implements Storage, DisposableBean {
         } catch (Exception ex) {
             throw new IllegalStateException(Stringx.format("初始化插件[id={}, type={}]出现异常: " + ex.getLocalizedMessage(), this.data.getId(), this.data.getType()), ex);
         }
+
+        this.queue = new IngestQueue(data.getCode(), this.delegate, pipeline.getCapacity(), pipeline.getOverflow(), pipeline.getBlockTimeout(), pipeline.getBatchSize());
     }
 
     @Override
     public void destroy() throws Exception {
+        // 先把队列中的日志存储完，再销毁存储器
+        this.queue.close(this.pipeline.getShutdownTimeout());
         this.resolver.destroy(this.delegate);
     }
 
+    /**
+     * 存储日志
+     * <p>
+     * 日志入队后立即返回
+     *
+     * @param logs 日志
+     * @throws central.studio.logging.core.pipeline.IngestRejectedException 队列已满
+     */
     @Override
     public void store(List<Log> logs) {
-        this.delegate.store(logs);
+        this.queue.offer(logs);
+    }
+
+    /**
+     * 将日志同时存入多个存储器
+     * <p>
+     * 先在所有存储器的队列中预留容量，全部预留成功后再入队。任一存储器的队列已满时，
+     * 所有存储器都不会入队，避免客户端重试时部分存储器保存了重复的日志
+     *
+     * @param logs 存储器 -> 日志
+     * @throws central.studio.logging.core.pipeline.IngestRejectedException 任一存储器的队列已满
+     */
+    public static void store(Map<DynamicStorage, List<Log>> logs) {
+        // 按主键顺序预留，避免阻塞策略下两批日志各自持有一个队列的容量并互相等待
+        var storages = logs.keySet().stream().sorted(Comparator.comparing(it -> it.getData().getId())).toList();
+
+        var reserved = new LinkedHashMap<DynamicStorage, Integer>();
+        try {
+            for (var storage : storages) {
+                reserved.put(storage, storage.queue.reserve(logs.get(storage).size()));
+            }
+        } catch (RuntimeException ex) {
+            reserved.forEach((storage, count) -> storage.queue.cancel(count));
+            throw ex;
+        }
+
+        for (var storage : storages) {
+            storage.queue.offer(logs.get(storage), reserved.get(storage));
+        }
+    }
+
+    /**
+     * 是否支持查询
+     */
+    public boolean isSearchable() {
+        return this.delegate instanceof SearchableStorage;
+    }
+
+    /**
+     * 查询日志
+     *
+     * @param search 查询条件
+     * @throws UnsupportedOperationException 存储器不支持查询
+     */
+    public LogPage search(LogSearch search) throws IOException {
+        if (this.delegate instanceof SearchableStorage searchable) {
+            return searchable.search(search);
+        }
+        throw new UnsupportedOperationException("存储器[" + this.data.getCode() + "]不支持查询");
+    }
+
+    /**
+     * 获取队列指标
+     */
+    public IngestMetrics getMetrics() {
+        return this.queue.getMetrics();
     }
 }
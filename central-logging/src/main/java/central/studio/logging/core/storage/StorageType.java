@@ -27,6 +27,8 @@ package central.studio.logging.core.storage;
 import central.bean.OptionalEnum;
 import central.studio.logging.core.storage.impl.console.ConsoleStorage;
 import central.studio.logging.core.storage.impl.file.FileStorage;
+import central.studio.logging.core.storage.impl.jdbc.JdbcStorage;
+import central.studio.logging.core.storage.impl.segment.SegmentStorage;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -40,7 +42,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum StorageType implements OptionalEnum<String> {
     CONSOLE("控制台（Console）", "console", ConsoleStorage.class),
-    FILE("文件（File）", "file", FileStorage.class);
+    FILE("文件（File）", "file", FileStorage.class),
+    SEGMENT("索引（Segment）", "segment", SegmentStorage.class),
+    JDBC("数据库（JDBC）", "jdbc", JdbcStorage.class);
 
     private final String name;
     private final String value;
@@ -25,7 +25,6 @@
 package central.studio.logging.core.storage.impl.file;
 
 import central.data.log.Log;
-import central.io.Filex;
 import central.lang.Stringx;
 import central.util.concurrent.BlockedQueue;
 import central.util.concurrent.ConsumableQueue;
@@ -34,9 +33,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -45,6 +55,8 @@ import java.util.function.Consumer;
 
 /**
  * 日志文件写入
+ * <p>
+ * 写入线程持有当前日志文件的 FileChannel，只有在滚动策略切换文件时才重新打开
  *
  * @author Alan Yeh
  * @since 2022/10/24
@@ -55,12 +67,26 @@ public class FileAppender implements InitializingBean, DisposableBean {
 
     private final RollingPolicy policy;
 
+    /**
+     * 刷盘策略
+     */
+    private final FsyncPolicyEnum fsyncPolicy;
+
+    /**
+     * 定时刷盘间隔
+     */
+    private final Duration fsyncInterval;
+
     private ConsumableQueue<Log, BlockedQueue<Log>> queue;
 
+    public FileAppender(RollingPolicy policy) {
+        this(policy, FsyncPolicyEnum.NONE, Duration.ofSeconds(1));
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         this.queue = new ConsumableQueue<>(new BlockedQueue<>(new PriorityQueue<>(Comparator.comparing(Log::getTimestamp))));
-        this.queue.addConsumer(new Writer(this.policy));
+        this.queue.addConsumer(new Writer(this.policy, this.fsyncPolicy, this.fsyncInterval.toNanos()));
     }
 
     @Override
@@ -75,12 +101,55 @@ public class FileAppender implements InitializingBean, DisposableBean {
         this.queue.addAll(logs);
     }
 
-    @RequiredArgsConstructor
+    /**
+     * 写入线程
+     * <p>
+     * 本类只在写入线程中使用，缓冲区、编码器、时间格式缓存都不需要同步
+     */
     private static class Writer implements Consumer<BlockedQueue<Log>> {
 
+        private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.").withZone(ZoneId.systemDefault());
+
         private final RollingPolicy policy;
 
-        private static final ThreadLocal<SimpleDateFormat> FORMATTER = ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS"));
+        private final FsyncPolicyEnum fsyncPolicy;
+
+        private final long fsyncInterval;
+
+        /**
+         * 写缓冲区，满了就写入文件
+         */
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        /**
+         * 单条日志的格式化缓冲
+         */
+        private final StringBuilder line = new StringBuilder(1024);
+
+        /**
+         * 最近格式化的秒，以及该秒对应的时间前缀（yyyy-MM-dd HH:mm:ss.）
+         */
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedPrefix;
+
+        private File file;
+        private FileChannel channel;
+
+        /**
+         * 是否有未刷盘的数据
+         */
+        private boolean dirty;
+        private long lastSync = System.nanoTime();
+
+        Writer(RollingPolicy policy, FsyncPolicyEnum fsyncPolicy, long fsyncInterval) {
+            this.policy = policy;
+            this.fsyncPolicy = fsyncPolicy;
+            this.fsyncInterval = fsyncInterval;
+        }
 
         @Override
         public void accept(BlockedQueue<Log> queue) {
@@ -88,35 +157,140 @@ public class FileAppender implements InitializingBean, DisposableBean {
                 while (true) {
                     var logs = queue.poll(1000, 1, TimeUnit.SECONDS);
                     try {
-                        // 根据策略获取待写入的文件
-                        var logFile = this.policy.getFile();
-
-                        // 组装日志
-                        StringBuilder output = new StringBuilder();
-                        for (Log l : logs) {
-                            output.append("[").append(l.getService()).append("] ");
-                            if (Stringx.isNotBlank(l.getTraceId())) {
-                                output.append(l.getTraceId()).append(" ");
-                            }
-                            output.append(FORMATTER.get().format(l.getTimestamp())).append(" ");
-                            output.append(l.getLevel().toUpperCase()).append(" ")
-                                    .append(l.getPid()).append(" ")
-                                    .append(l.getThread()).append(" ")
-                                    .append(l.getLocation()).append("\r\n");
-                            output.append(l.getContent()).append("\r\n\r\n");
-                        }
+                        if (!logs.isEmpty()) {
+                            this.write(logs);
 
-                        // 写入文件
-                        Filex.appendText(logFile, output.toString(), StandardCharsets.UTF_8);
-
-                        // 写入文件之后，对文件进行滚动
-                        policy.roll();
+                            // 写入文件之后，对文件进行滚动
+                            this.policy.roll();
+                        }
+                        this.sync(false);
                     } catch (IOException ex) {
                         log.error("无法写入日志: " + ex.getLocalizedMessage(), ex);
+                        // 下次写入时重新打开文件
+                        this.close();
                     }
                 }
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
+            } finally {
+                this.close();
+            }
+        }
+
+        private void write(List<Log> logs) throws IOException {
+            // 根据策略获取待写入的文件，文件变了才重新打开
+            var target = this.policy.getFile();
+            if (this.channel == null || !target.equals(this.file)) {
+                var previous = this.file;
+                this.close();
+                if (previous != null) {
+                    // 旧文件已关闭，交给滚动策略压缩
+                    this.policy.release(previous);
+                }
+                this.channel = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                this.file = target;
+            }
+
+            for (var l : logs) {
+                this.line.setLength(0);
+                this.line.append("[").append(l.getService()).append("] ");
+                if (Stringx.isNotBlank(l.getTraceId())) {
+                    this.line.append(l.getTraceId()).append(" ");
+                }
+                this.appendTimestamp(l.getTimestamp().getTime());
+                this.line.append(" ");
+                this.line.append(l.getLevel().toUpperCase()).append(" ")
+                        .append(l.getPid()).append(" ")
+                        .append(l.getThread()).append(" ")
+                        .append(l.getLocation()).append("\r\n");
+                this.line.append(l.getContent()).append("\r\n\r\n");
+
+                this.encode(CharBuffer.wrap(this.line));
+            }
+            this.flush();
+            this.dirty = true;
+        }
+
+        /**
+         * 格式化时间戳，同一秒内的日志复用已格式化的前缀
+         */
+        private void appendTimestamp(long millis) {
+            var second = Math.floorDiv(millis, 1000L);
+            if (second != this.cachedSecond) {
+                this.cachedPrefix = FORMATTER.format(Instant.ofEpochSecond(second));
+                this.cachedSecond = second;
+            }
+            var fraction = (int) Math.floorMod(millis, 1000L);
+            this.line.append(this.cachedPrefix);
+            if (fraction < 100) {
+                this.line.append('0');
+            }
+            if (fraction < 10) {
+                this.line.append('0');
+            }
+            this.line.append(fraction);
+        }
+
+        /**
+         * 编码到缓冲区，缓冲区满了就写入文件
+         */
+        private void encode(CharBuffer chars) throws IOException {
+            this.encoder.reset();
+            while (true) {
+                CoderResult result = this.encoder.encode(chars, this.buffer, true);
+                if (result.isOverflow()) {
+                    this.flush();
+                } else {
+                    break;
+                }
+            }
+            while (this.encoder.flush(this.buffer).isOverflow()) {
+                this.flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * 根据刷盘策略刷盘
+         *
+         * @param force 是否忽略策略强制刷盘
+         */
+        private void sync(boolean force) throws IOException {
+            if (!this.dirty || this.channel == null) {
+                return;
+            }
+            var now = System.nanoTime();
+            var required = force
+                    || this.fsyncPolicy == FsyncPolicyEnum.BATCH
+                    || (this.fsyncPolicy == FsyncPolicyEnum.INTERVAL && now - this.lastSync >= this.fsyncInterval);
+            if (required) {
+                this.channel.force(false);
+                this.lastSync = now;
+                this.dirty = false;
+            }
+        }
+
+        private void close() {
+            this.buffer.clear();
+            if (this.channel != null) {
+                try {
+                    if (this.fsyncPolicy != FsyncPolicyEnum.NONE) {
+                        this.sync(true);
+                    }
+                    this.channel.close();
+                } catch (IOException ex) {
+                    log.error("关闭日志文件失败: " + ex.getLocalizedMessage(), ex);
+                }
+                this.channel = null;
+                this.file = null;
+                this.dirty = false;
             }
         }
     }
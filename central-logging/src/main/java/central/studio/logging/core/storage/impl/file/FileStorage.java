@@ -38,7 +38,9 @@ import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 文件存储
@@ -81,6 +83,18 @@ public class FileStorage implements Storage, InitializingBean, DisposableBean {
     @Control(label = "保留历史", type = ControlType.NUMBER, defaultValue = "7", comment = "保留指定天数的日志")
     private Integer maxHistory;
 
+    @Label("刷盘策略")
+    @Control(label = "刷盘策略", type = ControlType.RADIO, required = false, defaultValue = "none", comment = "日志写入后何时强制刷入磁盘。每批刷盘最安全，但吞吐量最低")
+    private FsyncPolicyEnum fsyncPolicy;
+
+    @Label("刷盘间隔")
+    @Min(1)
+    @Max(3600)
+    @Control(label = "刷盘间隔", type = ControlType.NUMBER, required = false, defaultValue = "1", comment = "定时刷盘策略的刷盘间隔（秒）")
+    private Integer fsyncInterval;
+
+    private RollingPolicy policy;
+
     private FileAppender appender;
 
     @Override
@@ -89,20 +103,24 @@ public class FileStorage implements Storage, InitializingBean, DisposableBean {
 
         switch (this.rollingPolicy) {
             case HOURLY -> {
-                policy = new TimeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024 * 1024, "yyyy-MM-dd_HH", this.compressPolicy.getCompressor());
+                policy = new TimeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024L * 1024L, "yyyy-MM-dd_HH", this.compressPolicy.getCompressor());
             }
             case DAILY -> {
-                policy = new TimeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024 * 1024, "yyyy-MM-dd", this.compressPolicy.getCompressor());
+                policy = new TimeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024L * 1024L, "yyyy-MM-dd", this.compressPolicy.getCompressor());
             }
             case SIZE -> {
-                policy = new SizeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024 * 1024, this.compressPolicy.getCompressor());
+                policy = new SizeRollingPolicy(this.path, this.maxHistory, this.maxSize * 1024L * 1024L, this.compressPolicy.getCompressor());
             }
             default -> {
                 throw new IllegalStateException("不支持的滚动类型: " + this.rollingPolicy.getName());
             }
         }
 
-        this.appender = new FileAppender(policy);
+        this.policy = policy;
+        // 旧版本保存的参数没有刷盘配置，使用默认值（不主动刷盘）
+        var fsyncPolicy = Objects.requireNonNullElse(this.fsyncPolicy, FsyncPolicyEnum.NONE);
+        var fsyncInterval = Duration.ofSeconds(Objects.requireNonNullElse(this.fsyncInterval, 1));
+        this.appender = new FileAppender(policy, fsyncPolicy, fsyncInterval);
         this.appender.afterPropertiesSet();
     }
 
@@ -112,6 +130,11 @@ public class FileStorage implements Storage, InitializingBean, DisposableBean {
             this.appender.destroy();
             this.appender = null;
         }
+        if (this.policy != null) {
+            // 等待后台压缩完成
+            this.policy.close();
+            this.policy = null;
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@
 
 package central.studio.logging.core.storage.impl.file;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 
@@ -33,7 +34,7 @@ import java.io.IOException;
  * @author Alan Yeh
  * @since 2022/10/24
  */
-public interface RollingPolicy {
+public interface RollingPolicy extends Closeable {
     /**
      * 获取待写入的文件
      */
@@ -41,6 +42,22 @@ public interface RollingPolicy {
 
     /**
      * 滚动日志
+     * <p>
+     * 每批日志写入后调用，只在到达滚动边界时切换文件
      */
     void roll() throws IOException;
+
+    /**
+     * 文件已关闭，不会再写入
+     * <p>
+     * 滚动策略可以在后台压缩该文件
+     *
+     * @param file 已关闭的日志文件
+     */
+    default void release(File file) {
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
 }
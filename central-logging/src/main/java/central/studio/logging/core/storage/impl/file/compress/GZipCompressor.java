@@ -67,12 +67,12 @@ public class GZipCompressor implements Compressor {
         try (var input = IOStreamx.buffered(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
              var output = IOStreamx.buffered(new GZIPOutputStream(Files.newOutputStream(gz.toPath(), StandardOpenOption.WRITE)))) {
             IOStreamx.transfer(input, output);
-            // 删除原来的文件
-            Filex.delete(file);
         } catch (IOException ex) {
             // 压缩失败了
             Filex.delete(gz);
             throw ex;
         }
+        // 压缩文件写完后再删除原来的文件
+        Filex.delete(file);
     }
 }
@@ -32,6 +32,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -65,14 +66,18 @@ public class ZipCompressor implements Compressor {
         }
 
         try (var input = IOStreamx.buffered(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
-             var output = IOStreamx.buffered(new ZipOutputStream(Files.newOutputStream(zip.toPath(), StandardOpenOption.WRITE)))) {
+             var output = new ZipOutputStream(IOStreamx.buffered(Files.newOutputStream(zip.toPath(), StandardOpenOption.WRITE)))) {
+            // ZIP 需要先创建条目才能写入
+            output.putNextEntry(new ZipEntry(file.getName()));
             IOStreamx.transfer(input, output);
-            // 删除原来的文件
-            Filex.delete(file);
+            output.closeEntry();
+            output.finish();
         } catch (IOException ex) {
             // 压缩失败了
             Filex.delete(zip);
             throw ex;
         }
+        // 压缩完成后再删除原来的文件
+        Filex.delete(file);
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.file.polocy;
+
+import central.io.Filex;
+import central.lang.Arrayx;
+import central.lang.Stringx;
+import central.studio.logging.core.storage.impl.file.Compressor;
+import central.studio.logging.core.storage.impl.file.RollingPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQueries;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 滚动策略基类
+ * <p>
+ * 当前文件、文件序号和下一个时间边界都保存在内存中，只有跨越时间边界或超出文件大小时才切换文件。
+ * 日志文件按日期分文件夹保存，文件名为 {@code 前缀 + 4 位序号 + .log}。
+ * 已关闭的文件交给后台线程压缩，过期日志的清理也在后台线程中进行
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+public abstract class AbstractRollingPolicy implements RollingPolicy {
+    /**
+     * 日志保存路径
+     */
+    private final String path;
+    /**
+     * 日志保存天数
+     */
+    private final Integer maxHistory;
+    /**
+     * 最大文件大小
+     */
+    private final long maxSize;
+    /**
+     * 压缩
+     */
+    private final Compressor compressor;
+
+    private final DateTimeFormatter folderFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * 后台压缩、清理线程
+     */
+    private final ExecutorService worker;
+
+    /**
+     * 当前文件
+     */
+    private File current;
+    /**
+     * 当前文件名前缀
+     */
+    private String prefix;
+    /**
+     * 当前文件序号
+     */
+    private int index;
+    /**
+     * 下一个时间边界（ms）
+     */
+    private long boundary = Long.MIN_VALUE;
+
+    protected AbstractRollingPolicy(String path, Integer maxHistory, long maxSize, Compressor compressor) {
+        this.path = path;
+        this.maxHistory = maxHistory;
+        this.maxSize = maxSize;
+        this.compressor = compressor;
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("central.logging.compressor@" + this.hashCode() + "-"));
+    }
+
+    /**
+     * 获取文件名前缀
+     *
+     * @param now 当前时间
+     */
+    protected abstract String getPrefix(LocalDateTime now);
+
+    /**
+     * 获取下一个时间边界，跨越边界后需要重新计算文件
+     *
+     * @param now 当前时间
+     */
+    protected abstract LocalDateTime getBoundary(LocalDateTime now);
+
+    @Override
+    public synchronized File getFile() throws IOException {
+        if (this.current == null || System.currentTimeMillis() >= this.boundary) {
+            var initializing = this.current == null;
+            var previous = this.current;
+
+            var now = LocalDateTime.now();
+            this.boundary = this.getBoundary(now).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            this.prefix = this.getPrefix(now);
+
+            // 在指定路径下创建文件夹
+            var parent = new File(this.path, now.format(this.folderFormatter));
+            if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+                throw new IOException(Stringx.format("无法在指定目录[{}]下写入日志", this.path));
+            }
+
+            // 只有跨越边界时才扫描一次文件夹，固定向最后一个文件追加日志
+            this.index = this.nextIndex(parent);
+            this.current = new File(parent, this.getName(this.index));
+
+            if (initializing) {
+                // 启动时压缩上次运行遗留的文件
+                this.submitCleanup(true);
+            } else if (!Objects.equals(previous.getParentFile(), parent)) {
+                // 跨天，清理过期日志
+                this.submitCleanup(false);
+            }
+        }
+
+        return this.current;
+    }
+
+    @Override
+    public synchronized void roll() throws IOException {
+        var file = this.getFile();
+        if (file.length() > this.maxSize) {
+            // 如果文件超出指定大小，则切换到下一个文件
+            this.index++;
+            this.current = new File(file.getParentFile(), this.getName(this.index));
+        }
+    }
+
+    @Override
+    public void release(File file) {
+        if (this.worker.isShutdown()) {
+            return;
+        }
+        this.worker.submit(() -> {
+            try {
+                this.compressor.compress(file);
+            } catch (IOException ex) {
+                log.error("压缩日志文件[{}]失败: {}", file.getAbsolutePath(), ex.getLocalizedMessage(), ex);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.worker.shutdown();
+        try {
+            if (!this.worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                this.worker.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            this.worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String getName(int index) {
+        return this.prefix + Stringx.paddingLeft(String.valueOf(index), 4, '0') + ".log";
+    }
+
+    /**
+     * 获取文件夹中当前前缀接下来要写入的序号
+     * <p>
+     * 最大序号的文件还没有压缩时继续向它追加日志；已经压缩（或正在压缩）时使用下一个序号，
+     * 否则重新打开的文件在释放时会因为压缩文件已存在而不再被压缩
+     */
+    private int nextIndex(File parent) {
+        var last = 0;
+        var compressed = false;
+        for (var name : Arrayx.asStream(parent.list()).toList()) {
+            if (!name.startsWith(this.prefix) || !name.contains(".log")) {
+                continue;
+            }
+            var number = name.substring(this.prefix.length(), name.indexOf(".log"));
+            try {
+                var index = Integer.parseInt(number);
+                if (index > last) {
+                    last = index;
+                    compressed = false;
+                }
+                if (index == last && !name.endsWith(".log")) {
+                    compressed = true;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        if (last == 0) {
+            return 1;
+        }
+        return compressed ? last + 1 : last;
+    }
+
+    /**
+     * 在后台清理过期日志
+     *
+     * @param compress 是否压缩当前文件以外的日志文件
+     */
+    private void submitCleanup(boolean compress) {
+        var current = this.current.getAbsoluteFile();
+        this.worker.submit(() -> {
+            try {
+                this.cleanup();
+                if (compress) {
+                    var files = Arrayx.asStream(new File(this.path).listFiles())
+                            .filter(File::isDirectory)
+                            .flatMap(it -> Arrayx.asStream(it.listFiles()))
+                            .filter(it -> it.getName().endsWith(".log"))
+                            .filter(it -> !Objects.equals(it.getAbsoluteFile(), current))
+                            .toList();
+                    for (var file : files) {
+                        this.compressor.compress(file);
+                    }
+                }
+            } catch (Exception ex) {
+                log.error("清理日志文件失败: " + ex.getLocalizedMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * 根据 maxHistory 清除过期日志
+     */
+    private void cleanup() throws IOException {
+        var keepDate = LocalDate.now().minusDays(this.maxHistory);
+
+        var folders = Arrayx.asStream(new File(this.path).listFiles())
+                .filter(File::isDirectory)
+                .filter(it -> {
+                    try {
+                        // 如果文件夹日期在保留日期之前，则该文件夹需要删除
+                        var date = this.folderFormatter.parse(it.getName()).query(TemporalQueries.localDate());
+                        return date.isBefore(keepDate);
+                    } catch (DateTimeParseException ignored) {
+                        // 无法转成日期格式，说明不是滚动策略创建的文件夹（如其它存储器的目录），不能删除
+                        return false;
+                    }
+                })
+                .toList();
+        for (var folder : folders) {
+            Filex.delete(folder);
+        }
+    }
+}
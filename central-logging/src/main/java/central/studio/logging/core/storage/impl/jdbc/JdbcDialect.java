@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.jdbc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 数据库方言
+ * <p>
+ * 只包含建表所需的差异，插入语句使用标准 SQL
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JdbcDialect {
+    H2("jdbc:h2:", "CLOB", "TIMESTAMP"),
+    MYSQL("jdbc:mysql:", "LONGTEXT", "DATETIME(3)"),
+    POSTGRESQL("jdbc:postgresql:", "TEXT", "TIMESTAMP(3)");
+
+    private final String prefix;
+    private final String clobType;
+    private final String timestampType;
+
+    /**
+     * 根据连接字符串获取方言
+     *
+     * @param url 连接字符串
+     */
+    public static JdbcDialect resolve(String url) {
+        for (var dialect : values()) {
+            if (url.startsWith(dialect.prefix)) {
+                return dialect;
+            }
+        }
+        throw new IllegalArgumentException("不支持的数据库: " + url);
+    }
+
+    /**
+     * 建表语句
+     * <p>
+     * 主键包含日志时间，方便按时间对表进行分区
+     *
+     * @param table   表名
+     * @param columns 列定义（列名、长度，长度为 0 表示大文本，-1 表示时间，-2 表示整数）
+     */
+    public List<String> ddl(String table, List<JdbcStorage.Column> columns) {
+        var create = new StringBuilder("CREATE TABLE IF NOT EXISTS ").append(table).append(" (");
+        for (var column : columns) {
+            create.append(column.name()).append(" ").append(this.type(column)).append(", ");
+        }
+        create.append("PRIMARY KEY (ID, LOG_TIME)");
+
+        if (this == MYSQL) {
+            // MySQL 不支持 CREATE INDEX IF NOT EXISTS，在建表语句中声明索引
+            create.append(", INDEX ").append(table).append("_T (LOG_TIME)")
+                    .append(", INDEX ").append(table).append("_TT (TENANT_CODE, LOG_TIME)")
+                    .append(", INDEX ").append(table).append("_TL (TENANT_CODE, LEVEL, LOG_TIME)")
+                    .append(")");
+            return List.of(create.toString());
+        }
+
+        create.append(")");
+        return List.of(create.toString(),
+                "CREATE INDEX IF NOT EXISTS " + table + "_T ON " + table + " (LOG_TIME)",
+                "CREATE INDEX IF NOT EXISTS " + table + "_TT ON " + table + " (TENANT_CODE, LOG_TIME)",
+                "CREATE INDEX IF NOT EXISTS " + table + "_TL ON " + table + " (TENANT_CODE, LEVEL, LOG_TIME)");
+    }
+
+    private String type(JdbcStorage.Column column) {
+        return switch (column.length()) {
+            case 0 -> this.clobType;
+            case -1 -> this.timestampType + " NOT NULL";
+            case -2 -> "BIGINT";
+            default -> "VARCHAR(" + column.length() + ")" + ("ID".equals(column.name()) ? " NOT NULL" : "");
+        };
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.jdbc;
+
+import central.data.log.Log;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.studio.logging.core.storage.Storage;
+import central.util.Guidx;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 数据库存储
+ * <p>
+ * 日志先进入缓冲区，凑满一批或到达刷新间隔后，通过多行 INSERT 语句在一个事务中写入数据库。
+ * 写入失败时按指数退避重试，重试期间阻塞调用方，由日志队列向采集端施加背压，不会在内存中无限缓冲日志
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+@NoArgsConstructor
+public class JdbcStorage implements Storage, InitializingBean, DisposableBean {
+
+    /**
+     * 列定义
+     *
+     * @param name   列名
+     * @param length 长度（0 表示大文本，-1 表示时间，-2 表示整数）
+     * @param getter 取值
+     */
+    public record Column(String name, int length, Function<Log, Object> getter) {
+    }
+
+    /**
+     * 单条语句最多的绑定参数数量（PostgreSQL 旧版本驱动的限制）
+     */
+    private static final int MAX_PARAMETERS = 32767;
+
+    /**
+     * 写入失败后的最长重试间隔（毫秒）
+     */
+    private static final long MAX_BACKOFF = 60000;
+
+    /**
+     * 日志表结构
+     */
+    public static final List<Column> COLUMNS = List.of(
+            new Column("ID", 32, log -> log.getId() != null ? log.getId() : Guidx.nextID()),
+            new Column("LOG_TIME", -1, log -> log.getTimestamp() != null ? log.getTimestamp() : new Timestamp(System.currentTimeMillis())),
+            new Column("TYPE", 32, Log::getType),
+            new Column("TRACE_ID", 64, Log::getTraceId),
+            new Column("LEVEL", 16, Log::getLevel),
+            new Column("TENANT_CODE", 32, Log::getTenantCode),
+            new Column("APPLICATION_ID", 32, Log::getApplicationId),
+            new Column("APPLICATION_CODE", 32, Log::getApplicationCode),
+            new Column("CONTENT", 0, Log::getContent),
+            new Column("SERVER_HOST", 64, Log::getServerHost),
+            new Column("SERVER_PORT", 16, Log::getServerPort),
+            new Column("SERVICE", 64, Log::getService),
+            new Column("VERSION", 32, Log::getVersion),
+            new Column("THREAD", 128, Log::getThread),
+            new Column("PID", 32, Log::getPid),
+            new Column("LOGGER", 256, Log::getLogger),
+            new Column("LOCATION", 256, Log::getLocation),
+            new Column("DURATION", -2, Log::getDuration),
+            new Column("REFERER", 1024, Log::getReferer),
+            new Column("USER_AGENT", 1024, Log::getUserAgent),
+            new Column("REMOTE_HOST", 64, Log::getRemoteHost),
+            new Column("METHOD", 16, Log::getMethod),
+            new Column("URL", 2048, Log::getUrl),
+            new Column("MODULE", 64, Log::getModule),
+            new Column("ACTION", 64, Log::getAction),
+            new Column("ACCOUNT_ID", 32, Log::getAccountId),
+            new Column("USERNAME", 64, Log::getUsername),
+            new Column("NAME", 64, Log::getName)
+    );
+
+    @Control(label = "说明", type = ControlType.LABEL, defaultValue = """
+            本存储器会将日志批量写入数据库，支持 H2、MySQL、PostgreSQL。首次启动时会自动创建日志表。""")
+    private String label;
+
+    @Label("连接字符串")
+    @NotBlank
+    @Control(label = "连接字符串", comment = "JDBC 连接字符串，如 jdbc:mysql://127.0.0.1:3306/logging")
+    private String url;
+
+    @Label("用户名")
+    @Control(label = "用户名", required = false)
+    private String username;
+
+    @Label("密码")
+    @Control(label = "密码", type = ControlType.PASSWORD, required = false)
+    private String password;
+
+    @Label("表名")
+    @NotBlank
+    @Pattern(regexp = "^[A-Za-z][A-Za-z0-9_]{0,29}$")
+    @Control(label = "表名", defaultValue = "X_LOG", comment = "日志表名，不存在时自动创建")
+    private String table;
+
+    @Label("批量大小")
+    @NotNull
+    @Min(1)
+    @Max(2000)
+    @Control(label = "批量大小", type = ControlType.NUMBER, defaultValue = "500", comment = "每批写入的日志行数。单条 INSERT 语句的行数受数据库绑定参数数量限制，超出时拆分为多条语句")
+    private Integer batchSize;
+
+    @Label("刷新间隔")
+    @NotNull
+    @Min(100)
+    @Max(60000)
+    @Control(label = "刷新间隔", type = ControlType.NUMBER, defaultValue = "1000", comment = "缓冲区未满时，最长等待多久写入数据库（毫秒）")
+    private Integer flushInterval;
+
+    public JdbcStorage(String url, String username, String password, String table, int batchSize, int flushInterval) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.table = table;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    private JdbcDialect dialect;
+
+    /**
+     * 行数 -> INSERT 语句
+     */
+    private final Map<Integer, String> statements = new HashMap<>();
+
+    /**
+     * 写入缓冲区
+     */
+    private List<Log> buffer = new ArrayList<>();
+
+    /**
+     * 数据库连接，只在持有本对象锁时使用
+     */
+    private Connection connection;
+
+    /**
+     * 是否已关闭，关闭后写入失败不再重试
+     */
+    private volatile boolean closed;
+
+    private ScheduledExecutorService flusher;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.dialect = JdbcDialect.resolve(this.url);
+
+        // 建表
+        try (var connection = this.connect(); var statement = connection.createStatement()) {
+            for (var sql : this.dialect.ddl(this.table, COLUMNS)) {
+                statement.execute(sql);
+            }
+        }
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.logging.jdbc@" + this.hashCode() + "-"));
+        this.flusher.scheduleWithFixedDelay(() -> {
+            try {
+                this.flush();
+            } catch (Exception ex) {
+                log.error("日志写入数据库失败: " + ex.getLocalizedMessage(), ex);
+            }
+        }, this.flushInterval, this.flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        synchronized (this) {
+            // 唤醒正在退避等待的写入，只再尝试一次
+            this.closed = true;
+            this.notifyAll();
+        }
+        if (this.flusher != null) {
+            this.flusher.shutdownNow();
+            this.flusher = null;
+        }
+        try {
+            this.flush();
+        } catch (IllegalStateException ex) {
+            log.error("关闭数据库存储器时写入日志失败: " + ex.getLocalizedMessage(), ex);
+        } finally {
+            synchronized (this) {
+                this.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 保存日志
+     * <p>
+     * 缓冲区凑满一批时同步写入数据库。数据库不可用时阻塞直到写入成功
+     *
+     * @throws IllegalStateException 存储器已关闭或等待重试时被中断，日志未写入
+     */
+    @Override
+    public void store(List<Log> logs) {
+        List<Log> full = null;
+        synchronized (this) {
+            this.buffer.addAll(logs);
+            if (this.buffer.size() >= this.batchSize) {
+                full = this.buffer;
+                this.buffer = new ArrayList<>();
+            }
+        }
+        if (full != null) {
+            this.persist(full);
+        }
+    }
+
+    /**
+     * 写入缓冲区中的日志
+     * <p>
+     * 数据库不可用时阻塞直到写入成功
+     *
+     * @throws IllegalStateException 存储器已关闭或等待重试时被中断，日志未写入
+     */
+    public void flush() {
+        List<Log> logs;
+        synchronized (this) {
+            if (this.buffer.isEmpty()) {
+                return;
+            }
+            logs = this.buffer;
+            this.buffer = new ArrayList<>();
+        }
+        this.persist(logs);
+    }
+
+    /**
+     * 写入日志，失败时按指数退避重试，直到写入成功
+     * <p>
+     * 日志只由调用方持有，不会放回缓冲区。存储器关闭后失败不再重试，抛出异常由调用方记为存储失败
+     *
+     * @throws IllegalStateException 存储器已关闭或等待重试时被中断，日志未写入
+     */
+    private synchronized void persist(List<Log> logs) {
+        long backoff = 0;
+        while (true) {
+            try {
+                this.write(logs);
+                return;
+            } catch (SQLException ex) {
+                if (this.closed) {
+                    throw new IllegalStateException("数据库存储器已关闭，" + logs.size() + " 条日志未写入: " + ex.getLocalizedMessage(), ex);
+                }
+                backoff = backoff == 0 ? this.flushInterval : Math.min(backoff * 2, MAX_BACKOFF);
+                log.error("日志写入数据库失败，{} 毫秒后重试: {}", backoff, ex.getLocalizedMessage(), ex);
+            }
+
+            try {
+                // 等待期间释放锁，关闭时可以被唤醒
+                this.wait(backoff);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("等待重试时被中断，" + logs.size() + " 条日志未写入", ex);
+            }
+        }
+    }
+
+    /**
+     * 在一个事务中写入日志，每 batchSize 行（不超过绑定参数数量限制）一条 INSERT 语句
+     * <p>
+     * 写入失败时回滚并断开连接，下次写入时重新连接
+     */
+    private synchronized void write(List<Log> logs) throws SQLException {
+        var rowsPerStatement = Math.min(this.batchSize, MAX_PARAMETERS / COLUMNS.size());
+        try {
+            if (this.connection == null || this.connection.isClosed()) {
+                this.connection = this.connect();
+                this.connection.setAutoCommit(false);
+            }
+
+            for (int from = 0; from < logs.size(); from += rowsPerStatement) {
+                var rows = logs.subList(from, Math.min(logs.size(), from + rowsPerStatement));
+                try (var statement = this.connection.prepareStatement(this.statements.computeIfAbsent(rows.size(), this::insert))) {
+                    int index = 1;
+                    for (var log : rows) {
+                        for (var column : COLUMNS) {
+                            var value = column.getter().apply(log);
+                            if (value == null) {
+                                statement.setNull(index++, column.length() == -2 ? Types.BIGINT : (column.length() == -1 ? Types.TIMESTAMP : Types.VARCHAR));
+                            } else if (value instanceof String text && column.length() > 0 && text.length() > column.length()) {
+                                // 超长的字段截断，避免整批写入失败
+                                statement.setString(index++, text.substring(0, column.length()));
+                            } else {
+                                statement.setObject(index++, value);
+                            }
+                        }
+                    }
+                    statement.executeUpdate();
+                }
+            }
+            this.connection.commit();
+        } catch (SQLException ex) {
+            this.disconnect();
+            throw ex;
+        }
+    }
+
+    /**
+     * 多行 INSERT 语句
+     *
+     * @param rows 行数
+     */
+    private String insert(int rows) {
+        var sql = new StringBuilder("INSERT INTO ").append(this.table).append(" (");
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(COLUMNS.get(i).name());
+        }
+        sql.append(") VALUES ");
+
+        var placeholders = "(" + "?, ".repeat(COLUMNS.size() - 1) + "?)";
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(this.url, this.username, this.password);
+    }
+
+    private void disconnect() {
+        if (this.connection != null) {
+            try {
+                if (!this.connection.getAutoCommit()) {
+                    this.connection.rollback();
+                }
+                this.connection.close();
+            } catch (SQLException ignored) {
+            }
+            this.connection = null;
+        }
+    }
+}
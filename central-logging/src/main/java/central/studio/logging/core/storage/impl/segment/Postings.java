@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import java.util.Arrays;
+
+/**
+ * 倒排表
+ * <p>
+ * 保存日志在段内的序号，序号只会递增，因此天然有序
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+final class Postings {
+
+    private int[] values;
+
+    private int size;
+
+    Postings() {
+        this(4);
+    }
+
+    Postings(int capacity) {
+        this.values = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * 添加序号，与最后一个序号相同时忽略
+     */
+    void add(int ordinal) {
+        if (this.size > 0 && this.values[this.size - 1] == ordinal) {
+            return;
+        }
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size + (this.size >> 1) + 1);
+        }
+        this.values[this.size++] = ordinal;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int get(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * 从 {@code from} 开始查找第一个大于等于 {@code ordinal} 的位置
+     *
+     * @return 位置，如果没有则返回 {@link #size()}
+     */
+    int ceiling(int from, int ordinal) {
+        int low = from;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.values[mid] < ordinal) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import central.data.log.Log;
+import central.util.Jsonx;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 日志段
+ * <p>
+ * 一个时间分区对应一个段。数据文件（.dat）只追加，每条记录为 4 字节长度 + JSON；
+ * 索引在写入期间保存在内存中，封存后写入索引文件（.idx），查询时按需加载并以软引用缓存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+final class Segment implements AutoCloseable {
+
+    /**
+     * 分区开始时间（包含）
+     */
+    @Getter
+    private final long start;
+
+    /**
+     * 分区结束时间（不包含）
+     */
+    @Getter
+    private final long end;
+
+    private final Path dataFile;
+
+    private final Path indexFile;
+
+    private final FileChannel channel;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 数据文件大小（下一条记录的写入位置）
+     */
+    private long size;
+
+    /**
+     * 是否已关闭（过期删除或存储关闭）
+     */
+    private boolean closed;
+
+    /**
+     * 写入中的索引，封存后为 null
+     */
+    private SegmentIndex active;
+
+    /**
+     * 已封存的索引
+     */
+    private volatile SoftReference<SegmentIndex> sealed = new SoftReference<>(null);
+
+    private Segment(long start, long end, Path directory) throws IOException {
+        this.start = start;
+        this.end = end;
+        this.dataFile = directory.resolve(start + ".dat");
+        this.indexFile = directory.resolve(start + ".idx");
+        this.channel = FileChannel.open(this.dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.size = this.channel.size();
+    }
+
+    /**
+     * 打开段，没有索引文件时扫描数据文件重建索引
+     */
+    static Segment open(long start, long end, Path directory) throws IOException {
+        var segment = new Segment(start, end, directory);
+        if (!Files.exists(segment.indexFile)) {
+            segment.active = segment.rebuild();
+        }
+        return segment;
+    }
+
+    /**
+     * 扫描数据文件重建索引，并截掉末尾不完整的记录
+     */
+    private SegmentIndex rebuild() throws IOException {
+        var index = new SegmentIndex();
+        long position = 0;
+        var header = ByteBuffer.allocate(4);
+        while (position + 4 <= this.size) {
+            header.clear();
+            this.readFully(header, position);
+            var length = header.flip().getInt();
+            if (length < 0 || position + 4 + length > this.size) {
+                break;
+            }
+            index.add(position, this.read(position + 4, length));
+            position += 4 + length;
+        }
+        if (position < this.size) {
+            log.warn("日志段[{}]末尾存在不完整的记录，已截断 {} 字节", this.dataFile, this.size - position);
+            this.channel.truncate(position);
+            this.size = position;
+        }
+        return index;
+    }
+
+    /**
+     * 追加日志
+     *
+     * @return 段已关闭时返回 false，日志没有写入
+     */
+    boolean append(List<Log> logs) throws IOException {
+        var records = new ArrayList<byte[]>(logs.size());
+        var total = 0;
+        for (var log : logs) {
+            var bytes = Jsonx.Default().serialize(log).getBytes(StandardCharsets.UTF_8);
+            records.add(bytes);
+            total += 4 + bytes.length;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed) {
+                return false;
+            }
+            if (this.active == null) {
+                // 迟到的日志写入已封存的段，重新打开索引
+                this.active = this.index();
+                Files.deleteIfExists(this.indexFile);
+                this.sealed = new SoftReference<>(null);
+            }
+
+            var buffer = ByteBuffer.allocate(total);
+            for (var bytes : records) {
+                buffer.putInt(bytes.length).put(bytes);
+            }
+            buffer.flip();
+            var position = this.size;
+            while (buffer.hasRemaining()) {
+                position += this.channel.write(buffer, position);
+            }
+
+            var offset = this.size;
+            for (int i = 0; i < logs.size(); i++) {
+                this.active.add(offset, logs.get(i));
+                offset += 4 + records.get(i).length;
+            }
+            this.size = offset;
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 封存段：刷盘并写入索引文件，释放内存中的索引
+     */
+    void seal() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            if (this.closed || this.active == null) {
+                return;
+            }
+            this.channel.force(false);
+            this.active.write(this.indexFile);
+            this.sealed = new SoftReference<>(this.active);
+            this.active = null;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    boolean isSealed() {
+        return this.active == null;
+    }
+
+    /**
+     * 获取索引
+     */
+    private SegmentIndex index() throws IOException {
+        if (this.active != null) {
+            return this.active;
+        }
+        var index = this.sealed.get();
+        if (index == null) {
+            index = SegmentIndex.read(this.indexFile);
+            this.sealed = new SoftReference<>(index);
+        }
+        return index;
+    }
+
+    /**
+     * 查询日志
+     *
+     * @param terms 需要同时命中的词，为空时匹配所有日志
+     * @param from  开始时间（包含）
+     * @param to    结束时间（不包含）
+     * @param after 从该序号之后开始查找
+     * @param limit 最多返回的数量
+     * @param hits  命中的日志
+     * @return 最后一条命中日志的序号，没有命中时返回 after
+     */
+    int search(List<String> terms, long from, long to, int after, int limit, List<Log> hits) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            if (this.closed) {
+                // 段已过期删除，跳过
+                return after;
+            }
+            var index = this.index();
+            if (index.count() == 0 || index.maxTimestamp() < from || index.minTimestamp() >= to) {
+                return after;
+            }
+
+            // 取出所有倒排表，按长度从短到长排列，以最短的倒排表驱动求交集
+            var lists = new Postings[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                lists[i] = index.postings(terms.get(i));
+                if (lists[i] == null) {
+                    return after;
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+            var last = after;
+            var count = index.count();
+            if (lists.length == 0) {
+                for (int ordinal = after + 1; ordinal < count && hits.size() < limit; ordinal++) {
+                    if (this.accept(index, ordinal, from, to, hits)) {
+                        last = ordinal;
+                    }
+                }
+                return hits.size() < limit ? count - 1 : last;
+            }
+
+            var cursors = new int[lists.length];
+            var driver = lists[0];
+            for (int i = driver.ceiling(0, after + 1); i < driver.size() && hits.size() < limit; i++) {
+                var ordinal = driver.get(i);
+                var matched = true;
+                for (int j = 1; j < lists.length; j++) {
+                    cursors[j] = lists[j].ceiling(cursors[j], ordinal);
+                    if (cursors[j] >= lists[j].size()) {
+                        // 其它倒排表已经没有更大的序号了
+                        return hits.size() < limit ? count - 1 : last;
+                    }
+                    if (lists[j].get(cursors[j]) != ordinal) {
+                        matched = false;
+                        break;
+                    }
+                }
+                if (matched && this.accept(index, ordinal, from, to, hits)) {
+                    last = ordinal;
+                }
+            }
+            return hits.size() < limit ? count - 1 : last;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 按时间过滤，并从数据文件读取日志
+     */
+    private boolean accept(SegmentIndex index, int ordinal, long from, long to, List<Log> hits) throws IOException {
+        var timestamp = index.timestamp(ordinal);
+        if (timestamp < from || timestamp >= to) {
+            return false;
+        }
+        var header = ByteBuffer.allocate(4);
+        this.readFully(header, index.offset(ordinal));
+        hits.add(this.read(index.offset(ordinal) + 4, header.flip().getInt()));
+        return true;
+    }
+
+    private Log read(long position, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        this.readFully(buffer, position);
+        return Jsonx.Default().deserialize(new String(buffer.array(), StandardCharsets.UTF_8), Log.class);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            var read = this.channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("日志段数据文件已损坏: " + this.dataFile);
+            }
+        }
+    }
+
+    /**
+     * 关闭段
+     * <p>
+     * 等待正在进行的写入与查询结束后再关闭，之后的查询跳过本段，写入返回 false
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            this.closed = true;
+            this.channel.close();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 关闭并删除段文件
+     */
+    void delete() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            this.close();
+            Files.deleteIfExists(this.indexFile);
+            Files.deleteIfExists(this.dataFile);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import central.data.log.Log;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 段索引
+ * <p>
+ * 保存每条日志的文件偏移量和时间戳，以及租户、应用、等级、类型、跟踪标识和内容分词的倒排表。
+ * 段封存后索引写入磁盘，倒排表使用差值 + 变长整数编码
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+final class SegmentIndex {
+
+    private static final int MAGIC = 0x4C4F4749;
+
+    private static final int VERSION = 1;
+
+    static final String TENANT = "t:";
+    static final String APPLICATION = "a:";
+    static final String LEVEL = "l:";
+    static final String TYPE = "y:";
+    static final String TRACE = "r:";
+    static final String WORD = "w:";
+
+    /**
+     * 序号 -> 文件偏移量
+     */
+    private long[] offsets;
+
+    /**
+     * 序号 -> 时间戳
+     */
+    private long[] timestamps;
+
+    private int count;
+
+    private long minTimestamp = Long.MAX_VALUE;
+
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    /**
+     * 词 -> 倒排表
+     */
+    private final Map<String, Postings> terms;
+
+    SegmentIndex() {
+        this(1024, new HashMap<>());
+    }
+
+    private SegmentIndex(int capacity, Map<String, Postings> terms) {
+        this.offsets = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.terms = terms;
+    }
+
+    /**
+     * 添加日志
+     *
+     * @param offset 日志在数据文件中的偏移量
+     * @param log    日志
+     */
+    void add(long offset, Log log) {
+        if (this.count == this.offsets.length) {
+            var capacity = this.count + (this.count >> 1) + 1;
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+            this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+        }
+        var ordinal = this.count++;
+        var timestamp = log.getTimestamp() == null ? 0 : log.getTimestamp().getTime();
+        this.offsets[ordinal] = offset;
+        this.timestamps[ordinal] = timestamp;
+        this.minTimestamp = Math.min(this.minTimestamp, timestamp);
+        this.maxTimestamp = Math.max(this.maxTimestamp, timestamp);
+
+        this.term(TENANT, log.getTenantCode(), ordinal);
+        this.term(APPLICATION, log.getApplicationCode(), ordinal);
+        this.term(LEVEL, lower(log.getLevel()), ordinal);
+        this.term(TYPE, lower(log.getType()), ordinal);
+        this.term(TRACE, log.getTraceId(), ordinal);
+        Tokenizer.tokenize(log.getContent(), token -> this.term(WORD, token, ordinal));
+    }
+
+    private void term(String field, String value, int ordinal) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        this.terms.computeIfAbsent(field + value, key -> new Postings()).add(ordinal);
+    }
+
+    static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    int count() {
+        return this.count;
+    }
+
+    long offset(int ordinal) {
+        return this.offsets[ordinal];
+    }
+
+    long timestamp(int ordinal) {
+        return this.timestamps[ordinal];
+    }
+
+    long minTimestamp() {
+        return this.minTimestamp;
+    }
+
+    long maxTimestamp() {
+        return this.maxTimestamp;
+    }
+
+    /**
+     * 获取倒排表
+     *
+     * @param term 词（包括字段前缀）
+     * @return 倒排表，不存在时返回 null
+     */
+    Postings postings(String term) {
+        return this.terms.get(term);
+    }
+
+    /**
+     * 将索引写入文件（先写临时文件，再原子替换）
+     */
+    void write(Path path) throws IOException {
+        var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(this.count);
+            output.writeLong(this.minTimestamp);
+            output.writeLong(this.maxTimestamp);
+
+            long previous = 0;
+            for (int i = 0; i < this.count; i++) {
+                writeVarLong(output, this.offsets[i] - previous);
+                previous = this.offsets[i];
+            }
+            previous = 0;
+            for (int i = 0; i < this.count; i++) {
+                // 时间戳不一定递增，使用 zigzag 编码
+                var delta = this.timestamps[i] - previous;
+                writeVarLong(output, (delta << 1) ^ (delta >> 63));
+                previous = this.timestamps[i];
+            }
+
+            output.writeInt(this.terms.size());
+            for (var entry : this.terms.entrySet()) {
+                output.writeUTF(entry.getKey());
+                var postings = entry.getValue();
+                writeVarLong(output, postings.size());
+                int last = 0;
+                for (int i = 0; i < postings.size(); i++) {
+                    writeVarLong(output, postings.get(i) - last);
+                    last = postings.get(i);
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 从文件读取索引
+     */
+    static SegmentIndex read(Path path) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("无法识别的索引文件: " + path);
+            }
+            var count = input.readInt();
+            var index = new SegmentIndex(Math.max(count, 1), new HashMap<>());
+            index.count = count;
+            index.minTimestamp = input.readLong();
+            index.maxTimestamp = input.readLong();
+
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += readVarLong(input);
+                index.offsets[i] = previous;
+            }
+            previous = 0;
+            for (int i = 0; i < count; i++) {
+                var zigzag = readVarLong(input);
+                previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                index.timestamps[i] = previous;
+            }
+
+            var terms = input.readInt();
+            for (int t = 0; t < terms; t++) {
+                var term = input.readUTF();
+                var size = (int) readVarLong(input);
+                var postings = new Postings(size);
+                int last = 0;
+                for (int i = 0; i < size; i++) {
+                    last += (int) readVarLong(input);
+                    postings.add(last);
+                }
+                index.terms.put(term, postings);
+            }
+            return index;
+        }
+    }
+
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("索引文件已损坏");
+    }
+}
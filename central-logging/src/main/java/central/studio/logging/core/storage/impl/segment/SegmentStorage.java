@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import central.data.log.Log;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.studio.logging.core.storage.SearchableStorage;
+import central.studio.logging.core.storage.search.LogPage;
+import central.studio.logging.core.storage.search.LogSearch;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 索引存储
+ * <p>
+ * 将日志保存到本地的日志段中，并建立索引，支持按时间范围、字段和关键字查询
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class SegmentStorage implements SearchableStorage, InitializingBean, DisposableBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, defaultValue = """
+            本存储器会将日志按时间分段保存到指定的路径中，并为租户、应用、等级、类型、跟踪标识和日志内容建立索引，可以通过日志查询接口检索日志。""")
+    private String label;
+
+    @Label("保存路径")
+    @NotBlank
+    @Control(label = "保存路径", defaultValue = "./segments", comment = "日志段存储目录，不要放在文件存储器的保存路径下。请确保该目录有足够的磁盘空间")
+    private String path;
+
+    @Label("分区时长")
+    @NotNull
+    @Min(1)
+    @Max(24)
+    @Control(label = "分区时长", type = ControlType.NUMBER, defaultValue = "1", comment = "每个日志段覆盖的时间（小时）。查询时会按时间范围跳过无关的日志段")
+    private Integer partition;
+
+    @Label("保留历史")
+    @NotNull
+    @Min(1)
+    @Max(3650)
+    @Control(label = "保留历史", type = ControlType.NUMBER, defaultValue = "7", comment = "保留指定天数的日志")
+    private Integer maxHistory;
+
+    @Label("封存延迟")
+    @Min(0)
+    @Max(1440)
+    @Control(label = "封存延迟", type = ControlType.NUMBER, required = false, defaultValue = "5", comment = "分区结束后多久封存日志段（分钟），在此之前迟到的日志不需要重新打开索引")
+    private Integer sealDelay;
+
+    private SegmentStore store;
+
+    private ScheduledExecutorService maintainer;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var grace = Duration.ofMinutes(Objects.requireNonNullElse(this.sealDelay, 5));
+        this.store = new SegmentStore(Path.of(this.path), Duration.ofHours(this.partition), Duration.ofDays(this.maxHistory), grace);
+
+        // 定时封存已结束的日志段，并清除过期的日志段
+        this.maintainer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.logging.segment@" + this.hashCode() + "-"));
+        this.maintainer.scheduleWithFixedDelay(this.store::maintain, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.maintainer != null) {
+            this.maintainer.shutdownNow();
+            this.maintainer = null;
+        }
+        if (this.store != null) {
+            this.store.close();
+            this.store = null;
+        }
+    }
+
+    @Override
+    public void store(List<Log> logs) {
+        try {
+            this.store.append(logs);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("无法写入日志段: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    @Override
+    public LogPage search(LogSearch search) throws IOException {
+        return this.store.search(search);
+    }
+}
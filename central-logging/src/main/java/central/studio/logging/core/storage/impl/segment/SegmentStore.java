@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import central.data.log.Log;
+import central.lang.Stringx;
+import central.studio.logging.core.storage.search.LogPage;
+import central.studio.logging.core.storage.search.LogSearch;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 日志段存储
+ * <p>
+ * 按时间分区管理日志段。查询时先按时间范围裁剪段，再在每个段内用倒排表求交集，
+ * 只读取命中的记录
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+public class SegmentStore implements AutoCloseable {
+
+    /**
+     * 每页最大数量
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private final Path directory;
+
+    /**
+     * 分区时长（ms）
+     */
+    private final long partition;
+
+    /**
+     * 保留时长
+     */
+    private final Duration retention;
+
+    /**
+     * 分区结束后多久封存，用于接收迟到的日志
+     */
+    private final Duration grace;
+
+    /**
+     * 分区开始时间 -> 日志段
+     */
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * @param directory 存储目录
+     * @param partition 分区时长
+     * @param retention 保留时长
+     */
+    public SegmentStore(Path directory, Duration partition, Duration retention) throws IOException {
+        this(directory, partition, retention, Duration.ofMinutes(5));
+    }
+
+    /**
+     * @param directory 存储目录
+     * @param partition 分区时长
+     * @param retention 保留时长
+     * @param grace     分区结束后多久封存
+     */
+    public SegmentStore(Path directory, Duration partition, Duration retention, Duration grace) throws IOException {
+        this.directory = directory;
+        this.partition = partition.toMillis();
+        this.retention = retention;
+        this.grace = grace;
+
+        Files.createDirectories(directory);
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                var name = file.getFileName().toString();
+                if (!name.endsWith(".dat")) {
+                    continue;
+                }
+                try {
+                    var start = Long.parseLong(name.substring(0, name.length() - ".dat".length()));
+                    this.segments.put(start, Segment.open(start, start + this.partition, directory));
+                } catch (NumberFormatException ex) {
+                    log.warn("忽略无法识别的日志段文件: {}", file);
+                }
+            }
+        }
+    }
+
+    /**
+     * 写入日志，按时间分区写入对应的段
+     */
+    public void append(List<Log> logs) throws IOException {
+        var now = System.currentTimeMillis();
+        var expired = now - this.retention.toMillis();
+
+        var groups = new TreeMap<Long, List<Log>>();
+        for (var log : logs) {
+            var timestamp = log.getTimestamp() == null ? now : log.getTimestamp().getTime();
+            if (timestamp < expired) {
+                // 已超出保留时间
+                continue;
+            }
+            groups.computeIfAbsent(Math.floorDiv(timestamp, this.partition) * this.partition, key -> new ArrayList<>()).add(log);
+        }
+
+        for (var entry : groups.entrySet()) {
+            // 段被关闭前已从 segments 中移除，因此写入失败时重新获取段即可
+            while (!this.segment(entry.getKey()).append(entry.getValue())) {
+                if (this.closed) {
+                    throw new IOException("日志段存储已关闭");
+                }
+            }
+        }
+    }
+
+    private Segment segment(long start) throws IOException {
+        if (this.closed) {
+            throw new IOException("日志段存储已关闭");
+        }
+        try {
+            return this.segments.computeIfAbsent(start, key -> {
+                try {
+                    return Segment.open(key, key + this.partition, this.directory);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * 查询日志
+     * <p>
+     * 结果按段的时间顺序、段内按写入顺序返回。游标格式为 {@code 段开始时间:段内序号}
+     */
+    public LogPage search(LogSearch search) throws IOException {
+        var from = search.getFrom() == null ? Long.MIN_VALUE : search.getFrom();
+        var to = search.getTo() == null ? Long.MAX_VALUE : search.getTo();
+        var limit = Math.max(1, Math.min(search.getLimit(), MAX_LIMIT));
+
+        // 倒排表查询条件
+        var terms = new ArrayList<String>();
+        addTerm(terms, SegmentIndex.TENANT, search.getTenantCode());
+        addTerm(terms, SegmentIndex.APPLICATION, search.getApplicationCode());
+        addTerm(terms, SegmentIndex.LEVEL, SegmentIndex.lower(search.getLevel()));
+        addTerm(terms, SegmentIndex.TYPE, SegmentIndex.lower(search.getType()));
+        addTerm(terms, SegmentIndex.TRACE, search.getTraceId());
+        Tokenizer.tokenize(search.getKeyword(), token -> {
+            if (!terms.contains(SegmentIndex.WORD + token)) {
+                terms.add(SegmentIndex.WORD + token);
+            }
+        });
+
+        // 游标
+        long cursorStart = Long.MIN_VALUE;
+        int cursorOrdinal = -1;
+        if (Stringx.isNotBlank(search.getCursor())) {
+            var parts = search.getCursor().split(":");
+            try {
+                cursorStart = Long.parseLong(parts[0]);
+                cursorOrdinal = Integer.parseInt(parts[1]);
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("无效的游标: " + search.getCursor());
+            }
+        }
+
+        // 按时间范围裁剪日志段
+        var lower = Math.max(from == Long.MIN_VALUE ? Long.MIN_VALUE : Math.floorDiv(from, this.partition) * this.partition, cursorStart);
+        var candidates = this.segments.tailMap(lower, true).headMap(to, false).values();
+
+        var hits = new ArrayList<Log>(limit);
+        for (var segment : candidates) {
+            if (segment.getEnd() <= from) {
+                continue;
+            }
+            var after = segment.getStart() == cursorStart ? cursorOrdinal : -1;
+            var last = segment.search(terms, from, to, after, limit - hits.size(), hits);
+            if (hits.size() >= limit) {
+                return new LogPage(hits, segment.getStart() + ":" + last);
+            }
+        }
+        return new LogPage(hits, null);
+    }
+
+    private static void addTerm(List<String> terms, String field, String value) {
+        if (Stringx.isNotBlank(value)) {
+            terms.add(field + value);
+        }
+    }
+
+    /**
+     * 封存已结束的分区，删除过期的分区
+     */
+    public void maintain() {
+        var now = System.currentTimeMillis();
+        var expired = now - this.retention.toMillis();
+        for (var segment : this.segments.values()) {
+            try {
+                if (segment.getEnd() < expired) {
+                    // 先移除再删除，删除时会等待正在进行的写入与查询结束，之后的查询跳过该段
+                    this.segments.remove(segment.getStart(), segment);
+                    segment.delete();
+                } else if (!segment.isSealed() && segment.getEnd() + this.grace.toMillis() < now) {
+                    segment.seal();
+                }
+            } catch (IOException ex) {
+                log.error("维护日志段[{}]失败: {}", segment.getStart(), ex.getLocalizedMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * 封存所有段，以便下次启动时不需要重建索引
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        for (var segment : this.segments.values()) {
+            // 先移除再关闭，与维护线程删除过期段的顺序一致
+            this.segments.remove(segment.getStart(), segment);
+            try {
+                segment.seal();
+                segment.close();
+            } catch (IOException ex) {
+                log.error("关闭日志段[{}]失败: {}", segment.getStart(), ex.getLocalizedMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.segment;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 全文索引分词
+ * <p>
+ * 按非字母数字字符切分，统一转为小写；中日韩表意文字逐字切分
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+final class Tokenizer {
+
+    /**
+     * 最短词长度（表意文字除外）
+     */
+    private static final int MIN_LENGTH = 2;
+
+    /**
+     * 最长词长度，超出的部分不索引
+     */
+    private static final int MAX_LENGTH = 32;
+
+    private Tokenizer() {
+    }
+
+    /**
+     * 分词
+     *
+     * @param text     文本
+     * @param consumer 词消费者（可能重复）
+     */
+    static void tokenize(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        int start = -1;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            int next = i + Character.charCount(cp);
+            if (Character.isIdeographic(cp)) {
+                emit(text, start, i, consumer);
+                start = -1;
+                consumer.accept(new String(Character.toChars(cp)));
+            } else if (Character.isLetterOrDigit(cp)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else {
+                emit(text, start, i, consumer);
+                start = -1;
+            }
+            i = next;
+        }
+        emit(text, start, text.length(), consumer);
+    }
+
+    private static void emit(String text, int start, int end, Consumer<String> consumer) {
+        if (start < 0 || end - start < MIN_LENGTH) {
+            return;
+        }
+        consumer.accept(text.substring(start, Math.min(end, start + MAX_LENGTH)).toLowerCase(Locale.ROOT));
+    }
+}
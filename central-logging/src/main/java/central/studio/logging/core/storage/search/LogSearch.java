@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 日志查询条件
+ * <p>
+ * 所有条件之间是“与”的关系，为空的条件不参与过滤
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearch implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4409512916404738470L;
+
+    /**
+     * 开始时间（包含，ms）
+     */
+    private Long from;
+    /**
+     * 结束时间（不包含，ms）
+     */
+    private Long to;
+    /**
+     * 租户标识
+     */
+    private String tenantCode;
+    /**
+     * 应用标识
+     */
+    private String applicationCode;
+    /**
+     * 等级
+     */
+    private String level;
+    /**
+     * 类型
+     */
+    private String type;
+    /**
+     * 跟踪标识
+     */
+    private String traceId;
+    /**
+     * 关键字，按分词后全部命中
+     */
+    private String keyword;
+    /**
+     * 游标，为空时从头开始查询
+     */
+    private String cursor;
+    /**
+     * 每页数量
+     */
+    private int limit;
+}
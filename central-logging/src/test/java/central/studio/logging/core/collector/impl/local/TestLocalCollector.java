@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.local;
+
+import central.data.log.Log;
+import central.studio.logging.core.collector.Collector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Local Collector Test Cases
+ *
+ * @author Alan Yeh
+ * @see LocalCollector
+ * @since 2026/10/19
+ */
+public class TestLocalCollector {
+
+    private Path dir;
+
+    private LocalCollector collector;
+
+    private final AtomicInteger collected = new AtomicInteger();
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.dir = Files.createTempDirectory("local-collector-");
+
+        this.collector = new LocalCollector();
+        this.collector.setPath(this.dir.toString());
+        this.collector.setParallelism(1);
+        // 下游处理日志时阻塞，模拟处理耗时较长的文件
+        this.collector.setDelegate(new Collector() {
+            @Override
+            public void collect(List<Log> logs) {
+                collected.addAndGet(logs.size());
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        this.release.countDown();
+        this.collector.destroy();
+        try (var files = Files.walk(this.dir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 积压的旧文件被认领后，重新扫描目录不会把它当作超时的认领放回目录，不会重复采集
+     */
+    @Test
+    public void case1() throws Exception {
+        var file = this.dir.resolve("backlog.logtmp");
+        Files.writeString(file, "[{\"content\": \"hello\"}]");
+        // 文件在采集器启动前很久就已经写入
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+
+        this.collector.afterPropertiesSet();
+        assertTrue(this.entered.await(5, TimeUnit.SECONDS));
+
+        // 处理过程中重新扫描目录
+        var claimed = this.dir.resolve("backlog.logtmp.collecting");
+        assertTrue(Files.exists(claimed));
+        this.collector.scan();
+        assertTrue(Files.exists(claimed));
+        assertFalse(Files.exists(file));
+
+        // 处理完毕后删除文件，且只采集了一次
+        this.release.countDown();
+        var deadline = System.currentTimeMillis() + 5000;
+        while (Files.exists(claimed) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(Files.exists(claimed));
+        assertEquals(1, this.collected.get());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.rabbit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 进程内消息源
+ * <p>
+ * 模拟 RabbitMQ 的 prefetch、multiple ack 与 requeue 语义，并记录每一次确认，用于在没有消息中间件的情况下测试 RabbitCollector 以及测量其吞吐量
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class InProcessMessageSource implements MessageSource {
+
+    private final Map<String, LinkedBlockingDeque<byte[]>> queues = new ConcurrentHashMap<>();
+
+    private final List<Thread> consumers = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * 已确认的消息数量
+     */
+    private final AtomicLong acked = new AtomicLong();
+
+    /**
+     * 重新入队的消息数量
+     */
+    private final AtomicLong requeued = new AtomicLong();
+
+    /**
+     * 拒绝且不重新入队的消息数量
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 每一次确认调用
+     */
+    private final List<Ack> acks = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * 确认调用
+     *
+     * @param deliveryTag 投递标识
+     * @param multiple    是否批量确认
+     * @param count       本次确认的消息数量
+     */
+    public record Ack(long deliveryTag, boolean multiple, int count) {
+    }
+
+    public void publish(String queue, byte[] body) {
+        this.queue(queue).add(body);
+    }
+
+    public long getAcked() {
+        return this.acked.get();
+    }
+
+    public long getRequeued() {
+        return this.requeued.get();
+    }
+
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    public List<Ack> getAcks() {
+        return this.acks;
+    }
+
+    private LinkedBlockingDeque<byte[]> queue(String name) {
+        return this.queues.computeIfAbsent(name, it -> new LinkedBlockingDeque<>());
+    }
+
+    @Override
+    public synchronized void subscribe(String queue, int prefetch, MessageConsumer consumer) {
+        var channel = new Channel(this.queue(queue), prefetch);
+        var thread = new Thread(() -> channel.dispatch(consumer), "in-process-consumer-" + this.consumers.size());
+        thread.setDaemon(true);
+        this.consumers.add(thread);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        this.consumers.forEach(Thread::interrupt);
+        this.consumers.clear();
+    }
+
+    private final class Channel implements MessageChannel {
+
+        private final LinkedBlockingDeque<byte[]> queue;
+
+        private final int prefetch;
+
+        /**
+         * 未确认的消息
+         */
+        private final NavigableMap<Long, byte[]> unacked = new TreeMap<>();
+
+        private long nextTag = 1;
+
+        private Channel(LinkedBlockingDeque<byte[]> queue, int prefetch) {
+            this.queue = queue;
+            this.prefetch = prefetch;
+        }
+
+        private void dispatch(MessageConsumer consumer) {
+            try {
+                while (!closed) {
+                    long tag;
+                    byte[] body;
+                    synchronized (this) {
+                        while (this.unacked.size() >= this.prefetch) {
+                            this.wait();
+                        }
+                    }
+                    body = this.queue.take();
+                    synchronized (this) {
+                        tag = this.nextTag++;
+                        this.unacked.put(tag, body);
+                    }
+                    consumer.accept(new RabbitEvent(this, tag, body));
+                }
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void ack(long deliveryTag, boolean multiple) {
+            var settled = multiple ? this.unacked.headMap(deliveryTag, true) : this.unacked.subMap(deliveryTag, true, deliveryTag, true);
+            acks.add(new Ack(deliveryTag, multiple, settled.size()));
+            acked.addAndGet(settled.size());
+            settled.clear();
+            this.notifyAll();
+        }
+
+        @Override
+        public synchronized void nack(long deliveryTag, boolean multiple, boolean requeue) {
+            var settled = multiple ? this.unacked.headMap(deliveryTag, true) : this.unacked.subMap(deliveryTag, true, deliveryTag, true);
+            if (requeue) {
+                requeued.addAndGet(settled.size());
+                // 按原顺序放回队首
+                settled.descendingMap().values().forEach(this.queue::addFirst);
+            } else {
+                dropped.addAndGet(settled.size());
+            }
+            settled.clear();
+            this.notifyAll();
+        }
+    }
+}
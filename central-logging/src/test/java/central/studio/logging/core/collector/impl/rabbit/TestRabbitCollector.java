@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.collector.impl.rabbit;
+
+import central.data.log.Log;
+import central.studio.logging.core.collector.Collector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rabbit Collector Test Cases
+ * <p>
+ * 使用进程内消息源代替 RabbitMQ
+ *
+ * @author Alan Yeh
+ * @see RabbitCollector
+ * @since 2026/10/19
+ */
+public class TestRabbitCollector {
+
+    private static final String QUEUE = "central.logging";
+
+    private InProcessMessageSource source;
+
+    private RabbitCollector collector;
+
+    /**
+     * 下游收到的每一批日志
+     */
+    private final List<List<Log>> batches = new CopyOnWriteArrayList<>();
+
+    /**
+     * 下游前几次调用失败
+     */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        this.source = new InProcessMessageSource();
+
+        this.collector = new RabbitCollector();
+        this.collector.setQueue(QUEUE);
+        this.collector.setConcurrency(1);
+        this.collector.setBatchSize(1000);
+        this.collector.setSource(this.source);
+        this.collector.setDelegate(new Collector() {
+            @Override
+            public void collect(List<Log> logs) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("日志队列已满");
+                }
+                batches.add(logs);
+            }
+        });
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        this.collector.destroy();
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            this.source.publish(QUEUE, ("[{\"content\": \"" + i + "\"}]").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "等待超时");
+            Thread.sleep(20);
+        }
+    }
+
+    private int collected() {
+        return this.batches.stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 消息数达到 prefetch 时立即交给下游，并通过一次 multiple ack 确认整批消息
+     */
+    @Test
+    public void case1() throws Exception {
+        this.collector.setPrefetch(10);
+        this.collector.afterPropertiesSet();
+
+        this.publish(30);
+        await(() -> this.source.getAcked() == 30);
+
+        assertEquals(3, this.batches.size());
+        this.batches.forEach(it -> assertEquals(10, it.size()));
+
+        assertEquals(3, this.source.getAcks().size());
+        for (var ack : this.source.getAcks()) {
+            assertTrue(ack.multiple());
+            assertEquals(10, ack.count());
+        }
+    }
+
+    /**
+     * 批次未满时，等待超时后交给下游
+     */
+    @Test
+    public void case2() throws Exception {
+        this.collector.setPrefetch(100);
+        this.collector.afterPropertiesSet();
+
+        this.publish(3);
+        await(() -> this.source.getAcked() == 3);
+
+        assertEquals(1, this.batches.size());
+        assertEquals(3, this.batches.get(0).size());
+        assertEquals(1, this.source.getAcks().size());
+        assertEquals(new InProcessMessageSource.Ack(3, true, 3), this.source.getAcks().get(0));
+    }
+
+    /**
+     * 下游拒绝时整批重新入队，之后重新投递并确认，不丢失日志
+     */
+    @Test
+    public void case3() throws Exception {
+        this.failures.set(2);
+        this.collector.setPrefetch(5);
+        this.collector.afterPropertiesSet();
+
+        this.publish(5);
+        await(() -> this.source.getAcked() == 5);
+
+        assertEquals(10, this.source.getRequeued());
+        assertEquals(0, this.source.getDropped());
+        assertEquals(5, this.collected());
+    }
+
+    /**
+     * 无法解析的消息被拒绝且不重新入队，其它消息正常确认
+     */
+    @Test
+    public void case4() throws Exception {
+        this.collector.setPrefetch(5);
+        this.collector.afterPropertiesSet();
+
+        this.publish(2);
+        this.source.publish(QUEUE, "not json".getBytes(StandardCharsets.UTF_8));
+        this.publish(2);
+        await(() -> this.source.getAcked() == 4);
+
+        assertEquals(1, this.source.getDropped());
+        assertEquals(0, this.source.getRequeued());
+        assertEquals(4, this.collected());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.pipeline;
+
+import central.data.log.Log;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ingest Queue Test Cases
+ *
+ * @author Alan Yeh
+ * @see IngestQueue
+ * @since 2026/10/19
+ */
+public class TestIngestQueue {
+
+    /**
+     * 存储器进入后阻塞，直到测试结束
+     */
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<Log> stored = new ArrayList<>();
+
+    private IngestQueue queue;
+
+    @AfterEach
+    public void cleanup() {
+        this.release.countDown();
+        if (this.queue != null) {
+            this.queue.close(Duration.ofSeconds(5));
+        }
+    }
+
+    private IngestQueue create(OverflowPolicy policy) throws InterruptedException {
+        this.queue = new IngestQueue("test", logs -> {
+            this.entered.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this.stored) {
+                this.stored.addAll(logs);
+            }
+        }, 10, policy, Duration.ofMillis(100), 100);
+
+        // 先让后台线程阻塞在存储器中，之后入队的日志都会留在队列里
+        this.queue.offer(logs(1));
+        assertTrue(this.entered.await(5, TimeUnit.SECONDS));
+        return this.queue;
+    }
+
+    private static List<Log> logs(int count) {
+        return IntStream.range(0, count).mapToObj(it -> {
+            var log = new Log();
+            log.setContent(String.valueOf(it));
+            return log;
+        }).toList();
+    }
+
+    /**
+     * 拒绝策略: 容量不足时整批拒绝，不会只入队一部分
+     */
+    @Test
+    public void case1() throws Exception {
+        var queue = this.create(OverflowPolicy.REJECT);
+
+        queue.offer(logs(6));
+        assertThrows(IngestRejectedException.class, () -> queue.offer(logs(5)));
+
+        var metrics = queue.getMetrics();
+        assertEquals(6, metrics.getDepth());
+        assertEquals(5, metrics.getRejected());
+    }
+
+    /**
+     * 预留的容量可以归还
+     */
+    @Test
+    public void case2() throws Exception {
+        var queue = this.create(OverflowPolicy.REJECT);
+
+        var reserved = queue.reserve(8);
+        assertEquals(8, reserved);
+        assertThrows(IngestRejectedException.class, () -> queue.reserve(3));
+
+        queue.cancel(reserved);
+        queue.offer(logs(10), queue.reserve(10));
+        assertEquals(10, queue.getMetrics().getDepth());
+    }
+
+    /**
+     * 阻塞策略: 等待超时后整批拒绝
+     */
+    @Test
+    public void case3() throws Exception {
+        var queue = this.create(OverflowPolicy.BLOCK);
+
+        queue.offer(logs(8));
+        assertThrows(IngestRejectedException.class, () -> queue.offer(logs(3)));
+        assertEquals(8, queue.getMetrics().getDepth());
+    }
+
+    /**
+     * 丢弃策略: 容量不足时丢弃最早的日志
+     */
+    @Test
+    public void case4() throws Exception {
+        var queue = this.create(OverflowPolicy.DROP_OLDEST);
+
+        queue.offer(logs(8));
+        queue.offer(logs(5));
+
+        var metrics = queue.getMetrics();
+        assertEquals(10, metrics.getDepth());
+        assertEquals(3, metrics.getDropped());
+
+        // 后台线程恢复后，队列中的日志全部存储
+        this.release.countDown();
+        queue.close(Duration.ofSeconds(5));
+        assertEquals(11, this.stored.size());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.logging.core.storage.impl.file.polocy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Size Rolling Policy Test Cases
+ *
+ * @author Alan Yeh
+ * @see SizeRollingPolicy
+ * @since 2026/10/19
+ */
+public class TestSizeRollingPolicy {
+
+    private Path path;
+
+    private File folder;
+
+    private SizeRollingPolicy policy;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.path = Files.createTempDirectory("rolling-");
+        this.folder = this.path.resolve(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))).toFile();
+        assertTrue(this.folder.mkdirs());
+        // 不压缩，只验证选择的文件
+        this.policy = new SizeRollingPolicy(this.path.toString(), 7, 1024, file -> {
+        });
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        this.policy.close();
+        try (var files = Files.walk(this.path)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 没有日志文件时从 1 开始
+     */
+    @Test
+    public void case1() throws IOException {
+        assertEquals(new File(this.folder, "0001.log"), this.policy.getFile());
+    }
+
+    /**
+     * 最后一个文件还没有压缩时，继续向它追加
+     */
+    @Test
+    public void case2() throws IOException {
+        Files.createFile(this.folder.toPath().resolve("0001.log.gz"));
+        Files.createFile(this.folder.toPath().resolve("0002.log"));
+
+        assertEquals(new File(this.folder, "0002.log"), this.policy.getFile());
+    }
+
+    /**
+     * 最后一个文件已经压缩时，使用下一个序号，不重新打开已压缩的文件
+     */
+    @Test
+    public void case3() throws IOException {
+        Files.createFile(this.folder.toPath().resolve("0001.log.gz"));
+        Files.createFile(this.folder.toPath().resolve("0002.log.gz"));
+
+        assertEquals(new File(this.folder, "0003.log"), this.policy.getFile());
+    }
+
+    /**
+     * 最后一个文件正在压缩时（原文件与压缩文件同时存在），使用下一个序号
+     */
+    @Test
+    public void case4() throws IOException {
+        Files.createFile(this.folder.toPath().resolve("0002.log"));
+        Files.createFile(this.folder.toPath().resolve("0002.log.gz"));
+
+        assertEquals(new File(this.folder, "0003.log"), this.policy.getFile());
+    }
+
+    /**
+     * 清理过期日志时，只删除按日期命名的过期文件夹，不删除其它目录（如其它存储器的目录）
+     */
+    @Test
+    public void case5() throws IOException {
+        var expired = this.path.resolve(LocalDate.now().minusDays(30).format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))).toFile();
+        assertTrue(expired.mkdirs());
+        var segments = this.path.resolve("segments").toFile();
+        assertTrue(segments.mkdirs());
+        Files.createFile(segments.toPath().resolve("0001.seg"));
+        var readme = Files.createFile(this.path.resolve("README")).toFile();
+
+        // 启动时在后台清理，关闭时等待清理完成
+        this.policy.getFile();
+        this.policy.close();
+
+        assertFalse(expired.exists());
+        assertTrue(this.folder.exists());
+        assertTrue(new File(segments, "0001.seg").exists());
+        assertTrue(readme.exists());
+    }
+}
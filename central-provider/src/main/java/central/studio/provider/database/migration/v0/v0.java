@@ -41,5 +41,6 @@ public interface v0 {
             new v0_0_3_log(),
             new v0_0_4_storage(),
             new v0_0_5_multicast(),
-            new v0_0_6_gateway());
+            new v0_0_6_gateway(),
+            new v0_0_7_storage());
 }
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.provider.database.migration.v0;
+
+import central.sql.datasource.migration.*;
+import central.util.Version;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 存储对象索引
+ * <p>
+ * 秒传按存储桶和摘要查询，对象列表按租户和存储桶查询。
+ * 存储键（KEY）长度为 2048，超过了部份数据库（如 MySQL）的索引长度限制，因此不建立索引。
+ * 回收数据前查询存储键是否仍被引用时，存储键就是摘要的存储桶（如本地存储桶）改为按摘要查询。
+ * 多个存储桶可能使用相同的存储位置，这个查询不限定存储桶，因此摘要需要单独建立索引
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class v0_0_7_storage extends Migration {
+    private static final List<Index> INDIES = List.of(
+            Index.of("X_SOBJ_BD", false, "BUCKET_ID", "DIGEST"),
+            Index.of("X_SOBJ_DIGEST", false, "DIGEST"),
+            Index.of("X_SOBJ_TB", false, "TENANT_CODE", "BUCKET_ID")
+    );
+
+    public v0_0_7_storage() {
+        super(Version.of("0.0.6"), Version.of("0.0.7"));
+    }
+
+    @Override
+    public void upgrade(Database database) throws SQLException {
+        {
+            // 存储对象
+            var table = database.getTable("X_STO_OBJECT");
+            if (table != null) {
+                for (var index : INDIES) {
+                    table.addIndex(index);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void downgrade(Database database) throws SQLException {
+        {
+            // 存储对象
+            var table = database.getTable("X_STO_OBJECT");
+            if (table != null) {
+                for (var index : INDIES) {
+                    table.dropIndex(index.getName());
+                }
+            }
+        }
+    }
+}
@@ -31,8 +31,16 @@ import central.starter.probe.EnableProbe;
 import central.studio.storage.core.BucketCache;
 import central.studio.storage.core.BucketResolver;
 import central.studio.storage.core.DefaultBucketResolver;
+import central.studio.storage.core.MultipartSession;
 import central.studio.storage.core.cache.LocalCache;
+import central.studio.storage.core.cache.ObjectCache;
+import central.studio.storage.core.cache.TokenCache;
+import central.studio.storage.core.session.CacheMultipartSession;
+import central.studio.storage.core.session.LocalMultipartSession;
+import central.util.cache.CacheRepository;
+import central.util.cache.redis.RedisCacheRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -63,6 +71,56 @@ public class StorageConfiguration {
         return new LocalCache(Path.of("tmp", "storage"));
     }
 
+    /**
+     * 热点对象缓存
+     */
+    @Bean
+    public ObjectCache objectCache(StorageProperties properties) {
+        var cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            // 不缓存任何对象
+            return new ObjectCache(-1, 0, cache.getTimeout());
+        }
+        return new ObjectCache(cache.getMaxObjectSize().toBytes(), cache.getCapacity().toBytes(), cache.getTimeout());
+    }
+
+    /**
+     * 访问凭证缓存
+     */
+    @Bean
+    public TokenCache tokenCache(StorageProperties properties) {
+        return new TokenCache(properties.getToken().getCapacity(), properties.getToken().getTimeout());
+    }
+
+    /**
+     * 分片上传会话缓存仓库
+     * <p>
+     * 不参与按类型注入，避免与其它模块（如认证中心）声明的缓存仓库冲突
+     */
+    @Bean(autowireCandidate = false)
+    @ConditionalOnProperty(name = "central.storage.multipart.session", havingValue = "redis")
+    public CacheRepository multipartCacheRepository() {
+        return new RedisCacheRepository();
+    }
+
+    /**
+     * 分片上传会话（Redis）
+     */
+    @Bean
+    @ConditionalOnProperty(name = "central.storage.multipart.session", havingValue = "redis")
+    public MultipartSession redisMultipartSession(StorageProperties properties) {
+        return new CacheMultipartSession(this.multipartCacheRepository(), properties.getMultipart().getTimeout());
+    }
+
+    /**
+     * 分片上传会话（本地）
+     */
+    @Bean
+    @ConditionalOnMissingBean(MultipartSession.class)
+    public MultipartSession localMultipartSession(StorageProperties properties) throws IOException {
+        return new LocalMultipartSession(Path.of("tmp", "storage-multiparts"), properties.getMultipart().getTimeout());
+    }
+
     /**
      * 存储桶类型解析器
      */
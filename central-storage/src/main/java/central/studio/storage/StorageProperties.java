@@ -24,7 +24,11 @@
 
 package central.studio.storage;
 
+import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * 存储中心配置
@@ -32,6 +36,117 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @author Alan Yeh
  * @since 2022/10/30
  */
+@Data
 @ConfigurationProperties("central.storage")
 public class StorageProperties {
+    /**
+     * 分片上传配置
+     */
+    private MultipartProperties multipart = new MultipartProperties();
+
+    /**
+     * 热点对象缓存配置
+     */
+    private ObjectCacheProperties cache = new ObjectCacheProperties();
+
+    /**
+     * 访问凭证缓存配置
+     */
+    private TokenCacheProperties token = new TokenCacheProperties();
+
+    /**
+     * 对象回收配置
+     */
+    private CollectorProperties collector = new CollectorProperties();
+
+    /**
+     * 分片上传配置
+     */
+    @Data
+    public static class MultipartProperties {
+        /**
+         * 会话存储类型
+         * <p>
+         * local: 保存在本地目录（默认）；redis: 保存在 Redis 中。
+         * 注意分片数据始终缓存在接收该分片的节点本地，同一会话的所有分片必须上传到同一个节点（如按会话保持负载均衡）
+         */
+        private String session = "local";
+        /**
+         * 会话有效期（从最后一次上传分片开始计算）
+         */
+        private Duration timeout = Duration.ofHours(24);
+        /**
+         * 失效会话清理间隔
+         */
+        private Duration sweepInterval = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 热点对象缓存配置
+     */
+    @Data
+    public static class ObjectCacheProperties {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+        /**
+         * 可缓存对象的最大大小
+         */
+        private DataSize maxObjectSize = DataSize.ofKilobytes(256);
+        /**
+         * 缓存总容量
+         */
+        private DataSize capacity = DataSize.ofMegabytes(64);
+        /**
+         * 缓存有效期（多节点部署时，其它节点删除或修改对象后，本节点的缓存最长在该时间后失效）
+         */
+        private Duration timeout = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 访问凭证缓存配置
+     */
+    @Data
+    public static class TokenCacheProperties {
+        /**
+         * 最多缓存的凭证数量，为 0 时不缓存凭证（仍然会缓存凭证校验器）
+         */
+        private int capacity = 10000;
+        /**
+         * 凭证缓存有效期（不会超过凭证本身的有效期）
+         */
+        private Duration timeout = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 对象回收配置
+     */
+    @Data
+    public static class CollectorProperties {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+        /**
+         * 回收间隔
+         */
+        private Duration interval = Duration.ofHours(1);
+        /**
+         * 未确认对象的保留时长，超过该时长仍未确认的对象将被删除
+         */
+        private Duration unconfirmedTimeout = Duration.ofDays(1);
+        /**
+         * 孤立数据的保留时长，只回收超过该时长未修改的数据，避免回收正在上传（数据已保存、对象信息未保存）的数据
+         */
+        private Duration orphanTimeout = Duration.ofHours(1);
+        /**
+         * 每页处理的数量
+         */
+        private int pageSize = 1000;
+        /**
+         * 每个存储桶每次回收最多处理的页数，未处理完的部分在下次回收时继续
+         */
+        private int maxPages = 100;
+    }
 }
@@ -30,23 +30,27 @@ import central.lang.Assertx;
 import central.lang.Stringx;
 import central.provider.graphql.storage.StorageObjectProvider;
 import central.sql.query.Conditions;
-import central.starter.webmvc.render.FileRender;
 import central.storage.client.Permission;
 import central.storage.client.data.Multipart;
 import central.studio.storage.controller.param.*;
 import central.studio.storage.controller.query.DetailsQuery;
 import central.studio.storage.controller.query.DownloadQuery;
 import central.studio.storage.controller.query.ListQuery;
-import central.studio.storage.core.BucketCache;
+import central.studio.storage.controller.render.ObjectRender;
 import central.studio.storage.core.BucketContainer;
+import central.studio.storage.core.DigestMismatchException;
 import central.studio.storage.core.DynamicBucket;
-import central.studio.storage.core.stream.CacheObjectStream;
+import central.studio.storage.core.MultipartAssembler;
+import central.studio.storage.core.MultipartSession;
+import central.studio.storage.core.ObjectReclaimer;
+import central.studio.storage.core.ObjectStream;
+import central.studio.storage.core.cache.ObjectCache;
+import central.studio.storage.core.cache.TokenCache;
+import central.studio.storage.core.stream.BytesObjectStream;
 import central.studio.storage.core.stream.MultipartFileObjectStream;
 import central.util.Listx;
 import central.util.Objectx;
 import central.web.XForwardedHeaders;
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.AlgorithmMismatchException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
@@ -64,9 +68,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * 存储对象上传下载接口
@@ -84,6 +86,15 @@ public class ObjectController {
     @Setter(onMethod_ = @Autowired)
     private StorageObjectProvider provider;
 
+    @Setter(onMethod_ = @Autowired)
+    private ObjectReclaimer reclaimer;
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectCache objectCache;
+
+    @Setter(onMethod_ = @Autowired)
+    private TokenCache tokenCache;
+
     /**
      * 校验访问对象的凭证是否有效以及是否包要求的权限
      *
@@ -96,8 +107,7 @@ public class ObjectController {
         DecodedJWT jwt;
 
         try {
-            jwt = JWT.require(Algorithm.HMAC256(bucket.getData().getApplication().getSecret())).build()
-                    .verify(token);
+            jwt = this.tokenCache.verify(bucket.getData().getApplication().getSecret(), token);
         } catch (AlgorithmMismatchException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "访问凭证[token]无效: 签名算法不匹配");
         } catch (SignatureVerificationException ex) {
@@ -166,7 +176,7 @@ public class ObjectController {
         this.validate(params.getToken(), bucket, Permission.CREATE, null);
 
         var stream = new MultipartFileObjectStream(params.getFile());
-        // 将对象保存到存储桶中
+        // 将对象保存到存储桶中（保存时同时计算摘要）
         var key = bucket.store(stream);
 
         // 保存数据
@@ -249,7 +259,10 @@ public class ObjectController {
         var inputs = objects.stream()
                 .map(it -> it.toInput().toBuilder().confirmed(Boolean.TRUE).build())
                 .toList();
-        return (long) this.provider.updateBatch(inputs, Objectx.getOrDefault(accountId, "syssa"), tenant).size();
+        var count = (long) this.provider.updateBatch(inputs, Objectx.getOrDefault(accountId, "syssa"), tenant).size();
+        // 对象信息已修改
+        objects.forEach(it -> this.objectCache.invalidate(ObjectCache.getKey(tenant, bucket.getData().getId(), it.getId())));
+        return count;
     }
 
     /**
@@ -266,22 +279,32 @@ public class ObjectController {
         var bucket = this.container.requireBucket(tenant, code);
         this.validate(params.getToken(), bucket, Permission.DELETE, params.getIds());
 
-        var objects = this.provider.findBy(null, null,
-                Conditions.of(StorageObject.class).eq(StorageObject::getBucketId, bucket.getData().getId()).in(StorageObject::getId, params.getIds()),
-                null, tenant);
-
-        for (var object : objects) {
-            // 如果有多个文件引用同一个存储键的话，则删除文件
-            var count = this.provider.countBy(Conditions.of(StorageObject.class)
-                    .eq(StorageObject::getBucketId, bucket.getData().getId())
-                    .eq(StorageObject::getKey, object.getKey()));
-            if (count == 1) {
-                // 如果只有一个文件引用，删除文件
-                bucket.delete(object.getKey());
+        var ids = params.getIds().stream().distinct().toList();
+
+        // 查询待删除对象的存储键，分批查询，避免 in 条件过长
+        var keys = new HashSet<String>();
+        var objectIds = new ArrayList<String>(ids.size());
+        for (int i = 0; i < ids.size(); i += ObjectReclaimer.BATCH_SIZE) {
+            var objects = this.provider.findBy(null, null,
+                    Conditions.of(StorageObject.class).eq(StorageObject::getBucketId, bucket.getData().getId()).in(StorageObject::getId, ids.subList(i, Math.min(i + ObjectReclaimer.BATCH_SIZE, ids.size()))),
+                    null, tenant);
+            for (var object : objects) {
+                keys.add(object.getKey());
+                objectIds.add(object.getId());
             }
         }
+        if (objectIds.isEmpty()) {
+            return 0L;
+        }
 
-        return this.provider.deleteByIds(params.getIds(), tenant);
+        // 先删除对象信息
+        var count = this.provider.deleteByIds(objectIds, tenant);
+        objectIds.forEach(it -> this.objectCache.invalidate(ObjectCache.getKey(tenant, bucket.getData().getId(), it)));
+
+        // 在后台删除不再被引用的数据（多个对象可能引用同一个存储键）
+        this.reclaimer.reclaim(bucket, keys);
+
+        return count;
     }
 
     /**
@@ -346,54 +369,66 @@ public class ObjectController {
         this.validate(query.getToken(), bucket, Permission.VIEW, List.of(query.getId()));
 
         // 查询对象信息
-        var objects = this.provider.findBy(null, null,
-                Conditions.of(StorageObject.class).eq(StorageObject::getBucketId, bucket.getData().getId()).eq(StorageObject::getId, query.getId()),
-                null, tenant);
-        var object = Listx.getFirstOrNull(objects);
-        if (object == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("对象[id={}]不存在", query.getId()));
-        }
+        StorageObject object;
+        ObjectStream stream;
+
+        var cacheKey = ObjectCache.getKey(tenant, bucket.getData().getId(), query.getId());
+        var cached = this.objectCache.get(cacheKey);
+        if (cached != null && cached.data() != null) {
+            // 热点小对象，不需要查询对象信息和读取磁盘
+            object = cached.object();
+            stream = new BytesObjectStream(object.getName(), cached.data());
+        } else if (cached != null) {
+            // 已缓存对象信息，不需要查询数据中心
+            object = cached.object();
+            stream = bucket.get(object.getKey());
+            if (stream == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("对象[id={}]不存在", query.getId()));
+            }
+        } else {
+            var objects = this.provider.findBy(null, null,
+                    Conditions.of(StorageObject.class).eq(StorageObject::getBucketId, bucket.getData().getId()).eq(StorageObject::getId, query.getId()),
+                    null, tenant);
+            object = Listx.getFirstOrNull(objects);
+            if (object == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("对象[id={}]不存在", query.getId()));
+            }
 
-        // 获取对象数据流
-        var stream = bucket.get(object.getKey());
-        if (stream == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("对象[id={}]不存在", query.getId()));
+            // 获取对象数据流
+            stream = bucket.get(object.getKey());
+            if (stream == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("对象[id={}]不存在", query.getId()));
+            }
+
+            if (this.objectCache.isCacheable(object.getSize())) {
+                // 小对象读入内存并缓存
+                var data = stream.getBytes();
+                this.objectCache.put(cacheKey, object, data);
+                stream = new BytesObjectStream(object.getName(), data);
+            } else {
+                this.objectCache.put(cacheKey, object, null);
+            }
         }
 
-        // 返回数据流
-        new FileRender(request, response)
-                .setInputStream(stream.getInputStream())
+        // 返回数据流（支持范围请求与条件请求）
+        new ObjectRender(request, response)
+                .setStream(stream)
                 .setFileName(Objectx.getOrDefault(query.getFilename(), object.getName()))
                 .setContentDisposition(query.getContentDisposition())
                 .setContentType(Objectx.getOrDefault(query.getContentType(), MediaType.APPLICATION_OCTET_STREAM_VALUE))
                 .setContentLength(object.getSize())
                 .setDigest(object.getDigest())
                 .render();
-
-//        if (stream.isResumable()){
-//            new ResumableFileRender(request, response)
-//                    .setFile()
-//        } else {
-//            new FileRender(request, response)
-//                    .setInputStream(stream.getInputStream())
-//                    .setFileName(Objectx.getOrDefault(query.getFilename(), object.getName()))
-//                    .setContentDisposition(query.getContentDisposition())
-//                    .setContentType(query.getContentType())
-//                    .setContentLength(object.getSize())
-//                    .setDigest(object.getDigest())
-//                    .render();
-//        }
-
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // 分片上传
 
-
-    private final Map<String, Multipart> multiparts = new ConcurrentHashMap<>();
+    @Setter(onMethod_ = @Autowired)
+    private MultipartSession multiparts;
 
     @Setter(onMethod_ = @Autowired)
-    private BucketCache cache;
+    private MultipartAssembler assembler;
 
     /**
      * 创建分片上传
@@ -405,12 +440,20 @@ public class ObjectController {
     @PostMapping("/multiparts")
     public Multipart createMultipart(@PathVariable String code,
                                      @Validated @RequestBody CreateMultipartParams params,
-                                     @RequestHeader(XForwardedHeaders.TENANT) String tenant) {
+                                     @RequestHeader(XForwardedHeaders.TENANT) String tenant) throws IOException {
         var bucket = this.container.requireBucket(tenant, code);
         this.validate(params.getToken(), bucket, Permission.CREATE, null);
 
         var multipart = new Multipart(params.getDigest(), params.getSize());
-        this.multiparts.put(multipart.getId(), multipart);
+        // 先保存会话，避免清理任务把还没有会话的组装文件当作失效数据删除
+        this.multiparts.save(multipart);
+        try {
+            // 预分配组装文件，各分片上传后直接写入对应位置
+            this.assembler.create(multipart);
+        } catch (IOException | RuntimeException ex) {
+            this.multiparts.remove(multipart.getId());
+            throw ex;
+        }
         return multipart;
     }
 
@@ -428,20 +471,28 @@ public class ObjectController {
         var bucket = this.container.requireBucket(tenant, code);
         this.validate(params.getToken(), bucket, Permission.CREATE, null);
 
-        var multipart = this.multiparts.get(params.getId());
+        var multipart = this.multiparts.find(params.getId());
         if (multipart == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "未找分指定分片上传任务");
         }
         if (!multipart.getChunks().contains(params.getChunkIndex())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "未找到指定下标分片");
         }
-        if (params.getChunk().getSize() > multipart.getChunkSize()) {
+        if (params.getChunk().getSize() != MultipartAssembler.getChunkSize(multipart, params.getChunkIndex())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "分片大小与分片任务不匹配");
         }
-        // 保存分片数据到缓存里
-        this.cache.put(multipart.getId() + "_" + params.getChunkIndex(), params.getChunk().getInputStream());
-        // 删除缓存中的下标
-        multipart.getChunks().remove(params.getChunkIndex());
+        // 将分片数据写入组装文件的对应位置，不同分片可以并行上传
+        try {
+            this.assembler.write(multipart, params.getChunkIndex(), params.getChunk().getInputStream(), params.getChunkDigest());
+        } catch (DigestMismatchException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "分片摘要不匹配");
+        }
+        // 标记分片已上传
+        multipart = this.multiparts.complete(multipart.getId(), params.getChunkIndex());
+        if (multipart == null) {
+            // 上传过程中会话失效了
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "未找分指定分片上传任务");
+        }
 
         return multipart;
     }
@@ -462,7 +513,7 @@ public class ObjectController {
         var bucket = this.container.requireBucket(tenant, code);
         this.validate(params.getToken(), bucket, Permission.CREATE, null);
 
-        var multipart = this.multiparts.get(params.getId());
+        var multipart = this.multiparts.find(params.getId());
         if (multipart == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "未找分指定分片上传任务");
         }
@@ -471,17 +522,19 @@ public class ObjectController {
         }
 
         try {
-            var chunkKeys = IntStream.range(0, multipart.getChunkCount().intValue()).mapToObj(it -> multipart.getId() + "_" + it).toList();
-            var stream = new CacheObjectStream(this.cache, chunkKeys, params.getFilename(), multipart.getSize());
+            // 分片已组装完毕，摘要也已在上传过程中计算好，保存时只需要移动组装文件
+            var stream = this.assembler.complete(multipart, params.getFilename());
+            // 保存时校验文件是否完整
+            stream.setExpectedDigest(multipart.getDigest());
 
-            // 校验文件是否完整
-            if (!Objects.equals(multipart.getDigest(), stream.getDigest())) {
+            // 将对象保存到存储桶里
+            String key;
+            try {
+                key = bucket.store(stream);
+            } catch (DigestMismatchException ex) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "文件摘要不匹配");
             }
 
-            // 将对象保存到存储桶里
-            var key = bucket.store(stream);
-
             var input = StorageObjectInput.builder()
                     .bucketId(bucket.getData().getId())
                     .name(params.getFilename())
@@ -518,14 +571,9 @@ public class ObjectController {
         this.validate(params.getToken(), bucket, Permission.CREATE, null);
 
         var multipart = this.multiparts.remove(params.getId());
+        // 删除组装文件（完成上传后组装文件已被移走）
+        this.assembler.remove(params.getId());
 
-        if (multipart == null) {
-            return 0L;
-        }
-
-        var chunkKeys = IntStream.range(0, multipart.getChunkCount().intValue()).mapToObj(it -> multipart.getId() + "_" + it).toList();
-        this.cache.delete(chunkKeys);
-
-        return 1L;
+        return multipart == null ? 0L : 1L;
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.controller;
+
+import central.studio.storage.core.ObjectCollector;
+import central.studio.storage.core.cache.ObjectCache;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 存储中心运行指标
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@RestController
+@RequestMapping("/storage/api/metrics")
+public class StorageMetricsController {
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectCache cache;
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectCollector collector;
+
+    /**
+     * 热点对象缓存指标（命中数、未命中数、淘汰数等）
+     */
+    @GetMapping("/cache")
+    public ObjectCache.Metrics cache() {
+        return this.cache.getMetrics();
+    }
+
+    /**
+     * 对象回收指标（遍历速度、已释放的字节数等）
+     */
+    @GetMapping("/collector")
+    public ObjectCollector.Metrics collector() {
+        return this.collector.getMetrics();
+    }
+}
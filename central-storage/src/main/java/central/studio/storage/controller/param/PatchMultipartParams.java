@@ -66,4 +66,8 @@ public class PatchMultipartParams implements Serializable {
     @Label("分片下标")
     @NotNull
     private Integer chunkIndex;
+
+    @Label("分片摘要")
+    @Size(max = 64)
+    private String chunkDigest;
 }
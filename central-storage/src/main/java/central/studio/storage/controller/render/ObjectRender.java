@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.controller.render;
+
+import central.lang.Stringx;
+import central.studio.storage.core.ObjectStream;
+import central.util.Guidx;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 对象下载渲染
+ * <p>
+ * 支持条件请求（If-None-Match）与范围请求（Range、If-Range，单范围与多范围）。
+ * 对象保存在本地磁盘且响应体只有一段内容时，交给 Tomcat 通过 sendfile 发送（零拷贝）；
+ * 其它情况（容器不支持 sendfile、多范围请求）仍通过缓冲区将数据复制到 Servlet 输出流。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class ObjectRender {
+
+    /**
+     * Tomcat sendfile 相关请求属性
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 多范围请求中，最多返回的范围数量
+     */
+    private static final int MAX_RANGES = 16;
+
+    private final HttpServletRequest request;
+
+    private final HttpServletResponse response;
+
+    private ObjectStream stream;
+
+    private String fileName;
+
+    private String contentDisposition;
+
+    private String contentType;
+
+    private long contentLength;
+
+    private String digest;
+
+    public ObjectRender(HttpServletRequest request, HttpServletResponse response) {
+        this.request = request;
+        this.response = response;
+    }
+
+    public ObjectRender setStream(ObjectStream stream) {
+        this.stream = stream;
+        return this;
+    }
+
+    public ObjectRender setFileName(String fileName) {
+        this.fileName = fileName;
+        return this;
+    }
+
+    /**
+     * @param contentDisposition inline 或 attachment，默认 attachment
+     */
+    public ObjectRender setContentDisposition(String contentDisposition) {
+        this.contentDisposition = contentDisposition;
+        return this;
+    }
+
+    public ObjectRender setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public ObjectRender setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+        return this;
+    }
+
+    /**
+     * @param digest 对象摘要，作为 ETag
+     */
+    public ObjectRender setDigest(String digest) {
+        this.digest = digest;
+        return this;
+    }
+
+    public void render() throws IOException {
+        var etag = Stringx.isNullOrBlank(this.digest) ? null : "\"" + this.digest + "\"";
+        if (etag != null) {
+            this.response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        this.response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 条件请求：客户端缓存的版本与当前对象一致
+        if (etag != null && matches(this.request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            this.response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        var contentType = Stringx.isNullOrBlank(this.contentType) ? MediaType.APPLICATION_OCTET_STREAM_VALUE : this.contentType;
+        this.response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                .builder(Stringx.isNullOrBlank(this.contentDisposition) ? "attachment" : this.contentDisposition)
+                .filename(this.fileName, StandardCharsets.UTF_8)
+                .build().toString());
+
+        var ranges = this.ranges(etag);
+        if (ranges == null) {
+            // 完整内容
+            this.response.setStatus(HttpServletResponse.SC_OK);
+            this.response.setContentType(contentType);
+            this.response.setContentLengthLong(this.contentLength);
+            if (!"HEAD".equalsIgnoreCase(this.request.getMethod())) {
+                this.transfer(0, this.contentLength, true);
+            }
+            return;
+        }
+
+        // 校验范围
+        var regions = new ArrayList<long[]>(ranges.size());
+        for (var range : ranges) {
+            try {
+                var start = range.getRangeStart(this.contentLength);
+                var end = range.getRangeEnd(this.contentLength);
+                regions.add(new long[]{start, end - start + 1});
+            } catch (IllegalArgumentException ex) {
+                // 范围不可满足（如起始位置超出对象大小）
+            }
+        }
+        if (regions.isEmpty()) {
+            this.response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            this.response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + this.contentLength);
+            return;
+        }
+
+        this.response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        var head = "HEAD".equalsIgnoreCase(this.request.getMethod());
+
+        if (regions.size() == 1) {
+            // 单范围
+            var region = regions.get(0);
+            this.response.setContentType(contentType);
+            this.response.setContentLengthLong(region[1]);
+            this.response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, this.contentLength));
+            if (!head) {
+                this.transfer(region[0], region[1], true);
+            }
+            return;
+        }
+
+        // 多范围（multipart/byteranges）
+        var boundary = Guidx.nextID();
+        var parts = new ArrayList<byte[]>(regions.size());
+        long length = 0;
+        for (var region : regions) {
+            var part = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, this.contentLength) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            parts.add(part);
+            length += part.length + region[1];
+        }
+        var end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        length += end.length;
+
+        this.response.setContentType("multipart/byteranges; boundary=" + boundary);
+        this.response.setContentLengthLong(length);
+        if (head) {
+            return;
+        }
+
+        var output = this.response.getOutputStream();
+        for (int i = 0; i < regions.size(); i++) {
+            output.write(parts.get(i));
+            this.transfer(regions.get(i)[0], regions.get(i)[1], false);
+        }
+        output.write(end);
+        output.flush();
+    }
+
+    /**
+     * 解析范围请求
+     *
+     * @param etag 当前对象的 ETag
+     * @return 不是范围请求或需要返回完整内容时，返回 null
+     */
+    private List<HttpRange> ranges(String etag) {
+        var header = this.request.getHeader(HttpHeaders.RANGE);
+        if (Stringx.isNullOrBlank(header)) {
+            return null;
+        }
+
+        // If-Range 不匹配时，说明客户端已有的部分数据已过期，需要返回完整内容
+        // 只支持强 ETag 比较，日期形式的 If-Range 一律视为不匹配
+        var ifRange = this.request.getHeader(HttpHeaders.IF_RANGE);
+        if (Stringx.isNotBlank(ifRange) && (etag == null || !etag.equals(ifRange.trim()))) {
+            return null;
+        }
+
+        try {
+            var ranges = HttpRange.parseRanges(header);
+            if (ranges.isEmpty() || ranges.size() > MAX_RANGES) {
+                return null;
+            }
+            return ranges;
+        } catch (IllegalArgumentException ex) {
+            // 无法解析的 Range 头，忽略
+            return null;
+        }
+    }
+
+    /**
+     * 判断 If-None-Match 是否匹配（弱比较）
+     */
+    private static boolean matches(String header, String etag) {
+        if (Stringx.isNullOrBlank(header)) {
+            return false;
+        }
+        for (var candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if ("*".equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String contentRange(long[] region, long length) {
+        return "bytes " + region[0] + "-" + (region[0] + region[1] - 1) + "/" + length;
+    }
+
+    /**
+     * 传输对象指定区域的数据
+     *
+     * @param position 起始位置
+     * @param count    字节数
+     * @param only     是否是响应体中唯一的内容（可以使用 sendfile）
+     */
+    private void transfer(long position, long count, boolean only) throws IOException {
+        var file = this.stream.getFile();
+        if (file != null) {
+            if (only && Boolean.TRUE.equals(this.request.getAttribute(SENDFILE_SUPPORT))) {
+                // 交给 Tomcat 在请求结束后通过 sendfile 发送
+                this.request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+                this.request.setAttribute(SENDFILE_START, position);
+                this.request.setAttribute(SENDFILE_END, position + count);
+                return;
+            }
+
+            // Servlet 输出流不是文件或 Socket 通道，FileChannel#transferTo 到它也会经过缓冲区复制，
+            // 因此这里只利用文件通道直接定位到起始位置，避免逐字节跳过
+            try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                copy(Channels.newInputStream(channel.position(position)), this.response.getOutputStream(), count);
+            }
+            return;
+        }
+
+        try (var input = this.stream.getInputStream()) {
+            skip(input, position);
+            copy(input, this.response.getOutputStream(), count);
+        }
+    }
+
+    private static void skip(InputStream input, long count) throws IOException {
+        while (count > 0) {
+            var skipped = input.skip(count);
+            if (skipped <= 0) {
+                if (input.read() < 0) {
+                    throw new IOException("对象数据不完整");
+                }
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    private static void copy(InputStream input, OutputStream output, long count) throws IOException {
+        var buffer = new byte[64 * 1024];
+        while (count > 0) {
+            var n = input.read(buffer, 0, (int) Math.min(buffer.length, count));
+            if (n < 0) {
+                throw new IOException("对象数据不完整");
+            }
+            output.write(buffer, 0, n);
+            count -= n;
+        }
+    }
+}
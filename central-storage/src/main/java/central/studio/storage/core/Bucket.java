@@ -24,8 +24,12 @@
 
 package central.studio.storage.core;
 
+import jakarta.annotation.Nullable;
+
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 存储桶（文件存储容器）
@@ -36,6 +40,9 @@ import java.io.IOException;
 public interface Bucket {
     /**
      * 保存对象
+     * <p>
+     * 如果对象流设置了期望的摘要（{@link ObjectStream#getExpectedDigest()}），
+     * 实现类需要在保存前校验摘要，不一致时抛出 {@link DigestMismatchException}，且不能留下任何数据
      *
      * @param stream 对象流
      * @return 存储键
@@ -62,4 +69,68 @@ public interface Bucket {
      * @param key 存储键
      */
     ObjectStream get(String key) throws FileNotFoundException, IOException;
+
+    /**
+     * 存储位置
+     * <p>
+     * 存储位置相同的存储桶共享同一份数据（如以不同写法配置的同一个目录），回收数据时按存储位置统一遍历。
+     * 默认每个存储桶都是独立的存储位置
+     */
+    default String getLocation() {
+        return this.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(this));
+    }
+
+    /**
+     * 存储键是否就是对象摘要（sha256）
+     * <p>
+     * 是的话，可以通过摘要索引查询存储键是否仍被对象引用
+     */
+    default boolean isDigestKey() {
+        return false;
+    }
+
+    /**
+     * 获取数据的最后修改时间
+     * <p>
+     * 回收数据前用于确认数据最近没有被重新引用（如秒传命中已有数据时会更新修改时间）。
+     * 不去重的存储桶不存在该问题，可以不实现
+     *
+     * @param key 存储键
+     * @return 最后修改时间，数据不存在或不支持时返回 0
+     */
+    default long getLastModified(String key) throws IOException {
+        return 0;
+    }
+
+    /**
+     * 按存储键升序分页遍历已保存的数据，用于回收没有对象引用的孤立数据
+     * <p>
+     * 不支持遍历的存储桶返回空列表
+     *
+     * @param after 从该存储键之后开始遍历，为空时从头开始
+     * @param limit 最多返回的数量
+     */
+    default List<Entry> list(@Nullable String after, int limit) throws IOException {
+        return List.of();
+    }
+
+    /**
+     * 清理保存过程中残留的临时数据（如进程中断时未删除的临时文件）
+     *
+     * @param age 只清理超过该时长未修改的临时数据，避免影响正在进行的保存
+     * @return 释放的字节数
+     */
+    default long clean(Duration age) throws IOException {
+        return 0;
+    }
+
+    /**
+     * 已保存的数据
+     *
+     * @param key          存储键
+     * @param size         数据大小
+     * @param lastModified 最后修改时间
+     */
+    record Entry(String key, long size, long lastModified) {
+    }
 }
@@ -24,6 +24,7 @@
 
 package central.studio.storage.core;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -64,6 +65,38 @@ public interface BucketCache {
      */
     InputStream cache(String key, InputStream data) throws IOException;
 
+    /**
+     * 预分配指定大小的缓存
+     * <p>
+     * 用于分片上传时将各分片直接写入最终位置，缓存已存在时不会清除已写入的数据
+     *
+     * @param key  缓存键
+     * @param size 缓存大小
+     */
+    void allocate(String key, long size) throws IOException;
+
+    /**
+     * 将数据写入缓存的指定位置
+     * <p>
+     * 缓存不存在时会自动创建，不同位置的写入可以并发进行
+     *
+     * @param key      缓存键
+     * @param position 写入位置
+     * @param data     待写入数据
+     * @return 写入的字节数
+     */
+    long write(String key, long position, InputStream data) throws IOException;
+
+    /**
+     * 将缓存移动到指定文件
+     * <p>
+     * 移动后缓存不再存在
+     *
+     * @param key    缓存键
+     * @param target 目标文件，必须不存在
+     */
+    void move(String key, File target) throws IOException;
+
     /**
      * 判断缓存是否已存在
      *
@@ -71,6 +104,11 @@ public interface BucketCache {
      */
     boolean exists(String key);
 
+    /**
+     * 获取所有缓存键
+     */
+    List<String> keys() throws IOException;
+
     /**
      * 获取数据流
      *
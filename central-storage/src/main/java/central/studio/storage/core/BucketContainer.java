@@ -43,6 +43,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Bucket Container
@@ -62,9 +63,9 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
     /**
      * 存储桶
      * <p>
-     * tenant -> code -> bucket
+     * tenant -> code -> bucket。刷新数据时会修改，同时会被请求线程与回收任务读取，因此使用并发容器
      */
-    private final Map<String, Map<String, DynamicBucket>> buckets = new HashMap<>();
+    private final Map<String, Map<String, DynamicBucket>> buckets = new ConcurrentHashMap<>();
 
     /**
      * 根据标识获取存储桶
@@ -73,7 +74,7 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
      * @param code   标识
      */
     public @Nullable DynamicBucket getBucket(String tenant, String code) {
-        return this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).get(code);
+        return this.buckets.computeIfAbsent(tenant, key -> new ConcurrentHashMap<>()).get(code);
     }
 
     /**
@@ -82,7 +83,14 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
      * @param tenant 租户标识
      */
     public @Nonnull List<DynamicBucket> getBuckets(String tenant) {
-        return new ArrayList<>(this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return new ArrayList<>(this.buckets.computeIfAbsent(tenant, key -> new ConcurrentHashMap<>()).values());
+    }
+
+    /**
+     * 获取已初始化存储桶的租户标识
+     */
+    public @Nonnull Set<String> getTenants() {
+        return new HashSet<>(this.buckets.keySet());
     }
 
     /**
@@ -96,7 +104,7 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
     }
 
     private @Nullable DynamicBucket putBucket(String tenant, DynamicBucket bucket) {
-        return this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).put(bucket.getData().getCode(), bucket);
+        return this.buckets.computeIfAbsent(tenant, key -> new ConcurrentHashMap<>()).put(bucket.getData().getCode(), bucket);
     }
 
     @Override
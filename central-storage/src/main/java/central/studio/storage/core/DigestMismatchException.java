@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 对象摘要与期望的摘要不一致
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Getter
+public class DigestMismatchException extends IOException {
+    @Serial
+    private static final long serialVersionUID = 4379190625375462219L;
+
+    /**
+     * 期望的摘要
+     */
+    private final String expected;
+
+    /**
+     * 实际的摘要
+     */
+    private final String actual;
+
+    public DigestMismatchException(String expected, String actual) {
+        super("文件摘要不匹配");
+        this.expected = expected;
+        this.actual = actual;
+    }
+}
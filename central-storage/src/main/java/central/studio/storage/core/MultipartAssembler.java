@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.lang.Stringx;
+import central.storage.client.data.Multipart;
+import central.studio.storage.core.stream.AssemblyObjectStream;
+import jakarta.annotation.Nullable;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Multipart Assembler
+ * <p>
+ * 分片组装器。创建分片上传时预分配目标大小的缓存，各分片上传时直接写入到缓存的对应位置，可以并行上传。
+ * <p>
+ * 整个对象的摘要（sha256）按分片顺序增量计算：每个分片写入后，从当前待计算的分片开始，依次计算所有已连续到达的分片
+ * （刚写入的数据还在页缓存中，不需要再从磁盘读取）。因此完成上传时通常不需要再读取整个对象，只需要移动缓存文件。
+ * 摘要计算状态只保存在内存中，如果丢失（如服务重启），则在完成上传时重新读取一遍数据计算。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Component
+public class MultipartAssembler {
+
+    @Setter(onMethod_ = @Autowired)
+    private BucketCache cache;
+
+    private final Map<String, Assembly> assemblies = new ConcurrentHashMap<>();
+
+    /**
+     * 组装文件的缓存键
+     *
+     * @param id 分片上传主键
+     */
+    public static String getKey(String id) {
+        return id + ".part";
+    }
+
+    /**
+     * 获取分片的大小
+     *
+     * @param multipart 分片上传信息
+     * @param index     分片下标
+     */
+    public static long getChunkSize(Multipart multipart, int index) {
+        return Math.min(multipart.getChunkSize(), multipart.getSize() - index * multipart.getChunkSize());
+    }
+
+    /**
+     * 创建组装任务
+     *
+     * @param multipart 分片上传信息
+     */
+    public void create(Multipart multipart) throws IOException {
+        this.cache.allocate(getKey(multipart.getId()), multipart.getSize());
+        this.assemblies.put(multipart.getId(), new Assembly(multipart));
+    }
+
+    /**
+     * 将分片数据写入到组装文件的对应位置
+     *
+     * @param multipart   分片上传信息
+     * @param index       分片下标
+     * @param data        分片数据
+     * @param chunkDigest 分片摘要（sha256），不为空时校验分片数据，不一致时抛出 {@link DigestMismatchException}
+     * @return 写入的字节数
+     */
+    public long write(Multipart multipart, int index, InputStream data, @Nullable String chunkDigest) throws IOException {
+        var position = index * multipart.getChunkSize();
+
+        long written;
+        if (Stringx.isNotBlank(chunkDigest)) {
+            // 写入的同时计算分片摘要
+            var digest = newDigest();
+            written = this.cache.write(getKey(multipart.getId()), position, new DigestInputStream(data, digest));
+            var actual = HexFormat.of().formatHex(digest.digest());
+            if (!chunkDigest.equalsIgnoreCase(actual)) {
+                throw new DigestMismatchException(chunkDigest, actual);
+            }
+        } else {
+            written = this.cache.write(getKey(multipart.getId()), position, data);
+        }
+
+        var assembly = this.assemblies.get(multipart.getId());
+        if (assembly != null) {
+            assembly.received.add(index);
+            // 其它线程正在计算时，由该线程继续计算本分片
+            if (assembly.lock.tryLock()) {
+                try {
+                    this.advance(assembly);
+                } finally {
+                    assembly.lock.unlock();
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 完成组装，返回组装后的对象流
+     *
+     * @param multipart 分片上传信息
+     * @param filename  文件名
+     */
+    public AssemblyObjectStream complete(Multipart multipart, String filename) throws IOException {
+        String digest = null;
+
+        var assembly = this.assemblies.get(multipart.getId());
+        if (assembly != null) {
+            assembly.lock.lock();
+            try {
+                this.advance(assembly);
+                if (assembly.next == assembly.chunkCount) {
+                    digest = HexFormat.of().formatHex(assembly.digest.digest());
+                    if (digest.equalsIgnoreCase(multipart.getDigest())) {
+                        // 与客户端声明的摘要保持一致的格式
+                        digest = multipart.getDigest();
+                    }
+                }
+            } finally {
+                assembly.lock.unlock();
+            }
+        }
+
+        return new AssemblyObjectStream(this.cache, getKey(multipart.getId()), filename, multipart.getSize(), digest);
+    }
+
+    /**
+     * 移除组装任务，并删除组装文件
+     *
+     * @param id 分片上传主键
+     */
+    public void remove(String id) throws IOException {
+        this.assemblies.remove(id);
+        this.cache.delete(getKey(id));
+    }
+
+    /**
+     * 正在组装的分片上传主键
+     */
+    public Set<String> getIds() {
+        return Set.copyOf(this.assemblies.keySet());
+    }
+
+    /**
+     * 按顺序计算已连续到达的分片的摘要
+     */
+    private void advance(Assembly assembly) throws IOException {
+        while (assembly.next < assembly.chunkCount && assembly.received.contains(assembly.next)) {
+            var position = assembly.next * assembly.chunkSize;
+            var length = Math.min(assembly.chunkSize, assembly.size - position);
+            try (var input = this.cache.get(getKey(assembly.id))) {
+                input.skipNBytes(position);
+
+                var buffer = new byte[64 * 1024];
+                while (length > 0) {
+                    var count = input.read(buffer, 0, (int) Math.min(buffer.length, length));
+                    if (count < 0) {
+                        throw new IOException(Stringx.format("分片上传[{}]的组装文件不完整", assembly.id));
+                    }
+                    assembly.digest.update(buffer, 0, count);
+                    length -= count;
+                }
+            }
+            assembly.next++;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 组装状态
+     */
+    private static class Assembly {
+        private final String id;
+        private final long size;
+        private final long chunkSize;
+        private final int chunkCount;
+
+        /**
+         * 已到达的分片
+         */
+        private final Set<Integer> received = ConcurrentHashMap.newKeySet();
+        /**
+         * 增量摘要，只在持有锁时访问
+         */
+        private final MessageDigest digest = newDigest();
+        /**
+         * 下一个待计算摘要的分片下标
+         */
+        private int next;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Assembly(Multipart multipart) {
+            this.id = multipart.getId();
+            this.size = multipart.getSize();
+            this.chunkSize = multipart.getChunkSize();
+            this.chunkCount = multipart.getChunkCount().intValue();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.storage.client.data.Multipart;
+import jakarta.annotation.Nullable;
+
+/**
+ * 分片上传会话管理
+ * <p>
+ * 会话在最后一次活动（创建或上传分片）后超过有效期即失效，失效会话的分片缓存由 {@link MultipartSweeper} 清理。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public interface MultipartSession {
+    /**
+     * 保存分片上传会话
+     *
+     * @param multipart 分片上传信息
+     */
+    void save(Multipart multipart);
+
+    /**
+     * 查找分片上传会话
+     *
+     * @param id 分片上传主键
+     * @return 分片上传信息，会话不存在或已失效时返回 null
+     */
+    @Nullable
+    Multipart find(String id);
+
+    /**
+     * 标记分片已上传，并延长会话有效期
+     *
+     * @param id    分片上传主键
+     * @param index 分片下标
+     * @return 更新后的分片上传信息，会话不存在或已失效时返回 null
+     */
+    @Nullable
+    Multipart complete(String id, int index);
+
+    /**
+     * 移除分片上传会话
+     *
+     * @param id 分片上传主键
+     * @return 被移除的分片上传信息，会话不存在或已失效时返回 null
+     */
+    @Nullable
+    Multipart remove(String id);
+
+    /**
+     * 清除已失效的会话
+     * <p>
+     * 由清理任务定期调用，本身支持过期的存储可以不实现
+     */
+    default void evict() {
+    }
+}
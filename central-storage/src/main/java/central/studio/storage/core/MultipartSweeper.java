@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.studio.storage.StorageProperties;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Multipart Sweeper
+ * <p>
+ * 分片上传清理任务。定期清除已失效的分片上传会话，并删除不属于任何有效会话的分片缓存（如客户端放弃上传、会话已过期等）。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+@Component
+public class MultipartSweeper implements InitializingBean, DisposableBean {
+
+    /**
+     * 分片缓存键格式: {multipartId}.part（组装文件）或 {multipartId}_{chunkIndex}（旧版本的分片文件）
+     */
+    private static final Pattern CHUNK_KEY = Pattern.compile("^(.+?)(\\.part|_\\d+)$");
+
+    @Setter(onMethod_ = @Autowired)
+    private BucketCache cache;
+
+    @Setter(onMethod_ = @Autowired)
+    private MultipartSession session;
+
+    @Setter(onMethod_ = @Autowired)
+    private MultipartAssembler assembler;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageProperties properties;
+
+    private ScheduledExecutorService timer;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var interval = this.properties.getMultipart().getSweepInterval().toMillis();
+        this.timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.storage.multipart@" + this.hashCode() + "-"));
+        this.timer.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.timer != null) {
+            this.timer.shutdownNow();
+        }
+    }
+
+    /**
+     * 清理失效会话及其分片缓存
+     */
+    public void sweep() {
+        try {
+            this.session.evict();
+
+            // 清除失效会话的组装状态
+            for (var id : this.assembler.getIds()) {
+                if (this.session.find(id) == null) {
+                    this.assembler.remove(id);
+                }
+            }
+
+            // 按会话对分片缓存分组
+            var chunks = new HashMap<String, List<String>>();
+            for (var key : this.cache.keys()) {
+                var matcher = CHUNK_KEY.matcher(key);
+                if (matcher.matches()) {
+                    chunks.computeIfAbsent(matcher.group(1), it -> new ArrayList<>()).add(key);
+                }
+            }
+
+            int count = 0;
+            for (Map.Entry<String, List<String>> entry : chunks.entrySet()) {
+                if (this.session.find(entry.getKey()) == null) {
+                    // 会话已失效，删除分片缓存
+                    this.cache.delete(entry.getValue());
+                    count += entry.getValue().size();
+                }
+            }
+            if (count > 0) {
+                log.info("已清理 {} 个失效的分片缓存", count);
+            }
+        } catch (Exception ex) {
+            log.error("清理分片上传缓存失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.data.storage.StorageObject;
+import central.provider.graphql.storage.StorageObjectProvider;
+import central.sql.query.Conditions;
+import central.studio.storage.StorageProperties;
+import central.studio.storage.core.cache.ObjectCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Object Collector
+ * <p>
+ * 对象回收任务。在后台定期执行，不阻塞上传与下载:
+ * <ul>
+ *     <li>删除超过保留时长仍未确认的对象，并回收不再被引用的数据</li>
+ *     <li>按存储键分页遍历存储桶中的数据，回收没有任何对象引用的孤立数据。每次最多处理指定页数，下次从中断的位置继续</li>
+ *     <li>清理保存过程中残留的临时数据</li>
+ * </ul>
+ * 多个存储桶（包括不同租户的存储桶）可能使用相同的存储位置（{@link Bucket#getLocation()}），每个存储位置只遍历一次。
+ * 只有在所有租户中都没有对象引用时（包括没有加载的存储桶），才会回收数据。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+@Component
+public class ObjectCollector implements InitializingBean, DisposableBean {
+
+    @Setter(onMethod_ = @Autowired)
+    private BucketContainer container;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageObjectProvider provider;
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectReclaimer reclaimer;
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectCache objectCache;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageProperties properties;
+
+    private ScheduledExecutorService timer;
+
+    /**
+     * 孤立数据遍历进度
+     * <p>
+     * 存储位置 -> 最后处理的存储键
+     */
+    private final Map<String, String> cursors = new ConcurrentHashMap<>();
+
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder reclaimedObjects = new LongAdder();
+    private final LongAdder reclaimedFiles = new LongAdder();
+    private final LongAdder reclaimedBytes = new LongAdder();
+    private volatile long lastScanned;
+    private volatile long lastDuration;
+    private volatile long lastTime;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var collector = this.properties.getCollector();
+        if (!collector.isEnabled()) {
+            return;
+        }
+        var interval = collector.getInterval().toMillis();
+        this.timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central.storage.collector@" + this.hashCode() + "-"));
+        this.timer.scheduleWithFixedDelay(this::collect, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.timer != null) {
+            this.timer.shutdownNow();
+        }
+    }
+
+    /**
+     * 执行一次回收
+     */
+    public void collect() {
+        // 异常不能抛出到定时任务中，否则后续的回收任务都不会再执行
+        try {
+            var start = System.currentTimeMillis();
+            var scanned = 0L;
+
+            // 存储位置 -> 使用该位置的任一存储桶
+            var locations = new LinkedHashMap<String, DynamicBucket>();
+            for (var tenant : this.container.getTenants()) {
+                for (var bucket : this.container.getBuckets(tenant)) {
+                    // 删除未确认的对象
+                    try {
+                        this.collectUnconfirmed(bucket, tenant);
+                    } catch (Exception ex) {
+                        log.error("回收存储桶[{}]的未确认对象失败: " + ex.getLocalizedMessage(), bucket.getData().getCode(), ex);
+                    }
+
+                    locations.putIfAbsent(bucket.getLocation(), bucket);
+                }
+            }
+
+            for (var location : locations.entrySet()) {
+                var bucket = location.getValue();
+                try {
+                    // 清理临时数据
+                    var bytes = bucket.clean(this.properties.getCollector().getOrphanTimeout());
+                    this.reclaimedBytes.add(bytes);
+
+                    // 回收孤立数据
+                    scanned += this.collectOrphans(location.getKey(), bucket);
+                } catch (Exception ex) {
+                    log.error("回收存储桶[{}]的孤立数据失败: " + ex.getLocalizedMessage(), bucket.getData().getCode(), ex);
+                }
+            }
+
+            this.scanned.add(scanned);
+            this.lastScanned = scanned;
+            this.lastDuration = System.currentTimeMillis() - start;
+            this.lastTime = start;
+        } catch (Exception ex) {
+            log.error("回收对象失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    /**
+     * 删除超过保留时长仍未确认的对象，并回收不再被引用的数据
+     */
+    private void collectUnconfirmed(DynamicBucket bucket, String tenant) throws Exception {
+        var collector = this.properties.getCollector();
+        var pageSize = Math.min(collector.getPageSize(), ObjectReclaimer.BATCH_SIZE);
+        var deadline = new Timestamp(System.currentTimeMillis() - collector.getUnconfirmedTimeout().toMillis());
+
+        for (int page = 0; page < collector.getMaxPages(); page++) {
+            // 删除后剩下的对象会排到前面，因此每次都查询第一页
+            var objects = this.provider.findBy((long) pageSize, 0L,
+                    Conditions.of(StorageObject.class).eq(StorageObject::getBucketId, bucket.getData().getId()).eq(StorageObject::getConfirmed, Boolean.FALSE).lt(StorageObject::getCreateDate, deadline),
+                    null, tenant);
+            if (objects.isEmpty()) {
+                break;
+            }
+
+            var ids = objects.stream().map(StorageObject::getId).toList();
+            this.provider.deleteByIds(ids, tenant);
+            ids.forEach(it -> this.objectCache.invalidate(ObjectCache.getKey(tenant, bucket.getData().getId(), it)));
+            this.reclaimedObjects.add(ids.size());
+
+            // 回收不再被引用的数据
+            var sizes = new HashMap<String, Long>();
+            objects.forEach(it -> sizes.put(it.getKey(), it.getSize()));
+            for (var key : this.reclaimer.deleteUnreferenced(bucket, sizes.keySet())) {
+                this.reclaimedFiles.increment();
+                this.reclaimedBytes.add(Objects.requireNonNullElse(sizes.get(key), 0L));
+            }
+
+            if (objects.size() < pageSize) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 分页遍历存储位置中的数据，回收没有任何对象引用的孤立数据
+     *
+     * @param location 存储位置
+     * @param bucket   使用该存储位置的存储桶
+     * @return 本次遍历的数据数量
+     */
+    private long collectOrphans(String location, DynamicBucket bucket) throws Exception {
+        var collector = this.properties.getCollector();
+        var pageSize = Math.min(collector.getPageSize(), ObjectReclaimer.BATCH_SIZE);
+        var deadline = System.currentTimeMillis() - collector.getOrphanTimeout().toMillis();
+
+        long scanned = 0;
+        for (int page = 0; page < collector.getMaxPages(); page++) {
+            var entries = bucket.list(this.cursors.get(location), pageSize);
+            scanned += entries.size();
+            if (entries.size() < pageSize) {
+                // 已遍历完，下次从头开始
+                this.cursors.remove(location);
+            } else {
+                this.cursors.put(location, entries.get(entries.size() - 1).key());
+            }
+
+            // 只回收超过保留时长未修改的数据
+            var candidates = new HashMap<String, Bucket.Entry>();
+            entries.stream().filter(it -> it.lastModified() < deadline).forEach(it -> candidates.put(it.key(), it));
+
+            // 所有租户中都没有对象引用时，才是孤立数据。删除前会再次检查修改时间，遍历之后被秒传命中的数据不会被删除
+            var orphans = candidates.isEmpty() ? Set.<String>of() : this.reclaimer.deleteUnreferenced(bucket, candidates.keySet());
+
+            for (var key : orphans) {
+                this.reclaimedFiles.increment();
+                this.reclaimedBytes.add(candidates.get(key).size());
+            }
+            if (!orphans.isEmpty()) {
+                log.info("已回收存储桶[{}]中 {} 个孤立数据", bucket.getData().getCode(), orphans.size());
+            }
+
+            if (!this.cursors.containsKey(location)) {
+                break;
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * 回收指标
+     */
+    public Metrics getMetrics() {
+        var duration = this.lastDuration;
+        var rate = duration > 0 ? this.lastScanned * 1000 / duration : this.lastScanned;
+        return new Metrics(this.scanned.sum(), rate, this.reclaimedObjects.sum(), this.reclaimedFiles.sum(), this.reclaimedBytes.sum(), this.lastTime, duration);
+    }
+
+    /**
+     * 回收指标
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Metrics implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 6071527046683309824L;
+
+        /**
+         * 已遍历的数据数量
+         */
+        private long scanned;
+        /**
+         * 最近一次回收的遍历速度（个/秒）
+         */
+        private long scanRate;
+        /**
+         * 已删除的未确认对象数量
+         */
+        private long reclaimedObjects;
+        /**
+         * 已回收的数据数量
+         */
+        private long reclaimedFiles;
+        /**
+         * 已释放的字节数
+         */
+        private long reclaimedBytes;
+        /**
+         * 最近一次回收的开始时间
+         */
+        private long lastTime;
+        /**
+         * 最近一次回收的耗时（毫秒）
+         */
+        private long lastDuration;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.data.saas.Tenant;
+import central.data.storage.StorageObject;
+import central.provider.graphql.saas.TenantProvider;
+import central.provider.graphql.storage.StorageObjectProvider;
+import central.sql.query.Conditions;
+import central.studio.storage.StorageProperties;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object Reclaimer
+ * <p>
+ * 对象回收器。在后台删除不再被任何对象引用的存储键对应的数据，不阻塞删除请求。
+ * 删除前会再次批量查询引用情况，避免删除在此期间被重新引用（如秒传）的数据。
+ * 秒传命中已有数据时，对象信息在数据保存之后才写入，在此期间数据没有对象引用，
+ * 因此只删除超过孤立数据保留时长未修改的数据，其余的留给对象回收任务在保留时长之后处理。
+ * <p>
+ * 多个存储桶（包括其它租户的存储桶、没有加载的存储桶）可能使用相同的存储位置，因此引用情况在所有租户中查询，不限定存储桶。
+ * 租户从租户数据中获取，而不是只查询本节点已加载存储桶的租户；获取失败时不删除任何数据。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+@Component
+public class ObjectReclaimer implements DisposableBean {
+
+    /**
+     * 每次查询的存储键数量，避免 in 条件过长
+     */
+    public static final int BATCH_SIZE = 1000;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageObjectProvider provider;
+
+    @Setter(onMethod_ = @Autowired)
+    private TenantProvider tenantProvider;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageProperties properties;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("central.storage.reclaimer@" + this.hashCode() + "-"));
+
+    @Override
+    public void destroy() throws Exception {
+        this.executor.shutdown();
+        if (!this.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 在后台回收不再被引用的存储键
+     *
+     * @param bucket 存储桶
+     * @param keys   可能已不再被引用的存储键
+     */
+    public void reclaim(DynamicBucket bucket, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        var pending = List.copyOf(new LinkedHashSet<>(keys));
+        this.executor.execute(() -> {
+            for (int i = 0; i < pending.size(); i += BATCH_SIZE) {
+                var batch = pending.subList(i, Math.min(i + BATCH_SIZE, pending.size()));
+                try {
+                    this.deleteUnreferenced(bucket, batch);
+                } catch (Exception ex) {
+                    log.error("回收存储桶[{}]的对象数据失败: " + ex.getLocalizedMessage(), bucket.getData().getCode(), ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * 删除指定存储键中没有任何对象引用、且超过孤立数据保留时长未修改的数据
+     * <p>
+     * 修改时间在查询引用情况之后、删除之前检查，查询期间被秒传重新引用的数据不会被删除
+     *
+     * @param bucket 存储桶
+     * @param keys   存储键（不超过 {@link #BATCH_SIZE} 个）
+     * @return 已删除的存储键
+     */
+    public Set<String> deleteUnreferenced(Bucket bucket, Collection<String> keys) throws IOException {
+        var deleted = new HashSet<String>();
+        for (var key : this.findUnreferenced(bucket, keys)) {
+            var deadline = System.currentTimeMillis() - this.properties.getCollector().getOrphanTimeout().toMillis();
+            if (bucket.getLastModified(key) >= deadline) {
+                // 最近保存或被秒传命中过，可能即将被引用
+                continue;
+            }
+            bucket.delete(key);
+            deleted.add(key);
+        }
+        return deleted;
+    }
+
+    /**
+     * 找出指定存储键中已经没有任何对象引用的存储键
+     * <p>
+     * 在所有租户（包括没有加载存储桶的租户）中查询，不限定存储桶。存储键就是摘要时按摘要索引查询，否则按存储键查询。每次最多返回 {@link #BATCH_SIZE} 条记录，
+     * 已找到引用的存储键不再参与后续查询，因此即使同一存储键被大量对象引用（如秒传），也不会一次加载所有记录
+     *
+     * @param bucket 存储桶
+     * @param keys   存储键（不超过 {@link #BATCH_SIZE} 个）
+     */
+    public Set<String> findUnreferenced(Bucket bucket, Collection<String> keys) {
+        var unreferenced = new HashSet<>(keys);
+        var digest = bucket.isDigestKey();
+        // 查询租户失败时抛出异常，不会误删数据
+        var tenants = this.tenantProvider.findBy(null, null, null, null).stream().map(Tenant::getCode).toList();
+        for (var tenant : tenants) {
+            while (!unreferenced.isEmpty()) {
+                var conditions = digest
+                        ? Conditions.of(StorageObject.class).in(StorageObject::getDigest, List.copyOf(unreferenced))
+                        : Conditions.of(StorageObject.class).in(StorageObject::getKey, List.copyOf(unreferenced));
+
+                var referenced = this.provider.findBy((long) BATCH_SIZE, 0L, conditions, null, tenant);
+                referenced.forEach(it -> unreferenced.remove(digest ? it.getDigest() : it.getKey()));
+                if (referenced.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (unreferenced.isEmpty()) {
+                break;
+            }
+        }
+        return unreferenced;
+    }
+}
@@ -27,8 +27,13 @@ package central.studio.storage.core;
 import central.io.IOStreamx;
 import central.lang.Stringx;
 import central.security.Digestx;
+import central.studio.storage.core.stream.TeeInputStream;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.Setter;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -61,6 +66,17 @@ public abstract class ObjectStream {
      */
     public abstract long getSize();
 
+    /**
+     * 对象对应的本地文件
+     * <p>
+     * 对象保存在本地磁盘时返回该文件，下载时可以交给 Servlet 容器通过 sendfile 发送（零拷贝）
+     *
+     * @return 不是本地文件时返回 null
+     */
+    public @Nullable File getFile() {
+        return null;
+    }
+
     /**
      * 是否可以重用
      */
@@ -70,6 +86,15 @@ public abstract class ObjectStream {
 
     protected volatile String digest;
 
+    /**
+     * 期望的摘要（如客户端声明的摘要）
+     * <p>
+     * 设置后，存储桶保存对象时需要校验实际摘要是否与之一致
+     */
+    @Getter
+    @Setter
+    private String expectedDigest;
+
     /**
      * 文件摘要(sha256)
      */
@@ -105,6 +130,50 @@ public abstract class ObjectStream {
         }
     }
 
+    /**
+     * 将对象数据写入到指定的文件，同时计算摘要
+     * <p>
+     * 数据只读取一次。如果设置了期望的摘要，则会校验摘要是否一致，不一致时抛出 {@link DigestMismatchException}，
+     * 此时文件中已写入的数据由调用方负责清理
+     *
+     * @param file 指定文件，必须不存在
+     * @return 文件摘要(sha256)
+     */
+    public String transferAndDigest(File file) throws IOException {
+        String digest;
+        try (var input = new TeeInputStream(this.getInputStream(), new BufferedOutputStream(Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024))) {
+            digest = Digestx.SHA256.digest(input);
+        }
+        return this.verify(digest);
+    }
+
+    /**
+     * 将对象数据移动到指定的文件，同时返回摘要
+     * <p>
+     * 只有对象数据本身已经是一个完整的文件（如分片上传时组装好的文件）时才支持，移动后本对象流不能再使用。
+     * 摘要的校验规则与 {@link #transferAndDigest(File)} 一致，校验不通过时不会移动数据
+     *
+     * @param file 指定文件，必须不存在
+     * @return 文件摘要(sha256)，不支持移动时返回 null
+     */
+    public @Nullable String moveAndDigest(File file) throws IOException {
+        return null;
+    }
+
+    /**
+     * 校验摘要是否与期望的摘要一致
+     *
+     * @param digest 实际摘要
+     * @return 实际摘要
+     */
+    protected String verify(String digest) throws DigestMismatchException {
+        if (Stringx.isNotBlank(this.expectedDigest) && !this.expectedDigest.equalsIgnoreCase(digest)) {
+            throw new DigestMismatchException(this.expectedDigest, digest);
+        }
+        this.digest = digest;
+        return digest;
+    }
+
     /**
      * 将对象数据写入到指定的文修护
      *
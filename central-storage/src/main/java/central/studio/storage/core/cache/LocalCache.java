@@ -25,13 +25,18 @@
 package central.studio.storage.core.cache;
 
 import central.io.Filex;
-import central.io.IOStreamx;
 import central.lang.Assertx;
+import central.lang.Stringx;
 import central.studio.storage.core.BucketCache;
+import central.studio.storage.core.stream.TeeInputStream;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,6 +49,11 @@ import java.util.List;
  * @since 2022/11/02
  */
 public class LocalCache implements BucketCache {
+    /**
+     * 正在写入的缓存的后缀
+     */
+    private static final String CACHING_SUFFIX = ".caching";
+
     private final Path path;
 
     public LocalCache(Path path) throws IOException{
@@ -55,55 +65,120 @@ public class LocalCache implements BucketCache {
 
     @Override
     public void put(String key, InputStream data) throws IOException {
-        var cache = new File(this.path.toFile(), key);
-        Assertx.mustTrue(cache.createNewFile(), IOException::new, "缓存[{}]已存在", key);
-        try (data; var output = Files.newOutputStream(cache.toPath(), StandardOpenOption.WRITE)) {
-            IOStreamx.transfer(data, output);
+        var cache = this.path.resolve(key);
+        try (data) {
+            Files.copy(data, cache);
+        } catch (FileAlreadyExistsException ex) {
+            throw new IOException(Stringx.format("缓存[{}]已存在", key), ex);
+        } catch (IOException ex) {
+            // 写入失败，删除不完整的缓存
+            Files.deleteIfExists(cache);
+            throw ex;
         }
     }
 
     @Override
     public void set(String key, InputStream data) throws IOException {
-        var cache = new File(this.path.toFile(), key);
-        Filex.delete(cache);
-        Assertx.mustTrue(cache.createNewFile(), IOException::new, "缓存[{}]创建失败", key);
-        try (data; var output = Files.newOutputStream(cache.toPath(), StandardOpenOption.WRITE)) {
-            IOStreamx.transfer(data, output);
+        var cache = this.path.resolve(key);
+        try (data) {
+            Files.copy(data, cache, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            // 写入失败，删除不完整的缓存
+            Files.deleteIfExists(cache);
+            throw ex;
         }
     }
 
     @Override
     public InputStream cache(String key, InputStream data) throws IOException {
-        var cache = new File(this.path.toFile(), key);
-        Assertx.mustTrue(cache.createNewFile(), IOException::new, "缓存[{}]已存在", key);
+        var cache = this.path.resolve(key);
+        if (Files.exists(cache)) {
+            throw new IOException(Stringx.format("缓存[{}]已存在", key));
+        }
 
-        var bufferedOutput = new BufferedOutputStream(Files.newOutputStream(cache.toPath(), StandardOpenOption.WRITE));
-        var bufferedInput = new BufferedInputStream(data);
-        return new InputStream() {
-            @Override
-            public int read() throws IOException {
-                int b = bufferedInput.read();
-                if (b >= 0) {
-                    bufferedOutput.write(b);
-                }
-                return b;
-            }
+        // 先写入临时文件，读取完毕后再重命名为缓存键，避免其它线程看到不完整的缓存
+        var temp = this.path.resolve(key + CACHING_SUFFIX);
+        OutputStream output;
+        try {
+            output = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (FileAlreadyExistsException ex) {
+            throw new IOException(Stringx.format("缓存[{}]正在写入", key), ex);
+        }
 
+        // 边读边写入缓存，按块复制
+        return new TeeInputStream(data, new BufferedOutputStream(output, 64 * 1024)) {
             @Override
             public void close() throws IOException {
-                bufferedInput.close();
-                bufferedOutput.flush();
-                bufferedOutput.close();
-                super.close();
+                try {
+                    super.close();
+                } catch (IOException ex) {
+                    Files.deleteIfExists(temp);
+                    throw ex;
+                }
+                if (!this.isExhausted()) {
+                    // 没有读取完就关闭了，缓存的数据不完整，删除
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+                try {
+                    Files.move(temp, cache);
+                } catch (FileAlreadyExistsException ex) {
+                    // 其它线程已经写入了相同的缓存
+                    Files.deleteIfExists(temp);
+                }
             }
         };
     }
 
+    @Override
+    public void allocate(String key, long size) throws IOException {
+        // 稀疏文件，不会实际占用磁盘空间
+        try (var file = new RandomAccessFile(this.path.resolve(key).toFile(), "rw")) {
+            if (file.length() < size) {
+                file.setLength(size);
+            }
+        }
+    }
+
+    @Override
+    public long write(String key, long position, InputStream data) throws IOException {
+        try (data; var channel = FileChannel.open(this.path.resolve(key), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            var buffer = ByteBuffer.allocate(64 * 1024);
+            long written = 0;
+            int count;
+            while ((count = data.read(buffer.array(), 0, buffer.capacity())) >= 0) {
+                buffer.position(0).limit(count);
+                // 按位置写入，不影响其它位置的并发写入
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer, position + written);
+                }
+            }
+            return written;
+        }
+    }
+
+    @Override
+    public void move(String key, File target) throws IOException {
+        var cache = this.path.resolve(key);
+        if (Files.notExists(cache)) {
+            throw new FileNotFoundException(Stringx.format("缓存[{}]不存在", key));
+        }
+        // 同一文件系统下只是重命名
+        Files.move(cache, target.toPath());
+    }
+
     @Override
     public boolean exists(String key) {
         return new File(this.path.toFile(), key).exists();
     }
 
+    @Override
+    public List<String> keys() throws IOException {
+        try (var files = Files.list(this.path)) {
+            return files.filter(Files::isRegularFile).map(it -> it.getFileName().toString()).filter(it -> !it.endsWith(CACHING_SUFFIX)).toList();
+        }
+    }
+
     @Override
     public InputStream get(String key) throws IOException {
         var cache = new File(this.path.toFile(), key);
@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.cache;
+
+import central.data.storage.StorageObject;
+import central.lang.Stringx;
+import jakarta.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 热点对象缓存
+ * <p>
+ * 在内存中缓存小对象（如头像、图标、缩略图）的对象信息与数据，下载时不需要查询数据中心和读取磁盘；
+ * 较大的对象只缓存对象信息，下载时不需要查询数据中心。
+ * 按占用内存限制总容量，超出时淘汰最久未访问的对象（LRU）。对象被删除或修改时需要主动失效；
+ * 多节点部署时其它节点的缓存在有效期后失效。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class ObjectCache {
+
+    /**
+     * 每个缓存项的额外内存开销估算（对象信息、键等）
+     */
+    private static final long ENTRY_OVERHEAD = 512;
+
+    /**
+     * 可缓存对象的最大大小
+     */
+    private final long maxObjectSize;
+
+    /**
+     * 缓存总容量
+     */
+    private final long capacity;
+
+    /**
+     * 缓存有效期
+     */
+    private final long timeout;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxObjectSize 可缓存对象的最大大小
+     * @param capacity      缓存总容量
+     * @param timeout       缓存有效期
+     */
+    public ObjectCache(long maxObjectSize, long capacity, Duration timeout) {
+        this.maxObjectSize = maxObjectSize;
+        this.capacity = capacity;
+        this.timeout = timeout.toMillis();
+    }
+
+    /**
+     * 缓存键
+     *
+     * @param tenant   租户标识
+     * @param bucketId 存储桶主键
+     * @param id       对象主键
+     */
+    public static String getKey(String tenant, String bucketId, String id) {
+        return Stringx.format("{}/{}/{}", tenant, bucketId, id);
+    }
+
+    /**
+     * 指定大小的对象是否可以缓存
+     *
+     * @param size 对象大小
+     */
+    public boolean isCacheable(long size) {
+        return size <= this.maxObjectSize && size + ENTRY_OVERHEAD <= this.capacity;
+    }
+
+    /**
+     * 获取缓存
+     *
+     * @param key 缓存键
+     * @return 不存在或已过期时返回 null
+     */
+    public @Nullable Entry get(String key) {
+        synchronized (this.entries) {
+            var entry = this.entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.timestamp > this.timeout) {
+                this.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                this.misses.increment();
+            } else {
+                this.hits.increment();
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * 缓存对象
+     *
+     * @param key    缓存键
+     * @param object 对象信息
+     * @param data   对象数据，为空时只缓存对象信息
+     */
+    public void put(String key, StorageObject object, @Nullable byte[] data) {
+        if (data == null ? ENTRY_OVERHEAD > this.capacity : !this.isCacheable(data.length)) {
+            return;
+        }
+
+        var entry = new Entry(object, data, System.currentTimeMillis());
+        synchronized (this.entries) {
+            this.remove(key);
+            this.entries.put(key, entry);
+            this.weight += entry.getWeight();
+
+            // 淘汰最久未访问的对象
+            var iterator = this.entries.values().iterator();
+            while (this.weight > this.capacity && iterator.hasNext()) {
+                var eldest = iterator.next();
+                iterator.remove();
+                this.weight -= eldest.getWeight();
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 失效缓存
+     *
+     * @param key 缓存键
+     */
+    public void invalidate(String key) {
+        synchronized (this.entries) {
+            this.remove(key);
+        }
+    }
+
+    private void remove(String key) {
+        var removed = this.entries.remove(key);
+        if (removed != null) {
+            this.weight -= removed.getWeight();
+        }
+    }
+
+    /**
+     * 缓存指标
+     */
+    public Metrics getMetrics() {
+        synchronized (this.entries) {
+            return new Metrics(this.entries.size(), this.weight, this.capacity, this.hits.sum(), this.misses.sum(), this.evictions.sum());
+        }
+    }
+
+    /**
+     * 缓存项
+     *
+     * @param object    对象信息
+     * @param data      对象数据，为空时表示只缓存了对象信息
+     * @param timestamp 缓存时间
+     */
+    public record Entry(StorageObject object, @Nullable byte[] data, long timestamp) {
+        private long getWeight() {
+            return (this.data == null ? 0 : this.data.length) + ENTRY_OVERHEAD;
+        }
+    }
+
+    /**
+     * 缓存指标
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Metrics implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -1780424455329453027L;
+
+        /**
+         * 缓存对象数
+         */
+        private int size;
+        /**
+         * 已占用内存
+         */
+        private long weight;
+        /**
+         * 缓存容量
+         */
+        private long capacity;
+        /**
+         * 命中次数
+         */
+        private long hits;
+        /**
+         * 未命中次数
+         */
+        private long misses;
+        /**
+         * 淘汰次数
+         */
+        private long evictions;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.cache;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 访问凭证缓存
+ * <p>
+ * 按密钥缓存凭证校验器，避免每次请求都重新创建；同时在短时间内缓存已通过校验的凭证，
+ * 重复使用同一凭证（如反复下载同一对象）时不需要再次校验签名。缓存的凭证不会超过其有效期，
+ * 密钥变更后旧密钥校验的凭证不再命中。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class TokenCache {
+
+    /**
+     * 最多缓存的校验器数量（每个应用一个密钥，正常情况下不会超过）
+     */
+    private static final int MAX_VERIFIERS = 1024;
+
+    /**
+     * 最多缓存的凭证数量
+     */
+    private final int capacity;
+
+    /**
+     * 凭证缓存有效期
+     */
+    private final long timeout;
+
+    /**
+     * 密钥 -> 校验器
+     */
+    private final Map<String, JWTVerifier> verifiers = new ConcurrentHashMap<>();
+
+    /**
+     * 凭证 -> 校验结果
+     */
+    private final LinkedHashMap<String, Entry> tokens;
+
+    /**
+     * @param capacity 最多缓存的凭证数量
+     * @param timeout  凭证缓存有效期
+     */
+    public TokenCache(int capacity, Duration timeout) {
+        this.capacity = capacity;
+        this.timeout = timeout.toMillis();
+        this.tokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return this.size() > TokenCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * 获取指定密钥的校验器
+     *
+     * @param secret 密钥
+     */
+    public JWTVerifier getVerifier(String secret) {
+        var verifier = this.verifiers.get(secret);
+        if (verifier == null) {
+            if (this.verifiers.size() >= MAX_VERIFIERS) {
+                this.verifiers.clear();
+            }
+            verifier = this.verifiers.computeIfAbsent(secret, key -> JWT.require(Algorithm.HMAC256(key)).build());
+        }
+        return verifier;
+    }
+
+    /**
+     * 校验凭证
+     *
+     * @param secret 密钥
+     * @param token  凭证
+     * @return 解析后的凭证
+     * @throws JWTVerificationException 凭证无效
+     */
+    public DecodedJWT verify(String secret, String token) throws JWTVerificationException {
+        var now = System.currentTimeMillis();
+        if (this.capacity > 0) {
+            synchronized (this.tokens) {
+                var entry = this.tokens.get(token);
+                if (entry != null) {
+                    if (now < entry.expires() && Objects.equals(secret, entry.secret())) {
+                        return entry.jwt();
+                    }
+                    this.tokens.remove(token);
+                }
+            }
+        }
+
+        var jwt = this.getVerifier(secret).verify(token);
+
+        if (this.capacity > 0) {
+            // 缓存时间不超过凭证的有效期
+            var expires = now + this.timeout;
+            if (jwt.getExpiresAt() != null) {
+                expires = Math.min(expires, jwt.getExpiresAt().getTime());
+            }
+            synchronized (this.tokens) {
+                this.tokens.put(token, new Entry(secret, jwt, expires));
+            }
+        }
+        return jwt;
+    }
+
+    /**
+     * 已校验的凭证
+     *
+     * @param secret  校验时使用的密钥
+     * @param jwt     解析后的凭证
+     * @param expires 缓存失效时间
+     */
+    private record Entry(String secret, DecodedJWT jwt, long expires) {
+    }
+}
@@ -32,11 +32,21 @@ import central.studio.storage.core.ObjectStream;
 import central.studio.storage.core.Bucket;
 import central.studio.storage.core.stream.FileObjectStream;
 import central.util.Guidx;
+import jakarta.annotation.Nullable;
+import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.InitializingBean;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * 本地磁盘存储
@@ -44,6 +54,7 @@ import java.io.IOException;
  * @author Alan Yeh
  * @since 2022/10/30
  */
+@NoArgsConstructor
 public class LocalBucket implements Bucket, InitializingBean {
 
     @Control(label = "说明", type = ControlType.LABEL, required = false, defaultValue = "将对象保存到本地磁盘中。")
@@ -52,6 +63,10 @@ public class LocalBucket implements Bucket, InitializingBean {
     @Control(label = "保存位置", comment = "文件保存路径，可以使用相对路径")
     private String location;
 
+    public LocalBucket(String location) {
+        this.location = location;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         // 创建目录
@@ -75,18 +90,56 @@ public class LocalBucket implements Bucket, InitializingBean {
 
     @Override
     public String store(ObjectStream stream) throws IOException {
-        // 取摘要的前三个字符作为文件夹名
-        var dir = new File(this.location, stream.getDigest().substring(0, 3));
-        if (!dir.exists() && !dir.mkdirs()) {
-            throw new IOException(Stringx.format("无法写入数据: " + this.location));
-        }
+        // 先写入临时文件，同时计算摘要，数据只读取一次
+        var temp = new File(this.location, Guidx.nextID() + ".tmp");
+        try {
+            // 对象数据已经是完整的文件时（如分片上传组装好的文件），直接移动，不需要复制
+            var digest = stream.moveAndDigest(temp);
+            if (digest == null) {
+                digest = stream.transferAndDigest(temp);
+            }
 
-        // 使用摘要作为文件名
-        var file = new File(dir, stream.getDigest());
+            // 取摘要的前三个字符作为文件夹名
+            var dir = new File(this.location, digest.substring(0, 3));
+            if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+                throw new IOException(Stringx.format("无法写入数据: " + this.location));
+            }
+
+            // 使用摘要作为文件名
+            var file = new File(dir, digest);
+            if (!file.exists()) {
+                try {
+                    // 临时文件与目标文件在同一目录树下，可以原子移动
+                    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 其它请求同时保存了相同内容的文件
+                }
+            } else {
+                // 更新修改时间，避免刚被重新引用的数据被当作孤立数据回收
+                file.setLastModified(System.currentTimeMillis());
+            }
+            // 目标文件已存在（内容相同）时，直接丢弃临时文件
+            return digest;
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
 
-        stream.transferTo(file);
+    @Override
+    public String getLocation() {
+        // 规范化的绝对路径，相对路径、包含 .. 或符号链接的写法指向同一个目录时，是同一个存储位置
+        var dir = new File(this.location);
+        try {
+            return "local:" + dir.getCanonicalPath();
+        } catch (IOException ex) {
+            return "local:" + dir.toPath().toAbsolutePath().normalize();
+        }
+    }
 
-        return stream.getDigest();
+    @Override
+    public boolean isDigestKey() {
+        // 数据按摘要保存，存储键就是摘要
+        return true;
     }
 
     @Override
@@ -101,6 +154,12 @@ public class LocalBucket implements Bucket, InitializingBean {
         Filex.delete(file);
     }
 
+    @Override
+    public long getLastModified(String key) throws IOException {
+        var file = new File(new File(this.location, key.substring(0, 3)), key);
+        return file.lastModified();
+    }
+
     @Override
     public ObjectStream get(String key) throws FileNotFoundException, IOException {
         var file = new File(new File(this.location, key.substring(0, 3)), key);
@@ -109,4 +168,55 @@ public class LocalBucket implements Bucket, InitializingBean {
         }
         return new FileObjectStream(file);
     }
+
+    @Override
+    public List<Entry> list(@Nullable String after, int limit) throws IOException {
+        var result = new ArrayList<Entry>(limit);
+
+        // 文件夹名是存储键的前三个字符，因此按文件夹名、文件名依次排序即是按存储键排序
+        var dirs = new File(this.location).listFiles(it -> it.isDirectory() && it.getName().length() == 3);
+        if (dirs == null) {
+            return result;
+        }
+        Arrays.sort(dirs, Comparator.comparing(File::getName));
+
+        var prefix = after == null ? null : after.substring(0, 3);
+        for (var dir : dirs) {
+            if (prefix != null && dir.getName().compareTo(prefix) < 0) {
+                continue;
+            }
+
+            var files = dir.listFiles(it -> it.isFile() && !it.getName().endsWith(".tmp") && (after == null || it.getName().compareTo(after) > 0));
+            if (files == null) {
+                continue;
+            }
+            Arrays.sort(files, Comparator.comparing(File::getName));
+
+            for (var file : files) {
+                result.add(new Entry(file.getName(), file.length(), file.lastModified()));
+                if (result.size() >= limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long clean(Duration age) throws IOException {
+        var deadline = System.currentTimeMillis() - age.toMillis();
+        var temps = new File(this.location).listFiles(it -> it.isFile() && it.getName().endsWith(".tmp") && it.lastModified() < deadline);
+        if (temps == null) {
+            return 0;
+        }
+
+        long bytes = 0;
+        for (var temp : temps) {
+            var size = temp.length();
+            if (Files.deleteIfExists(temp.toPath())) {
+                bytes += size;
+            }
+        }
+        return bytes;
+    }
 }
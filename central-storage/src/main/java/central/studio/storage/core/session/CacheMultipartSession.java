@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.session;
+
+import central.lang.Stringx;
+import central.lang.reflect.TypeRef;
+import central.storage.client.data.Multipart;
+import central.studio.storage.core.MultipartSession;
+import central.util.Jsonx;
+import central.util.cache.CacheRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+
+/**
+ * 基于缓存仓库的分片上传会话
+ * <p>
+ * 会话的有效期由缓存仓库（如 Redis）维护。已上传的分片记录在单独的列表里，
+ * 同时上传同一会话的不同分片时不会互相覆盖。
+ * <p>
+ * 分片数据仍缓存在接收分片的节点本地，因此同一会话的分片必须上传到同一个节点。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class CacheMultipartSession implements MultipartSession {
+
+    private final CacheRepository repository;
+
+    private final Duration timeout;
+
+    /**
+     * @param repository 缓存仓库
+     * @param timeout    会话有效期
+     */
+    public CacheMultipartSession(CacheRepository repository, Duration timeout) {
+        this.repository = repository;
+        this.timeout = timeout;
+    }
+
+    private String getSessionKey(String id) {
+        return Stringx.format("central:storage:multipart:{}", id);
+    }
+
+    private String getChunksKey(String id) {
+        return Stringx.format("central:storage:multipart:{}:chunks", id);
+    }
+
+    @Override
+    public void save(Multipart multipart) {
+        this.repository.opsValue(this.getSessionKey(multipart.getId()))
+                .set(Jsonx.Default().serialize(multipart), this.timeout);
+    }
+
+    @Override
+    public Multipart find(String id) {
+        var value = this.repository.opsValue(this.getSessionKey(id)).getValue();
+        if (value == null) {
+            return null;
+        }
+
+        var multipart = Jsonx.Default().deserialize(value, TypeRef.of(Multipart.class));
+        // 移除已上传的分片
+        var uploaded = new HashSet<Integer>();
+        for (var index : this.repository.opsList(this.getChunksKey(id)).values()) {
+            uploaded.add(Integer.valueOf(index));
+        }
+        multipart.getChunks().removeAll(uploaded);
+        return multipart;
+    }
+
+    @Override
+    public Multipart complete(String id, int index) {
+        if (!this.repository.hasKey(this.getSessionKey(id))) {
+            return null;
+        }
+
+        this.repository.opsList(this.getChunksKey(id)).add(String.valueOf(index));
+
+        // 延长会话有效期
+        this.repository.expire(this.getSessionKey(id), this.timeout);
+        this.repository.expire(this.getChunksKey(id), this.timeout);
+        return this.find(id);
+    }
+
+    @Override
+    public Multipart remove(String id) {
+        var multipart = this.find(id);
+        this.repository.delete(this.getSessionKey(id));
+        this.repository.delete(this.getChunksKey(id));
+        return multipart;
+    }
+}
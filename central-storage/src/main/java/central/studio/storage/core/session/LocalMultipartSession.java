@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.session;
+
+import central.lang.reflect.TypeRef;
+import central.storage.client.data.Multipart;
+import central.studio.storage.core.MultipartSession;
+import central.util.Jsonx;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地分片上传会话
+ * <p>
+ * 会话保存在本地目录中（每个会话一个 json 文件），重启后可以恢复。适用于单节点部署，或多个节点共享同一个目录的场景。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@Slf4j
+public class LocalMultipartSession implements MultipartSession {
+
+    private final Path path;
+
+    private final long timeout;
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * @param path    会话保存目录
+     * @param timeout 会话有效期
+     */
+    public LocalMultipartSession(Path path, Duration timeout) throws IOException {
+        this.path = path;
+        this.timeout = timeout.toMillis();
+        Files.createDirectories(path);
+
+        // 恢复重启前的会话
+        try (var files = Files.list(path)) {
+            for (var file : files.filter(it -> it.getFileName().toString().endsWith(".json")).toList()) {
+                try {
+                    var multipart = Jsonx.Default().deserialize(Files.readString(file, StandardCharsets.UTF_8), TypeRef.of(Multipart.class));
+                    this.sessions.put(multipart.getId(), new Entry(multipart, Files.getLastModifiedTime(file).toMillis()));
+                } catch (Exception ex) {
+                    log.warn("分片上传会话[{}]恢复失败: {}", file.getFileName(), ex.getLocalizedMessage());
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void save(Multipart multipart) {
+        this.write(multipart);
+        this.sessions.put(multipart.getId(), new Entry(multipart, System.currentTimeMillis()));
+    }
+
+    @Override
+    public Multipart find(String id) {
+        var entry = this.sessions.get(id);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            if (entry.isExpired(this.timeout)) {
+                return null;
+            }
+            return copy(entry.multipart);
+        }
+    }
+
+    @Override
+    public Multipart complete(String id, int index) {
+        var entry = this.sessions.get(id);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            if (entry.removed || entry.isExpired(this.timeout)) {
+                return null;
+            }
+            entry.multipart.getChunks().remove(Integer.valueOf(index));
+            entry.accessed = System.currentTimeMillis();
+            this.write(entry.multipart);
+            return copy(entry.multipart);
+        }
+    }
+
+    @Override
+    public Multipart remove(String id) {
+        var entry = this.sessions.remove(id);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            entry.removed = true;
+            this.delete(id);
+            return entry.isExpired(this.timeout) ? null : entry.multipart;
+        }
+    }
+
+    @Override
+    public void evict() {
+        for (var entry : this.sessions.entrySet()) {
+            if (entry.getValue().isExpired(this.timeout)) {
+                this.remove(entry.getKey());
+            }
+        }
+    }
+
+    private void write(Multipart multipart) {
+        // 先写临时文件再替换，避免进程退出时留下不完整的会话
+        var file = this.path.resolve(multipart.getId() + ".json");
+        var temp = this.path.resolve(multipart.getId() + ".json.tmp");
+        try {
+            Files.writeString(temp, Jsonx.Default().serialize(multipart), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("保存分片上传会话失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    private void delete(String id) {
+        try {
+            Files.deleteIfExists(this.path.resolve(id + ".json"));
+        } catch (IOException ex) {
+            log.warn("删除分片上传会话[{}]失败: {}", id, ex.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * 复制一份，避免返回后被并发修改
+     */
+    private static Multipart copy(Multipart multipart) {
+        return Jsonx.Default().deserialize(Jsonx.Default().serialize(multipart), TypeRef.of(Multipart.class));
+    }
+
+    private static class Entry {
+        private final Multipart multipart;
+        private volatile long accessed;
+        private boolean removed;
+
+        private Entry(Multipart multipart, long accessed) {
+            this.multipart = multipart;
+            this.accessed = accessed;
+        }
+
+        private boolean isExpired(long timeout) {
+            return System.currentTimeMillis() - this.accessed > timeout;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.stream;
+
+import central.security.Digestx;
+import central.studio.storage.core.BucketCache;
+import central.studio.storage.core.ObjectStream;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 组装对象流
+ * <p>
+ * 分片上传时各分片已直接写入到缓存的对应位置，组装后的缓存就是完整的对象数据，保存时可以直接移动
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@RequiredArgsConstructor
+public class AssemblyObjectStream extends ObjectStream {
+
+    private final BucketCache cache;
+
+    private final String key;
+
+    @Getter
+    private final String filename;
+
+    @Getter
+    private final long size;
+
+    /**
+     * 上传过程中已计算好的摘要，为空时在移动前读取一遍数据计算
+     */
+    @Nullable
+    private final String assembledDigest;
+
+    @NotNull
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return this.cache.get(this.key);
+    }
+
+    @Override
+    public String moveAndDigest(File file) throws IOException {
+        var digest = this.assembledDigest;
+        if (digest == null) {
+            try (var input = this.getInputStream()) {
+                digest = Digestx.SHA256.digest(input);
+            }
+        }
+        this.verify(digest);
+
+        this.cache.move(this.key, file);
+        return digest;
+    }
+}
@@ -24,38 +24,53 @@
 
 package central.studio.storage.core.stream;
 
-import central.studio.storage.core.BucketCache;
 import central.studio.storage.core.ObjectStream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
+import java.io.OutputStream;
 
 /**
- * 缓存对象流
+ * 内存对象数据流
  *
  * @author Alan Yeh
- * @since 2022/11/02
+ * @since 2026/10/19
  */
 @RequiredArgsConstructor
-public class CacheObjectStream extends ObjectStream {
-
-    private final BucketCache cache;
-
-    private final List<String> keys;
+public class BytesObjectStream extends ObjectStream {
 
     @Getter
     private final String filename;
 
-    @Getter
-    private final long size;
+    private final byte[] data;
+
+    @Override
+    public long getSize() {
+        return this.data.length;
+    }
 
     @NotNull
     @Override
-    public InputStream getInputStream() throws IOException {
-        return cache.get(this.keys);
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(this.data);
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return this.data;
+    }
+
+    @Override
+    public void transferTo(OutputStream output) throws IOException {
+        output.write(this.data);
+    }
+
+    @Override
+    public boolean isResumable() {
+        return true;
     }
 }
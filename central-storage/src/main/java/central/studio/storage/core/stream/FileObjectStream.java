@@ -66,6 +66,11 @@ public class FileObjectStream extends ObjectStream {
         return Files.newInputStream(file.toPath(), StandardOpenOption.READ);
     }
 
+    @Override
+    public File getFile() {
+        return this.file;
+    }
+
     @Override
     public boolean isResumable() {
         return true;
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.stream;
+
+import lombok.Getter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 分流输入流
+ * <p>
+ * 从输入流读取数据的同时，将读到的数据写入输出流，使数据只需要读取一次
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class TeeInputStream extends FilterInputStream {
+
+    private final OutputStream branch;
+
+    private boolean closed;
+
+    /**
+     * 是否已读取到输入流末尾
+     */
+    @Getter
+    private boolean exhausted;
+
+    /**
+     * @param input  输入流
+     * @param branch 分流输出，关闭本流时一并关闭
+     */
+    public TeeInputStream(InputStream input, OutputStream branch) {
+        super(input);
+        this.branch = branch;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            this.branch.write(value);
+        } else {
+            this.exhausted = true;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            this.branch.write(buffer, offset, count);
+        } else if (count < 0) {
+            this.exhausted = true;
+        }
+        return count;
+    }
+
+    @Override
+    public long transferTo(OutputStream output) throws IOException {
+        var buffer = new byte[64 * 1024];
+        long transferred = 0;
+        int count;
+        while ((count = this.read(buffer, 0, buffer.length)) >= 0) {
+            output.write(buffer, 0, count);
+            transferred += count;
+        }
+        return transferred;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 跳过的数据也需要写入分流，因此通过读取来实现
+        var buffer = new byte[(int) Math.min(8192, Math.max(n, 1))];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = this.read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            super.close();
+        } finally {
+            this.branch.close();
+        }
+    }
+}
@@ -24,12 +24,17 @@
 
 package central.studio.storage.controller;
 
+import central.data.storage.StorageObject;
+import central.data.storage.StorageObjectInput;
 import central.io.Filex;
 import central.net.http.HttpException;
+import central.provider.graphql.storage.StorageObjectProvider;
 import central.security.Digestx;
+import central.sql.query.Conditions;
 import central.storage.client.ObjectClient;
 import central.storage.client.Permission;
 import central.studio.storage.StorageApplication;
+import central.studio.storage.controller.param.DeleteParams;
 import central.studio.storage.core.BucketContainer;
 import central.util.Guidx;
 import central.util.Listx;
@@ -43,7 +48,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +71,12 @@ public class TestObjectController {
     @Setter(onMethod_ = @Autowired)
     private BucketContainer container;
 
+    @Setter(onMethod_ = @Autowired)
+    private ObjectController controller;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageObjectProvider provider;
+
     @BeforeEach
     @SuppressWarnings("BusyWait")
     public void boot() throws Exception {
@@ -271,4 +284,65 @@ public class TestObjectController {
             }
         }
     }
+
+    /**
+     * 批量删除大量引用了相同存储键的对象
+     *
+     * @see ObjectController#delete
+     */
+    @Test
+    @SuppressWarnings("BusyWait")
+    public void case5() throws Exception {
+        var shared = new File("./shared.txt");
+        var kept = new File("./kept.txt");
+        try {
+            Filex.writeText(shared, Guidx.nextID() + Guidx.nextID());
+            Filex.writeText(kept, Guidx.nextID() + Guidx.nextID());
+
+            var token = this.client.createToken("AkJSi2kmH7vSO5lJcvY", null, List.of(Permission.CREATE), Duration.ofMinutes(1).toMillis());
+            var sharedObject = this.findObject(this.client.upload("identity", token, shared, null, null, true, "master").getId());
+            var keptObject = this.findObject(this.client.upload("identity", token, kept, null, null, true, "master").getId());
+
+            // 批量插入引用相同存储键的对象
+            var ids = new ArrayList<String>();
+            ids.add(sharedObject.getId());
+            for (int i = 0; i < 10; i++) {
+                var inputs = new ArrayList<StorageObjectInput>();
+                for (int j = 0; j < 1000; j++) {
+                    inputs.add(sharedObject.toInput().toBuilder().id(null).name("shared-" + i + "-" + j + ".txt").build());
+                }
+                this.provider.insertBatch(inputs, "syssa", "master").forEach(it -> ids.add(it.getId()));
+            }
+            // 引用了保留对象的存储键的对象也删除，但是保留对象还在，因此数据不能被删除
+            ids.add(this.provider.insert(keptObject.toInput().toBuilder().id(null).name("kept-copy.txt").build(), "syssa", "master").getId());
+
+            // 只回收超过孤立数据保留时长未修改的数据
+            var bucket = this.container.requireBucket("master", "identity");
+            var data = bucket.get(sharedObject.getKey()).getFile();
+            assertNotNull(data);
+            Files.setLastModifiedTime(data.toPath(), FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(1).toMillis()));
+
+            token = this.client.createToken("AkJSi2kmH7vSO5lJcvY", null, List.of(Permission.DELETE), Duration.ofMinutes(1).toMillis());
+            var effected = this.controller.delete("identity", new DeleteParams(token, ids), "master");
+            assertEquals(ids.size(), effected);
+
+            // 数据在后台删除
+            var deadline = System.currentTimeMillis() + Duration.ofSeconds(30).toMillis();
+            while (bucket.exists(sharedObject.getKey()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            assertFalse(bucket.exists(sharedObject.getKey()));
+            assertTrue(bucket.exists(keptObject.getKey()));
+
+            token = this.client.createToken("AkJSi2kmH7vSO5lJcvY", null, List.of(Permission.DELETE), Duration.ofMinutes(1).toMillis());
+            assertEquals(1L, this.controller.delete("identity", new DeleteParams(token, List.of(keptObject.getId())), "master"));
+        } finally {
+            Filex.delete(shared);
+            Filex.delete(kept);
+        }
+    }
+
+    private StorageObject findObject(String id) {
+        return Listx.getFirstOrNull(this.provider.findBy(null, null, Conditions.of(StorageObject.class).eq(StorageObject::getId, id), null, "master"));
+    }
 }
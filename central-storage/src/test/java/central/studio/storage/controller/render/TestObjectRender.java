@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.controller.render;
+
+import central.studio.storage.core.ObjectStream;
+import central.studio.storage.core.stream.FileObjectStream;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Object Render Test Cases
+ *
+ * @author Alan Yeh
+ * @see ObjectRender
+ * @since 2026/10/19
+ */
+public class TestObjectRender {
+
+    private static final String DIGEST = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    private byte[] data;
+
+    private File file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.data = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+        this.file = File.createTempFile("object-", ".bin");
+        Files.write(this.file.toPath(), this.data);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    private MockHttpServletResponse render(MockHttpServletRequest request, ObjectStream stream) throws IOException {
+        var response = new MockHttpServletResponse();
+        new ObjectRender(request, response)
+                .setStream(stream)
+                .setFileName("test.txt")
+                .setContentType("text/plain")
+                .setContentLength(this.data.length)
+                .setDigest(DIGEST)
+                .render();
+        return response;
+    }
+
+    /**
+     * 完整内容
+     */
+    @Test
+    public void case1() throws IOException {
+        for (var stream : new ObjectStream[]{new FileObjectStream(this.file), new BytesObjectStream(this.data)}) {
+            var response = this.render(new MockHttpServletRequest("GET", "/"), stream);
+            assertEquals(200, response.getStatus());
+            assertEquals("\"" + DIGEST + "\"", response.getHeader("ETag"));
+            assertEquals("bytes", response.getHeader("Accept-Ranges"));
+            assertEquals(this.data.length, response.getContentLengthLong());
+            assertTrue(response.getHeader("Content-Disposition").contains("test.txt"));
+            assertArrayEquals(this.data, response.getContentAsByteArray());
+        }
+    }
+
+    /**
+     * If-None-Match
+     */
+    @Test
+    public void case2() throws IOException {
+        var request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", "\"other\", W/\"" + DIGEST + "\"");
+        var response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", "\"other\"");
+        response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(200, response.getStatus());
+    }
+
+    /**
+     * 单范围
+     */
+    @Test
+    public void case3() throws IOException {
+        for (var stream : new ObjectStream[]{new FileObjectStream(this.file), new BytesObjectStream(this.data)}) {
+            var request = new MockHttpServletRequest("GET", "/");
+            request.addHeader("Range", "bytes=10-15");
+            var response = this.render(request, stream);
+            assertEquals(206, response.getStatus());
+            assertEquals("bytes 10-15/36", response.getHeader("Content-Range"));
+            assertEquals(6, response.getContentLengthLong());
+            assertEquals("abcdef", response.getContentAsString());
+
+            // 后缀范围
+            request = new MockHttpServletRequest("GET", "/");
+            request.addHeader("Range", "bytes=-4");
+            response = this.render(request, stream);
+            assertEquals(206, response.getStatus());
+            assertEquals("bytes 32-35/36", response.getHeader("Content-Range"));
+            assertEquals("wxyz", response.getContentAsString());
+
+            // 结束位置超出对象大小
+            request = new MockHttpServletRequest("GET", "/");
+            request.addHeader("Range", "bytes=30-100");
+            response = this.render(request, stream);
+            assertEquals(206, response.getStatus());
+            assertEquals("bytes 30-35/36", response.getHeader("Content-Range"));
+            assertEquals("uvwxyz", response.getContentAsString());
+        }
+    }
+
+    /**
+     * 多范围
+     */
+    @Test
+    public void case4() throws IOException {
+        var request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=0-1, 34-");
+        var response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(206, response.getStatus());
+
+        var contentType = response.getContentType();
+        assertNotNull(contentType);
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+        var boundary = contentType.substring(contentType.indexOf('=') + 1);
+
+        var body = response.getContentAsString();
+        assertEquals(response.getContentLengthLong(), response.getContentAsByteArray().length);
+        assertTrue(body.contains("--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-1/36\r\n\r\n01\r\n"));
+        assertTrue(body.contains("--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 34-35/36\r\n\r\nyz\r\n"));
+        assertTrue(body.endsWith("--" + boundary + "--\r\n"));
+    }
+
+    /**
+     * 范围不可满足、If-Range 不匹配、无法解析的 Range
+     */
+    @Test
+    public void case5() throws IOException {
+        var request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=100-200");
+        var response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */36", response.getHeader("Content-Range"));
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=0-1");
+        request.addHeader("If-Range", "\"other\"");
+        response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(this.data, response.getContentAsByteArray());
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=0-1");
+        request.addHeader("If-Range", "\"" + DIGEST + "\"");
+        response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(206, response.getStatus());
+        assertEquals("01", response.getContentAsString());
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "lines=1-2");
+        response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(200, response.getStatus());
+    }
+
+    /**
+     * 容器支持 sendfile 时，交给容器发送文件
+     */
+    @Test
+    public void case6() throws IOException {
+        var request = new MockHttpServletRequest("GET", "/");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=10-15");
+        var response = this.render(request, new FileObjectStream(this.file));
+        assertEquals(206, response.getStatus());
+        assertEquals(this.file.getCanonicalPath(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(16L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    /**
+     * 非本地文件的对象流
+     */
+    private static class BytesObjectStream extends ObjectStream {
+        private final byte[] data;
+
+        private BytesObjectStream(byte[] data) {
+            this.data = Arrays.copyOf(data, data.length);
+        }
+
+        @Nonnull
+        @Override
+        public String getFilename() {
+            return "test.txt";
+        }
+
+        @Override
+        public long getSize() {
+            return this.data.length;
+        }
+
+        @Nonnull
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(this.data);
+        }
+    }
+}
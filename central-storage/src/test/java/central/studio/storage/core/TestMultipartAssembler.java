@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.security.Digestx;
+import central.storage.client.data.Multipart;
+import central.studio.storage.core.cache.LocalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multipart Assembler Test Cases
+ *
+ * @author Alan Yeh
+ * @see MultipartAssembler
+ * @since 2026/10/19
+ */
+public class TestMultipartAssembler {
+
+    private Path path;
+
+    private MultipartAssembler assembler;
+
+    private byte[] data;
+
+    private Multipart multipart;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.path = Files.createTempDirectory("assembler-");
+        this.assembler = new MultipartAssembler();
+        this.assembler.setCache(new LocalCache(this.path.resolve("cache")));
+
+        this.data = new byte[3 * 5 * 1024 * 1024 + 1234];
+        new Random(42).nextBytes(this.data);
+        this.multipart = new Multipart(Digestx.SHA256.digest(new ByteArrayInputStream(this.data)), (long) this.data.length);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (var files = Files.walk(this.path)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private ByteArrayInputStream chunk(int index) {
+        var position = (int) (index * this.multipart.getChunkSize());
+        return new ByteArrayInputStream(this.data, position, (int) MultipartAssembler.getChunkSize(this.multipart, index));
+    }
+
+    /**
+     * 分片乱序并行上传，完成时直接移动组装文件
+     */
+    @Test
+    public void case1() throws Exception {
+        this.assembler.create(this.multipart);
+
+        var indexes = new ArrayList<>(this.multipart.getChunks());
+        Collections.shuffle(indexes, new Random(7));
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var tasks = new ArrayList<Callable<Long>>();
+            for (var index : indexes) {
+                tasks.add(() -> this.assembler.write(this.multipart, index, this.chunk(index), null));
+            }
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        var stream = this.assembler.complete(this.multipart, "test.bin");
+        stream.setExpectedDigest(this.multipart.getDigest());
+
+        var target = this.path.resolve("target.bin").toFile();
+        assertEquals(this.multipart.getDigest(), stream.moveAndDigest(target));
+        assertEquals(this.multipart.getDigest(), stream.getDigest());
+        assertArrayEquals(this.data, Files.readAllBytes(target.toPath()));
+
+        // 组装文件已被移走
+        this.assembler.remove(this.multipart.getId());
+        try (var files = Files.list(this.path.resolve("cache"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * 组装状态丢失（如服务重启）时，完成上传时重新计算摘要
+     */
+    @Test
+    public void case2() throws Exception {
+        this.assembler.create(this.multipart);
+        for (var index : this.multipart.getChunks()) {
+            this.assembler.write(this.multipart, index, this.chunk(index), null);
+        }
+
+        var restarted = new MultipartAssembler();
+        restarted.setCache(new LocalCache(this.path.resolve("cache")));
+
+        var stream = restarted.complete(this.multipart, "test.bin");
+        stream.setExpectedDigest(this.multipart.getDigest());
+        assertEquals(this.multipart.getDigest(), stream.moveAndDigest(this.path.resolve("target.bin").toFile()));
+    }
+
+    /**
+     * 分片摘要不匹配时拒绝分片；整体摘要不匹配时不移动组装文件
+     */
+    @Test
+    public void case3() throws Exception {
+        this.assembler.create(this.multipart);
+
+        var digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(this.chunk(0).readAllBytes()));
+        assertThrows(DigestMismatchException.class, () -> this.assembler.write(this.multipart, 1, this.chunk(1), digest));
+        assertEquals(MultipartAssembler.getChunkSize(this.multipart, 0), this.assembler.write(this.multipart, 0, this.chunk(0), digest));
+
+        var stream = this.assembler.complete(this.multipart, "test.bin");
+        stream.setExpectedDigest(this.multipart.getDigest());
+        var target = this.path.resolve("target.bin").toFile();
+        assertThrows(DigestMismatchException.class, () -> stream.moveAndDigest(target));
+        assertFalse(target.exists());
+    }
+}
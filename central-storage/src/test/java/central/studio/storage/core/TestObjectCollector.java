@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core;
+
+import central.data.storage.StorageObjectInput;
+import central.provider.graphql.storage.StorageObjectProvider;
+import central.studio.storage.StorageApplication;
+import central.studio.storage.core.stream.BytesObjectStream;
+import central.util.Guidx;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Object Collector Test Cases
+ *
+ * @author Alan Yeh
+ * @see ObjectCollector
+ * @since 2026/10/19
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = StorageApplication.class)
+public class TestObjectCollector {
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectCollector collector;
+
+    @Setter(onMethod_ = @Autowired)
+    private BucketContainer container;
+
+    @Setter(onMethod_ = @Autowired)
+    private StorageObjectProvider provider;
+
+    @Setter(onMethod_ = @Autowired)
+    private ObjectReclaimer reclaimer;
+
+    @BeforeEach
+    @SuppressWarnings("BusyWait")
+    public void boot() throws Exception {
+        // 等待存储中心完全启动起来才可以单元测试
+        while (container.getBuckets("master").isEmpty()) {
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * 保存数据，并将修改时间设置为超过孤立数据保留时长
+     */
+    private String store(DynamicBucket bucket) throws IOException {
+        var key = bucket.store(new BytesObjectStream("test.txt", (Guidx.nextID() + Guidx.nextID()).getBytes(StandardCharsets.UTF_8)));
+        var file = bucket.get(key).getFile();
+        assertNotNull(file);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(1).toMillis()));
+        return key;
+    }
+
+    private String insert(String bucketId, String key) {
+        var input = StorageObjectInput.builder()
+                .bucketId(bucketId)
+                .name("test.txt")
+                .size(64L)
+                .digest(key)
+                .key(key)
+                .confirmed(Boolean.TRUE)
+                .build();
+        return this.provider.insert(input, "syssa", "master").getId();
+    }
+
+    /**
+     * 回收没有对象引用的孤立数据，保留有对象引用的数据
+     */
+    @Test
+    public void case1() throws Exception {
+        var bucket = this.container.requireBucket("master", "identity");
+
+        var orphan = this.store(bucket);
+        var referenced = this.store(bucket);
+        var id = this.insert(bucket.getData().getId(), referenced);
+        try {
+            this.collector.collect();
+
+            assertFalse(bucket.exists(orphan));
+            assertTrue(bucket.exists(referenced));
+        } finally {
+            this.provider.deleteByIds(List.of(id), "master");
+            bucket.delete(referenced);
+        }
+    }
+
+    /**
+     * 数据只被没有加载的存储桶（如其它节点新建的、使用相同存储位置的存储桶）引用时，不能回收
+     */
+    @Test
+    public void case2() throws Exception {
+        var bucket = this.container.requireBucket("master", "identity");
+
+        var referenced = this.store(bucket);
+        var unloaded = Guidx.nextID();
+        assertTrue(this.container.getBuckets("master").stream().noneMatch(it -> unloaded.equals(it.getData().getId())));
+        var id = this.insert(unloaded, referenced);
+        try {
+            this.collector.collect();
+
+            assertTrue(bucket.exists(referenced));
+        } finally {
+            this.provider.deleteByIds(List.of(id), "master");
+            bucket.delete(referenced);
+        }
+    }
+
+    /**
+     * 秒传命中已有数据后、对象信息保存之前，数据没有对象引用，不能回收
+     */
+    @Test
+    public void case3() throws Exception {
+        var bucket = this.container.requireBucket("master", "identity");
+
+        var orphan = this.store(bucket);
+        var content = (Guidx.nextID() + Guidx.nextID()).getBytes(StandardCharsets.UTF_8);
+        var existing = bucket.store(new BytesObjectStream("test.txt", content));
+        var file = bucket.get(existing).getFile();
+        assertNotNull(file);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(1).toMillis()));
+        try {
+            // 秒传命中已有数据，会更新修改时间
+            assertEquals(existing, bucket.store(new BytesObjectStream("test.txt", content)));
+
+            var deleted = this.reclaimer.deleteUnreferenced(bucket, List.of(orphan, existing));
+
+            assertEquals(Set.of(orphan), deleted);
+            assertFalse(bucket.exists(orphan));
+            assertTrue(bucket.exists(existing));
+        } finally {
+            bucket.delete(existing);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Local Cache Test Cases
+ *
+ * @author Alan Yeh
+ * @see LocalCache
+ * @since 2026/10/19
+ */
+public class TestLocalCache {
+
+    private Path path;
+
+    private LocalCache cache;
+
+    private byte[] data;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.path = Files.createTempDirectory("cache-");
+        this.cache = new LocalCache(this.path);
+
+        this.data = new byte[1024 * 1024 + 13];
+        new Random(42).nextBytes(this.data);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (var files = Files.walk(this.path)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 边读边缓存，读取完毕后缓存与原数据一致
+     */
+    @Test
+    public void case1() throws IOException {
+        byte[] read;
+        try (var stream = this.cache.cache("test", new ByteArrayInputStream(this.data))) {
+            read = stream.readAllBytes();
+        }
+        assertArrayEquals(this.data, read);
+        assertTrue(this.cache.exists("test"));
+        try (var stream = this.cache.get("test")) {
+            assertArrayEquals(this.data, stream.readAllBytes());
+        }
+
+        // 通过 transferTo 读取
+        try (var stream = this.cache.cache("transfer", new ByteArrayInputStream(this.data))) {
+            assertEquals(this.data.length, stream.transferTo(OutputStream.nullOutputStream()));
+        }
+        try (var stream = this.cache.get("transfer")) {
+            assertArrayEquals(this.data, stream.readAllBytes());
+        }
+    }
+
+    /**
+     * 未读取完毕就关闭时，不保留不完整的缓存
+     */
+    @Test
+    public void case2() throws IOException {
+        try (var stream = this.cache.cache("test", new ByteArrayInputStream(this.data))) {
+            assertEquals(1024, stream.readNBytes(1024).length);
+        }
+        assertFalse(this.cache.exists("test"));
+    }
+
+    /**
+     * put 不允许覆盖，set 允许覆盖
+     */
+    @Test
+    public void case3() throws IOException {
+        this.cache.put("test", new ByteArrayInputStream(this.data));
+        assertThrows(IOException.class, () -> this.cache.put("test", new ByteArrayInputStream(new byte[0])));
+        try (var stream = this.cache.get("test")) {
+            assertArrayEquals(this.data, stream.readAllBytes());
+        }
+
+        this.cache.set("test", new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        try (var stream = this.cache.get("test")) {
+            assertArrayEquals(new byte[]{1, 2, 3}, stream.readAllBytes());
+        }
+    }
+
+    /**
+     * 读取完毕之前，缓存对其它调用方不可见
+     */
+    @Test
+    public void case4() throws IOException {
+        try (var stream = this.cache.cache("test", new ByteArrayInputStream(this.data))) {
+            assertEquals(1024, stream.readNBytes(1024).length);
+            assertFalse(this.cache.exists("test"));
+            assertNull(this.cache.get("test"));
+            assertTrue(this.cache.keys().isEmpty());
+
+            stream.readAllBytes();
+        }
+        assertTrue(this.cache.exists("test"));
+        assertEquals(1, this.cache.keys().size());
+        try (var stream = this.cache.get("test")) {
+            assertArrayEquals(this.data, stream.readAllBytes());
+        }
+    }
+}
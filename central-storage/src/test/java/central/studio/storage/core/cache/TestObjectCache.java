@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.cache;
+
+import central.data.storage.StorageObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Object Cache Test Cases
+ *
+ * @author Alan Yeh
+ * @see ObjectCache
+ * @since 2026/10/19
+ */
+public class TestObjectCache {
+
+    private static StorageObject object(String id, int size) {
+        var object = new StorageObject();
+        object.setId(id);
+        object.setName(id + ".png");
+        object.setSize((long) size);
+        return object;
+    }
+
+    /**
+     * 缓存与命中统计
+     */
+    @Test
+    public void case1() {
+        var cache = new ObjectCache(1024, 64 * 1024, Duration.ofMinutes(5));
+
+        var key = ObjectCache.getKey("master", "bucket", "1");
+        assertNull(cache.get(key));
+
+        cache.put(key, object("1", 100), new byte[100]);
+        var entry = cache.get(key);
+        assertNotNull(entry);
+        assertEquals("1", entry.object().getId());
+        assertEquals(100, entry.data().length);
+
+        var metrics = cache.getMetrics();
+        assertEquals(1, metrics.getSize());
+        assertEquals(1, metrics.getHits());
+        assertEquals(1, metrics.getMisses());
+
+        // 失效后不再命中
+        cache.invalidate(key);
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getMetrics().getWeight());
+    }
+
+    /**
+     * 超过大小限制的对象不缓存
+     */
+    @Test
+    public void case2() {
+        var cache = new ObjectCache(1024, 64 * 1024, Duration.ofMinutes(5));
+        assertFalse(cache.isCacheable(1025));
+
+        cache.put("large", object("large", 1025), new byte[1025]);
+        assertNull(cache.get("large"));
+        assertEquals(0, cache.getMetrics().getSize());
+
+        // 禁用缓存
+        var disabled = new ObjectCache(-1, 0, Duration.ofMinutes(5));
+        assertFalse(disabled.isCacheable(0));
+    }
+
+    /**
+     * 超出容量时淘汰最久未访问的对象
+     */
+    @Test
+    public void case3() {
+        // 每个缓存项占用 1024 + 512，最多容纳 3 个
+        var cache = new ObjectCache(1024, 3 * (1024 + 512), Duration.ofMinutes(5));
+        cache.put("1", object("1", 1024), new byte[1024]);
+        cache.put("2", object("2", 1024), new byte[1024]);
+        cache.put("3", object("3", 1024), new byte[1024]);
+
+        // 访问 1 之后，2 成为最久未访问的对象
+        assertNotNull(cache.get("1"));
+        cache.put("4", object("4", 1024), new byte[1024]);
+
+        assertNull(cache.get("2"));
+        assertNotNull(cache.get("1"));
+        assertNotNull(cache.get("3"));
+        assertNotNull(cache.get("4"));
+
+        var metrics = cache.getMetrics();
+        assertEquals(3, metrics.getSize());
+        assertEquals(1, metrics.getEvictions());
+        assertTrue(metrics.getWeight() <= metrics.getCapacity());
+    }
+
+    /**
+     * 过期后不再命中
+     */
+    @Test
+    public void case4() throws InterruptedException {
+        var cache = new ObjectCache(1024, 64 * 1024, Duration.ofMillis(50));
+        cache.put("1", object("1", 10), new byte[10]);
+        assertNotNull(cache.get("1"));
+
+        Thread.sleep(100);
+        assertNull(cache.get("1"));
+        assertEquals(0, cache.getMetrics().getSize());
+    }
+
+    /**
+     * 较大的对象只缓存对象信息
+     */
+    @Test
+    public void case5() {
+        var cache = new ObjectCache(1024, 64 * 1024, Duration.ofMinutes(5));
+        cache.put("large", object("large", 4096), null);
+
+        var entry = cache.get("large");
+        assertNotNull(entry);
+        assertNull(entry.data());
+        assertEquals(512, cache.getMetrics().getWeight());
+
+        // 禁用缓存时也不缓存对象信息
+        var disabled = new ObjectCache(-1, 0, Duration.ofMinutes(5));
+        disabled.put("large", object("large", 4096), null);
+        assertNull(disabled.get("large"));
+    }
+}
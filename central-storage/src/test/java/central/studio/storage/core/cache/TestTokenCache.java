@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.cache;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token Cache Test Cases
+ *
+ * @author Alan Yeh
+ * @see TokenCache
+ * @since 2026/10/19
+ */
+public class TestTokenCache {
+
+    private static String token(String secret, long expiresIn) {
+        return JWT.create()
+                .withClaim("permissions", "view")
+                .withExpiresAt(new Date(System.currentTimeMillis() + expiresIn))
+                .sign(Algorithm.HMAC256(secret));
+    }
+
+    /**
+     * 相同密钥复用校验器，已校验的凭证直接返回缓存
+     */
+    @Test
+    public void case1() {
+        var cache = new TokenCache(100, Duration.ofMinutes(5));
+        assertSame(cache.getVerifier("secret"), cache.getVerifier("secret"));
+        assertNotSame(cache.getVerifier("secret"), cache.getVerifier("other"));
+
+        var token = token("secret", Duration.ofMinutes(1).toMillis());
+        var jwt = cache.verify("secret", token);
+        assertEquals("view", jwt.getClaim("permissions").asString());
+        assertSame(jwt, cache.verify("secret", token));
+    }
+
+    /**
+     * 密钥不匹配时，即使凭证已缓存也校验失败
+     */
+    @Test
+    public void case2() {
+        var cache = new TokenCache(100, Duration.ofMinutes(5));
+        var token = token("secret", Duration.ofMinutes(1).toMillis());
+
+        assertThrows(SignatureVerificationException.class, () -> cache.verify("other", token));
+        cache.verify("secret", token);
+        assertThrows(SignatureVerificationException.class, () -> cache.verify("other", token));
+    }
+
+    /**
+     * 缓存时间不超过凭证的有效期
+     */
+    @Test
+    public void case3() throws InterruptedException {
+        var cache = new TokenCache(100, Duration.ofMinutes(5));
+        var token = token("secret", 1500);
+
+        cache.verify("secret", token);
+        Thread.sleep(2000);
+        assertThrows(TokenExpiredException.class, () -> cache.verify("secret", token));
+    }
+
+    /**
+     * 容量为 0 时不缓存凭证
+     */
+    @Test
+    public void case4() {
+        var cache = new TokenCache(0, Duration.ofMinutes(5));
+        var token = token("secret", Duration.ofMinutes(1).toMillis());
+
+        assertNotSame(cache.verify("secret", token), cache.verify("secret", token));
+    }
+}
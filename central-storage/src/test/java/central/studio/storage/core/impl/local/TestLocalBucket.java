@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.impl.local;
+
+import central.io.Filex;
+import central.security.Digestx;
+import central.studio.storage.core.DigestMismatchException;
+import central.studio.storage.core.stream.FileObjectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Local Bucket Test Cases
+ *
+ * @author Alan Yeh
+ * @see LocalBucket
+ * @since 2026/10/19
+ */
+public class TestLocalBucket {
+
+    private File location;
+
+    private File source;
+
+    private LocalBucket bucket;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        this.location = Files.createTempDirectory("bucket-").toFile();
+        this.source = File.createTempFile("source-", ".bin");
+
+        var data = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(data);
+        Files.write(this.source.toPath(), data);
+
+        this.bucket = new LocalBucket(this.location.getAbsolutePath());
+        this.bucket.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Filex.delete(this.source);
+        try (var files = Files.walk(this.location.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 保存时计算摘要，并以摘要作为存储键
+     */
+    @Test
+    public void case1() throws IOException {
+        var digest = Digestx.SHA256.digest(Files.newInputStream(this.source.toPath()));
+
+        var stream = new FileObjectStream(this.source);
+        var key = this.bucket.store(stream);
+        assertEquals(digest, key);
+        assertEquals(digest, stream.getDigest());
+        assertTrue(this.bucket.exists(key));
+        assertEquals(this.source.length(), this.bucket.get(key).getSize());
+
+        // 相同内容再次保存，得到相同的存储键
+        assertEquals(key, this.bucket.store(new FileObjectStream(this.source)));
+
+        // 不会留下临时文件
+        var temps = this.location.listFiles((dir, name) -> name.endsWith(".tmp"));
+        assertNotNull(temps);
+        assertEquals(0, temps.length);
+    }
+
+    /**
+     * 摘要与期望不一致时保存失败，且不留下数据
+     */
+    @Test
+    public void case2() throws IOException {
+        var stream = new FileObjectStream(this.source);
+        stream.setExpectedDigest("0000000000000000000000000000000000000000000000000000000000000000");
+
+        assertThrows(DigestMismatchException.class, () -> this.bucket.store(stream));
+
+        var files = this.location.listFiles();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+    }
+
+    /**
+     * 按存储键升序分页遍历数据
+     */
+    @Test
+    public void case3() throws IOException {
+        var expected = new TreeSet<String>();
+        for (int i = 0; i < 50; i++) {
+            Files.write(this.source.toPath(), ("object-" + i).getBytes());
+            expected.add(this.bucket.store(new FileObjectStream(this.source)));
+        }
+        // 临时文件不会被遍历
+        Files.write(new File(this.location, "abc.tmp").toPath(), new byte[10]);
+
+        var keys = new ArrayList<String>();
+        String after = null;
+        while (true) {
+            var entries = this.bucket.list(after, 7);
+            entries.forEach(it -> keys.add(it.key()));
+            if (entries.size() < 7) {
+                break;
+            }
+            after = entries.get(entries.size() - 1).key();
+        }
+        assertEquals(new ArrayList<>(expected), keys);
+    }
+
+    /**
+     * 只清理超过指定时长未修改的临时文件
+     */
+    @Test
+    public void case4() throws IOException {
+        var stale = new File(this.location, "stale.tmp");
+        Files.write(stale.toPath(), new byte[10]);
+        assertTrue(stale.setLastModified(System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+
+        var fresh = new File(this.location, "fresh.tmp");
+        Files.write(fresh.toPath(), new byte[20]);
+
+        assertEquals(10, this.bucket.clean(Duration.ofHours(1)));
+        assertFalse(stale.exists());
+        assertTrue(fresh.exists());
+    }
+
+    /**
+     * 以不同写法配置的同一个目录，存储位置相同
+     */
+    @Test
+    public void case5() throws Exception {
+        var child = new LocalBucket(new File(this.location, "sub").getAbsolutePath());
+        child.afterPropertiesSet();
+        assertNotEquals(this.bucket.getLocation(), child.getLocation());
+
+        var alias = new LocalBucket(this.location.getAbsolutePath() + File.separator + "sub" + File.separator + "..");
+        alias.afterPropertiesSet();
+        assertEquals(this.bucket.getLocation(), alias.getLocation());
+
+        // 存储键就是摘要，可以按摘要查询引用
+        assertTrue(this.bucket.isDigestKey());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.storage.core.session;
+
+import central.storage.client.data.Multipart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Local Multipart Session Test Cases
+ *
+ * @author Alan Yeh
+ * @see LocalMultipartSession
+ * @since 2026/10/19
+ */
+public class TestLocalMultipartSession {
+
+    private Path path;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.path = Files.createTempDirectory("multipart-");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (var files = Files.walk(this.path)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 会话在重启后可以恢复
+     */
+    @Test
+    public void case1() throws IOException {
+        var session = new LocalMultipartSession(this.path, Duration.ofHours(1));
+
+        var multipart = new Multipart("digest", 12 * 1024 * 1024L);
+        session.save(multipart);
+        assertEquals(List.of(0, 1, 2), session.find(multipart.getId()).getChunks());
+
+        var updated = session.complete(multipart.getId(), 1);
+        assertNotNull(updated);
+        assertEquals(List.of(0, 2), updated.getChunks());
+
+        // 重新创建（模拟重启）
+        session = new LocalMultipartSession(this.path, Duration.ofHours(1));
+        var restored = session.find(multipart.getId());
+        assertNotNull(restored);
+        assertEquals(multipart.getDigest(), restored.getDigest());
+        assertEquals(List.of(0, 2), restored.getChunks());
+
+        assertNotNull(session.remove(multipart.getId()));
+        assertNull(session.find(multipart.getId()));
+        assertNull(new LocalMultipartSession(this.path, Duration.ofHours(1)).find(multipart.getId()));
+    }
+
+    /**
+     * 会话过期后失效，并可以被清除
+     */
+    @Test
+    public void case2() throws Exception {
+        var session = new LocalMultipartSession(this.path, Duration.ofMillis(50));
+
+        var multipart = new Multipart("digest", 1024L);
+        session.save(multipart);
+        assertNotNull(session.find(multipart.getId()));
+
+        Thread.sleep(100);
+        assertNull(session.find(multipart.getId()));
+        assertNull(session.complete(multipart.getId(), 0));
+
+        session.evict();
+        try (var files = Files.list(this.path)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
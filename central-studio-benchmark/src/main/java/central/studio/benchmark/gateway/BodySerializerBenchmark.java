@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway;
+
+import central.studio.gateway.core.body.serializer.BodySerializer;
+import central.studio.gateway.core.body.serializer.DeflateSerializer;
+import central.studio.gateway.core.body.serializer.GZipSerializer;
+import central.studio.gateway.core.body.serializer.PlainSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应体序列化基准测试
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BodySerializerBenchmark {
+
+    @Param({"plain", "gzip", "deflate"})
+    public String encoding;
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private BodySerializer serializer;
+
+    private String text;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        this.serializer = switch (this.encoding) {
+            case "gzip" -> new GZipSerializer();
+            case "deflate" -> new DeflateSerializer();
+            default -> new PlainSerializer();
+        };
+        this.text = GatewayFixtures.text(this.size);
+        this.encoded = this.serializer.write(this.text, StandardCharsets.UTF_8);
+
+        // 确认编解码结果一致
+        if (!this.text.equals(this.serializer.read(new ByteArrayInputStream(this.encoded), StandardCharsets.UTF_8))) {
+            throw new IllegalStateException("序列化器[" + this.encoding + "]编解码结果不一致");
+        }
+    }
+
+    @Benchmark
+    public String read() throws IOException {
+        return this.serializer.read(new ByteArrayInputStream(this.encoded), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return this.serializer.write(this.text, StandardCharsets.UTF_8);
+    }
+}
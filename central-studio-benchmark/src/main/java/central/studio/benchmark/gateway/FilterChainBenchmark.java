@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway;
+
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.StandardFilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 过滤器链基准测试
+ * <p>
+ * 测量调用链本身的开销（每个过滤器只做一次断言并交给下一个）
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterChainBenchmark {
+
+    /**
+     * 过滤器数量
+     */
+    @Param({"4", "16", "64"})
+    public int filters;
+
+    /**
+     * 断言失败（跳过）的过滤器比例
+     */
+    @Param({"0", "50"})
+    public int skipped;
+
+    private List<Filter> chain;
+
+    private ServerWebExchange exchange;
+
+    @Setup
+    public void setup() {
+        this.chain = new ArrayList<>(this.filters);
+        for (int i = 0; i < this.filters; i++) {
+            var skip = i * 100 < this.filters * this.skipped;
+            this.chain.add(new Filter() {
+                @Override
+                public boolean predicate(ServerWebExchange exchange) {
+                    return !skip;
+                }
+
+                @Override
+                public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+                    return chain.filter(exchange);
+                }
+            });
+        }
+        this.exchange = GatewayFixtures.exchange(MockServerHttpRequest.get("/api/users").build());
+    }
+
+    @Benchmark
+    public Void filter() {
+        return StandardFilterChain.of(this.chain).filter(this.exchange).block();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway;
+
+import central.data.gateway.GatewayFilter;
+import central.data.gateway.GatewayPredicate;
+import central.pluglet.PlugletFactory;
+import central.pluglet.lifecycle.SpringLifeCycleProcess;
+import central.studio.gateway.core.filter.DefaultFilterResolver;
+import central.studio.gateway.core.filter.DynamicFilter;
+import central.studio.gateway.core.filter.predicate.DefaultPredicateResolver;
+import central.util.Jsonx;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试公共夹具
+ * <p>
+ * 与网关使用相同的插件工厂构建过滤器与断言，保证测的是生产代码路径
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public final class GatewayFixtures {
+
+    private static final GenericApplicationContext context;
+
+    private static final PlugletFactory factory;
+
+    static {
+        context = new GenericApplicationContext();
+        context.refresh();
+
+        factory = new PlugletFactory();
+        factory.registerLifeCycleProcessor(new SpringLifeCycleProcess(context));
+    }
+
+    private GatewayFixtures() {
+    }
+
+    /**
+     * 创建动态过滤器
+     *
+     * @param type       过滤器类型
+     * @param path       匹配路径
+     * @param params     过滤器参数
+     * @param predicates 断言（类型, 参数）
+     */
+    public static DynamicFilter filter(String type, String path, Map<String, Object> params, Map<String, Map<String, Object>> predicates) {
+        var data = new GatewayFilter();
+        data.setId("benchmark");
+        data.setType(type);
+        data.setPath(path);
+        data.setOrder(0);
+        data.setEnabled(Boolean.TRUE);
+        data.setParams(Jsonx.Default().serialize(params));
+
+        var list = new ArrayList<GatewayPredicate>(predicates.size());
+        for (var entry : predicates.entrySet()) {
+            list.add(new GatewayPredicate(entry.getKey(), Jsonx.Default().serialize(entry.getValue())));
+        }
+        data.setPredicates(list);
+
+        return new DynamicFilter(data, new DefaultFilterResolver(factory), new DefaultPredicateResolver(factory));
+    }
+
+    /**
+     * 创建请求上下文
+     *
+     * @param request 请求
+     */
+    public static MockServerWebExchange exchange(MockServerHttpRequest request) {
+        return MockServerWebExchange.from(request);
+    }
+
+    /**
+     * 生成指定大小的文本
+     *
+     * @param size 字符数
+     */
+    public static String text(int size) {
+        var words = List.of("central", "studio", "gateway", "benchmark", "tenant", "application", "filter", "predicate");
+        var builder = new StringBuilder(size + 16);
+        var index = 0;
+        while (builder.length() < size) {
+            builder.append(words.get(index++ % words.size())).append(' ');
+        }
+        builder.setLength(size);
+        return builder.toString();
+    }
+}
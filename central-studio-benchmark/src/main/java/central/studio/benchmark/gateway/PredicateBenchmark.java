@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway;
+
+import central.studio.gateway.core.filter.DynamicFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 过滤器断言基准测试
+ * <p>
+ * 覆盖路径、方法、请求头、参数、Cookie 及日历断言，分别测量全部命中与提前失败两种情况
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class PredicateBenchmark {
+
+    private DynamicFilter filter;
+
+    private DynamicFilter calendar;
+
+    private MockServerWebExchange matched;
+
+    private MockServerWebExchange missedByPath;
+
+    private MockServerWebExchange missedByHeader;
+
+    @Setup
+    public void setup() {
+        var predicates = new LinkedHashMap<String, Map<String, Object>>();
+        predicates.put("header", Map.of("header", "X-Forwarded-For", "regexp", "^10\\.\\d+\\.\\d+\\.\\d+$"));
+        predicates.put("query", Map.of("query", "tenant"));
+        predicates.put("Cookie", Map.of("cookie", "session"));
+        predicates.put("method", Map.of("methods", List.of("GET", "POST")));
+        this.filter = GatewayFixtures.filter("timeout", "/api/**", Map.of("timeout", 30000), predicates);
+
+        this.calendar = GatewayFixtures.filter("timeout", "/api/**", Map.of("timeout", 30000),
+                Map.of("weekly", Map.of("days", List.of("1", "2", "3", "4", "5", "6", "7"))));
+
+        this.matched = GatewayFixtures.exchange(MockServerHttpRequest.get("/api/users/{id}", 1)
+                .queryParam("tenant", "master")
+                .header("X-Forwarded-For", "10.0.0.1")
+                .cookie(new HttpCookie("session", "benchmark"))
+                .build());
+
+        this.missedByPath = GatewayFixtures.exchange(MockServerHttpRequest.get("/static/index.html")
+                .queryParam("tenant", "master")
+                .header("X-Forwarded-For", "10.0.0.1")
+                .build());
+
+        this.missedByHeader = GatewayFixtures.exchange(MockServerHttpRequest.get("/api/users/{id}", 1)
+                .queryParam("tenant", "master")
+                .header("X-Forwarded-For", "192.168.0.1")
+                .cookie(new HttpCookie("session", "benchmark"))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.filter.destroy();
+        this.calendar.destroy();
+    }
+
+    @Benchmark
+    public boolean matched() {
+        return this.filter.predicate(this.matched);
+    }
+
+    @Benchmark
+    public boolean missedByPath() {
+        return this.filter.predicate(this.missedByPath);
+    }
+
+    @Benchmark
+    public boolean missedByHeader() {
+        return this.filter.predicate(this.missedByHeader);
+    }
+
+    @Benchmark
+    public boolean calendar() {
+        return this.calendar.predicate(this.matched);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void calendarContended(Blackhole blackhole) {
+        blackhole.consume(this.calendar.predicate(this.matched));
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway.load;
+
+import central.studio.gateway.GatewayApplication;
+import io.netty.buffer.Unpooled;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 网关压测工具
+ * <p>
+ * 以固定并发向网关发送请求，统计吞吐量、延迟分位数、状态码分布和内存分配速率。
+ * 压测前需要将网关中某个应用的地址指向 {@link StubUpstream}，可由本工具在进程内启动
+ * （-Dupstream.port），也可以单独运行 StubUpstream。
+ * <p>
+ * 启动步骤:
+ * <ol>
+ *     <li>使用默认配置（H2 数据库）启动 central-bootstrap: mvn -pl central-bootstrap spring-boot:run</li>
+ *     <li>在控制中心中新增应用，上下文路径为 /stub，服务地址为 http://127.0.0.1:{upstream.port}</li>
+ *     <li>运行本工具，并指定 -Dgateway.provider=http://127.0.0.1:8080，由本工具在进程内启动网关与上游服务:
+ *     mvn -pl central-studio-benchmark exec:exec -Dbenchmark.main=central.studio.benchmark.gateway.load.GatewayLoadHarness -Dbenchmark.jvmArgs="-Dgateway.provider=http://127.0.0.1:8080 -Dupstream.port=9000"</li>
+ * </ol>
+ * 网关在进程内启动时，内存分配速率包含网关与压测客户端两部分；压测独立运行的网关（-Dload.target）时，
+ * 内存分配速率只包含压测客户端，网关的分配情况需要在网关进程上使用 JFR 采集（-XX:StartFlightRecording）。
+ * <p>
+ * 常用场景:
+ * <ul>
+ *     <li>慢速上游 + 大请求体（-Dupstream.delay=500 -Dload.body=1048576）：观察网关进程的堆内存是否随并发线性增长</li>
+ *     <li>h2c 上游（-Dupstream.h2c=true，网关配置 studio.gateway.filter.http-routing.protocol=h2）：对比上游连接数</li>
+ * </ul>
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>gateway.provider: central-bootstrap（数据服务）地址，指定后在进程内启动网关，不指定则压测 load.target</li>
+ *     <li>gateway.port: 进程内网关端口，默认 3000</li>
+ *     <li>gateway.code: 网关访问数据服务的应用标识，默认 central-studio（central-bootstrap 的默认配置）</li>
+ *     <li>gateway.secret: 网关访问数据服务的应用密钥，默认 AkJSi2kmH7vSO5lJcvY（central-bootstrap 的默认配置）</li>
+ *     <li>load.target: 网关地址，默认 http://127.0.0.1:{gateway.port}/stub/ 或 http://127.0.0.1:8080/stub/</li>
+ *     <li>load.concurrency: 并发数，默认 64</li>
+ *     <li>load.duration: 压测时长（秒），默认 30</li>
+ *     <li>load.warmup: 预热时长（秒），默认 5</li>
+ *     <li>load.body: 请求体大小（字节），0 表示发送 GET 请求，默认 0</li>
+ *     <li>upstream.port: 进程内上游服务端口，不指定则不启动</li>
+ *     <li>upstream.h2c: 上游服务是否支持 h2c，默认 false</li>
+ *     <li>upstream.delay: 上游服务响应延迟（毫秒），默认 0</li>
+ *     <li>upstream.body: 上游服务响应体大小（字节），默认 1024</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class GatewayLoadHarness {
+
+    /**
+     * 最多记录的延迟样本数
+     */
+    private static final int MAX_SAMPLES = 1 << 22;
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext gateway = null;
+        var provider = System.getProperty("gateway.provider");
+        if (provider != null) {
+            var port = Integer.getInteger("gateway.port", 3000);
+            gateway = new SpringApplicationBuilder(GatewayApplication.class)
+                    .web(WebApplicationType.REACTIVE)
+                    .properties(Map.of(
+                            "server.port", port,
+                            "studio.provider.url", provider,
+                            "studio.provider.code", System.getProperty("gateway.code", "central-studio"),
+                            "studio.provider.key", System.getProperty("gateway.secret", "AkJSi2kmH7vSO5lJcvY")))
+                    .run();
+            System.out.printf("网关已启动[port: %d, provider: %s]%n", port, provider);
+        }
+
+        var target = System.getProperty("load.target", gateway == null ? "http://127.0.0.1:8080/stub/" : "http://127.0.0.1:" + Integer.getInteger("gateway.port", 3000) + "/stub/");
+        var concurrency = Integer.getInteger("load.concurrency", 64);
+        var duration = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+        var warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 5));
+        var bodySize = Integer.getInteger("load.body", 0);
+
+        StubUpstream upstream = null;
+        if (System.getProperty("upstream.port") != null) {
+            upstream = new StubUpstream(Integer.getInteger("upstream.port"),
+                    Boolean.getBoolean("upstream.h2c"),
+                    Duration.ofMillis(Long.getLong("upstream.delay", 0L)),
+                    Integer.getInteger("upstream.body", 1024));
+            System.out.printf("上游服务已启动[port: %d]%n", upstream.getPort());
+        }
+
+        var connections = ConnectionProvider.builder("gateway-load")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        var client = HttpClient.create(connections).responseTimeout(Duration.ofSeconds(60));
+
+        var payload = new byte[bodySize];
+        Arrays.fill(payload, (byte) 'x');
+
+        try {
+            System.out.printf("预热 %d 秒...%n", warmup.toSeconds());
+            run(client, target, payload, concurrency, warmup);
+
+            var connectionsBefore = upstream == null ? 0 : upstream.getConnections().get();
+            System.out.printf("压测 %d 秒[target: %s, concurrency: %d, body: %d bytes]...%n", duration.toSeconds(), target, concurrency, bodySize);
+            var allocatedBefore = allocatedBytes();
+            var result = run(client, target, payload, concurrency, duration);
+            var allocated = allocatedBytes() - allocatedBefore;
+            result.print(duration);
+            if (allocated >= 0) {
+                System.out.printf("内存分配速率: %.1f MB/s（%.1f KB/req）%n",
+                        allocated / 1048576d / duration.toSeconds(), result.total.get() == 0 ? 0 : allocated / 1024d / result.total.get());
+            }
+            if (upstream != null) {
+                System.out.printf("上游新建连接数: %d%n", upstream.getConnections().get() - connectionsBefore);
+            }
+        } finally {
+            connections.disposeLater().block();
+            if (upstream != null) {
+                upstream.close();
+            }
+            if (gateway != null) {
+                gateway.close();
+            }
+        }
+    }
+
+    /**
+     * 进程内所有线程已分配的堆内存字节数，不支持时返回 -1
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static Result run(HttpClient client, String target, byte[] payload, int concurrency, Duration duration) {
+        var result = new Result();
+        var deadline = System.nanoTime() + duration.toNanos();
+
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Flux.<Integer>generate(sink -> {
+                            if (System.nanoTime() < deadline) {
+                                sink.next(worker);
+                            } else {
+                                sink.complete();
+                            }
+                        })
+                        .concatMap(ignored -> request(client, target, payload, result)), concurrency)
+                .blockLast();
+
+        return result;
+    }
+
+    private static Mono<Void> request(HttpClient client, String target, byte[] payload, Result result) {
+        var start = System.nanoTime();
+        HttpClient.ResponseReceiver<?> receiver;
+        if (payload.length == 0) {
+            receiver = client.get().uri(target);
+        } else {
+            receiver = client.post().uri(target).send(ByteBufFlux.fromInbound(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(payload))));
+        }
+
+        return receiver.responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .doOnNext(status -> result.record(status, System.nanoTime() - start))
+                .onErrorResume(error -> {
+                    result.record(-1, System.nanoTime() - start);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 压测结果
+     */
+    private static class Result {
+        private final long[] samples = new long[MAX_SAMPLES];
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        private final AtomicLong total = new AtomicLong();
+
+        private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+        void record(int status, long nanos) {
+            this.total.incrementAndGet();
+            this.statuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+            var i = this.index.getAndIncrement();
+            if (i < this.samples.length) {
+                this.samples[i] = nanos;
+            }
+        }
+
+        void print(Duration duration) {
+            var count = Math.min(this.index.get(), this.samples.length);
+            var sorted = Arrays.copyOf(this.samples, count);
+            Arrays.sort(sorted);
+
+            System.out.printf("请求数: %d, 吞吐量: %.1f req/s%n", this.total.get(), this.total.get() / (double) duration.toSeconds());
+            System.out.printf("延迟(ms): p50=%.2f, p90=%.2f, p99=%.2f, p999=%.2f, max=%.2f%n",
+                    percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99), percentile(sorted, 0.999), percentile(sorted, 1));
+            System.out.printf("状态码: %s%n", new TreeMap<>(this.statuses));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            var i = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(i, sorted.length - 1))] / 1_000_000d;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.gateway.load;
+
+import io.netty.buffer.Unpooled;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 压测用的上游服务
+ * <p>
+ * 返回固定大小的响应体，可以模拟慢速上游（延迟响应）以及 h2c 上游
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class StubUpstream implements AutoCloseable {
+
+    /**
+     * 已建立的连接数
+     */
+    @Getter
+    private final AtomicLong connections = new AtomicLong();
+
+    /**
+     * 已处理的请求数
+     */
+    @Getter
+    private final AtomicLong requests = new AtomicLong();
+
+    private final DisposableServer server;
+
+    /**
+     * @param port     监听端口
+     * @param h2c      是否同时支持 h2c（prior knowledge）
+     * @param delay    每个响应的延迟
+     * @param bodySize 响应体大小（字节）
+     */
+    public StubUpstream(int port, boolean h2c, Duration delay, int bodySize) {
+        var payload = new byte[bodySize];
+        for (int i = 0; i < bodySize; i++) {
+            payload[i] = (byte) ('a' + i % 26);
+        }
+
+        var server = HttpServer.create()
+                .port(port)
+                .doOnConnection(connection -> this.connections.incrementAndGet());
+        if (h2c) {
+            server = server.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+
+        this.server = server
+                .handle((request, response) -> {
+                    this.requests.incrementAndGet();
+                    // 先把请求体读完，模拟正常的上游服务
+                    var body = request.receive().then();
+                    var reply = response.header("Content-Type", "text/plain")
+                            .header("Content-Length", String.valueOf(payload.length))
+                            .send(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(payload)));
+                    if (delay.isZero()) {
+                        return body.then(reply.then());
+                    } else {
+                        return body.then(Mono.delay(delay)).then(reply.then());
+                    }
+                })
+                .bindNow();
+    }
+
+    public int getPort() {
+        return this.server.port();
+    }
+
+    @Override
+    public void close() {
+        this.server.disposeNow();
+    }
+
+    /**
+     * 单独启动上游服务
+     * <p>
+     * 参数: [port] [h2c] [delayMillis] [bodySize]
+     */
+    public static void main(String[] args) throws Exception {
+        var port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        var h2c = args.length > 1 && Boolean.parseBoolean(args[1]);
+        var delay = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 0);
+        var bodySize = args.length > 3 ? Integer.parseInt(args[3]) : 1024;
+
+        try (var upstream = new StubUpstream(port, h2c, delay, bodySize)) {
+            System.out.printf("上游服务已启动[port: %d, h2c: %s, delay: %dms, body: %d bytes]%n", upstream.getPort(), h2c, delay.toMillis(), bodySize);
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(10_000);
+                System.out.printf("连接数: %d, 请求数: %d%n", upstream.getConnections().get(), upstream.getRequests().get());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.studio.logging.core.storage.impl.file.FileAppender;
+import central.studio.logging.core.storage.impl.file.FsyncPolicyEnum;
+import central.studio.logging.core.storage.impl.file.RollingPolicy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文件日志写入吞吐量测试
+ * <p>
+ * FileAppender 是异步写入的，无法直接用 JMH 测量。本程序生成定长日志，
+ * 根据文件大小判断写入完成，从而计算每秒写入的日志行数。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>appender.count: 日志数量，默认 2000000</li>
+ *     <li>appender.batch: 每批日志数量，默认 1000</li>
+ *     <li>appender.fsync: 刷盘策略（none/batch/interval），默认 none</li>
+ *     <li>appender.dir: 日志目录，默认系统临时目录</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class FileAppenderThroughput {
+
+    public static void main(String[] args) throws Exception {
+        var count = Integer.getInteger("appender.count", 2_000_000);
+        var batchSize = Integer.getInteger("appender.batch", 1000);
+        var fsync = FsyncPolicyEnum.valueOf(System.getProperty("appender.fsync", "none").toUpperCase());
+        var dir = new File(System.getProperty("appender.dir", System.getProperty("java.io.tmpdir")));
+
+        var file = File.createTempFile("appender-", ".log", dir);
+        file.deleteOnExit();
+
+        var appender = new FileAppender(new FixedRollingPolicy(file), fsync, Duration.ofSeconds(1));
+        appender.afterPropertiesSet();
+        try {
+            // 先写一条，得到单条日志的长度
+            appender.append(List.of(log(0)));
+            var recordSize = await(file, 1, Duration.ofSeconds(10));
+
+            var batches = new ArrayList<List<Log>>(count / batchSize + 1);
+            for (int i = 0; i < count; i += batchSize) {
+                var batch = new ArrayList<Log>(batchSize);
+                for (int j = i; j < Math.min(count, i + batchSize); j++) {
+                    batch.add(log(j));
+                }
+                batches.add(batch);
+            }
+
+            var start = System.nanoTime();
+            for (var batch : batches) {
+                appender.append(batch);
+            }
+            await(file, recordSize * (count + 1), Duration.ofMinutes(10));
+            var elapsed = System.nanoTime() - start;
+
+            System.out.printf("写入 %d 条日志（%d MB，fsync: %s），耗时 %d ms，%.0f 条/秒%n",
+                    count, file.length() / 1024 / 1024, fsync.getValue(), elapsed / 1_000_000, count / (elapsed / 1_000_000_000d));
+        } finally {
+            appender.destroy();
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * 等待文件达到指定大小
+     *
+     * @return 文件大小
+     */
+    private static long await(File file, long size, Duration timeout) throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (file.length() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("等待写入超时，当前文件大小: " + file.length());
+            }
+            Thread.sleep(1);
+        }
+        return file.length();
+    }
+
+    /**
+     * 生成定长日志
+     */
+    private static Log log(int index) {
+        var log = new Log();
+        log.setService("central-benchmark");
+        log.setTraceId(String.format("%016x", index));
+        log.setTimestamp(new Timestamp(1_700_000_000_000L + index));
+        log.setLevel("info");
+        log.setPid("12345");
+        log.setThread("benchmark-1");
+        log.setLocation("central.studio.Benchmark:42");
+        log.setContent("Completed request for tenant master with status 200 in 12 ms");
+        return log;
+    }
+
+    /**
+     * 固定写入同一个文件
+     */
+    private record FixedRollingPolicy(File file) implements RollingPolicy {
+        @Override
+        public File getFile() {
+            return this.file;
+        }
+
+        @Override
+        public void roll() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.io.IOStreamx;
+import central.lang.reflect.TypeRef;
+import central.studio.logging.controller.param.LogParams;
+import central.studio.logging.core.collector.impl.http.HttpLogReader;
+import central.util.Jsonx;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Http 日志解析基准测试
+ * <p>
+ * 对比整体读入后反序列化（原实现）与流式分批解析的吞吐量。
+ * 使用 {@code -prof gc} 运行可以对比每次操作的内存分配量，峰值堆内存可以配合 {@code -Xmx} 逐步调小验证
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class HttpLogReaderBenchmark {
+
+    /**
+     * 请求体大小（MB）
+     */
+    @Param({"1", "10", "50"})
+    public int megabytes;
+
+    private byte[] body;
+
+    private HttpLogReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        this.body = LogFixtures.json(this.megabytes * 1024 * 1024);
+        this.reader = new HttpLogReader(new ObjectMapper(), 1000);
+    }
+
+    @Benchmark
+    public void buffered(Blackhole blackhole) throws IOException {
+        var text = IOStreamx.readText(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8);
+        var params = Jsonx.Default().deserialize(text, TypeRef.ofList(LogParams.class));
+        blackhole.consume(params.stream().map(LogParams::toData).toList());
+    }
+
+    @Benchmark
+    public long streaming(Blackhole blackhole) throws IOException {
+        return this.reader.read(new ByteArrayInputStream(this.body), blackhole::consume);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.studio.logging.core.storage.impl.jdbc.JdbcStorage;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 数据库日志写入吞吐量测试
+ * <p>
+ * 对比 JdbcStorage（多行 INSERT、每批一个事务）与逐行自动提交写入在本地 H2 文件库上的吞吐量。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>jdbc.count: 日志数量，默认 200000</li>
+ *     <li>jdbc.batch: 每条 INSERT 语句的行数，默认 500</li>
+ *     <li>jdbc.url: 连接字符串，默认在系统临时目录创建 H2 数据库</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class JdbcStorageBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var count = Integer.getInteger("jdbc.count", 200_000);
+        var batchSize = Integer.getInteger("jdbc.batch", 500);
+        var url = System.getProperty("jdbc.url");
+        if (url == null) {
+            var dir = Files.createTempDirectory("jdbc-storage-").toFile();
+            url = "jdbc:h2:" + new File(dir, "logging").getAbsolutePath();
+        }
+
+        var logs = LogFixtures.logs(count, 42L);
+
+        // 建表，同时作为预热
+        var storage = new JdbcStorage(url, "sa", "", "X_LOG_BATCH", batchSize, 1000);
+        storage.afterPropertiesSet();
+        try {
+            var start = System.nanoTime();
+            for (int i = 0; i < logs.size(); i += 1000) {
+                storage.store(logs.subList(i, Math.min(logs.size(), i + 1000)));
+            }
+            storage.flush();
+            report("batched", count, System.nanoTime() - start);
+        } finally {
+            storage.destroy();
+        }
+
+        var naive = new JdbcStorage(url, "sa", "", "X_LOG_NAIVE", 1, 1000);
+        naive.afterPropertiesSet();
+        naive.destroy();
+        var start = System.nanoTime();
+        insertRowByRow(url, "X_LOG_NAIVE", logs);
+        report("row-by-row", count, System.nanoTime() - start);
+    }
+
+    /**
+     * 逐行写入，每行自动提交
+     */
+    private static void insertRowByRow(String url, String table, List<Log> logs) throws SQLException {
+        var columns = JdbcStorage.COLUMNS;
+        var sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(columns.get(i).name());
+        }
+        sql.append(") VALUES (").append("?, ".repeat(columns.size() - 1)).append("?)");
+
+        try (var connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.setAutoCommit(true);
+            for (var log : logs) {
+                try (var statement = connection.prepareStatement(sql.toString())) {
+                    for (int i = 0; i < columns.size(); i++) {
+                        statement.setObject(i + 1, columns.get(i).getter().apply(log));
+                    }
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+
+    private static void report(String name, int count, long nanos) {
+        var seconds = nanos / 1_000_000_000d;
+        System.out.printf("%-12s %,d rows in %.2fs, %,.0f rows/s%n", name, count, seconds, count / seconds);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.studio.logging.core.collector.Collector;
+import central.studio.logging.core.collector.impl.local.LocalCollector;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地日志采集吞吐量与延迟测试
+ * <p>
+ * 按指定间隔向采集目录写入日志文件（先写临时文件再重命名为 *.logtmp），
+ * 统计每秒处理的文件数，以及从文件出现到日志交给下游的延迟。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>local.files: 文件数量，默认 2000</li>
+ *     <li>local.size: 每个文件的大小（字节），默认 32768</li>
+ *     <li>local.interval: 写入文件的间隔（毫秒），默认 0，即一次性写入</li>
+ *     <li>local.parallelism: 采集器并发数，默认 4</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class LocalCollectorBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var files = Integer.getInteger("local.files", 2000);
+        var size = Integer.getInteger("local.size", 32 * 1024);
+        var interval = Long.getLong("local.interval", 0L);
+        var parallelism = Integer.getInteger("local.parallelism", 4);
+
+        var dir = Files.createTempDirectory("local-collector-");
+        var body = LogFixtures.json(size);
+
+        // 文件名 -> 出现时间
+        var created = new ConcurrentHashMap<String, Long>();
+        var latencies = new long[files];
+        var done = new CountDownLatch(files);
+
+        var collector = new LocalCollector();
+        collector.setPath(dir.toString());
+        collector.setParallelism(parallelism);
+        collector.setDelegate(new Collector() {
+            @Override
+            public void collect(List<Log> logs) {
+                // 每个文件的日志属于同一个 traceId 前缀，见下方 rewrite
+                var name = logs.get(0).getTraceId();
+                var start = created.remove(name);
+                if (start != null) {
+                    var index = Integer.parseInt(name.substring(5));
+                    latencies[index] = System.nanoTime() - start;
+                    done.countDown();
+                }
+            }
+        });
+        collector.afterPropertiesSet();
+
+        try {
+            var begin = System.nanoTime();
+            for (int i = 0; i < files; i++) {
+                var name = "file-" + i;
+                var tmp = dir.resolve(name + ".tmp");
+                Files.write(tmp, rewrite(body, name));
+                created.put(name, System.nanoTime());
+                Files.move(tmp, dir.resolve(name + ".logtmp"), StandardCopyOption.ATOMIC_MOVE);
+                if (interval > 0) {
+                    Thread.sleep(interval);
+                }
+            }
+
+            if (!done.await(10, TimeUnit.MINUTES)) {
+                System.out.printf("timeout, %d files not collected%n", done.getCount());
+                return;
+            }
+            var seconds = (System.nanoTime() - begin) / 1_000_000_000d;
+
+            Arrays.sort(latencies);
+            System.out.printf("%,d files (%,d bytes each) in %.2fs, %,.1f files/s%n", files, body.length, seconds, files / seconds);
+            System.out.printf("latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                    latencies[files / 2] / 1e6, latencies[(int) (files * 0.99)] / 1e6, latencies[files - 1] / 1e6);
+        } finally {
+            collector.destroy();
+        }
+    }
+
+    /**
+     * 将文件中所有日志的 traceId 替换为文件名，用于识别日志来自哪个文件
+     */
+    private static byte[] rewrite(byte[] body, String name) {
+        var json = new String(body, StandardCharsets.UTF_8);
+        return json.replaceAll("\"traceId\":\"[0-9a-f]+\"", "\"traceId\":\"" + name + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.data.log.option.LogLevel;
+import central.data.log.option.LogType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 日志基准测试夹具
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public final class LogFixtures {
+
+    private static final String[] TENANTS = {"master", "tenant-a", "tenant-b", "tenant-c"};
+
+    private static final String[] APPLICATIONS = {"central-gateway", "central-identity", "central-storage", "central-logging", "central-dashboard"};
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private static final LogType[] TYPES = LogType.values();
+
+    private static final String[] WORDS = {"request", "completed", "failed", "user", "login", "upload", "object", "timeout", "token", "refresh", "query", "tenant"};
+
+    private LogFixtures() {
+    }
+
+    /**
+     * 生成日志
+     *
+     * @param count 日志数量
+     * @param seed  随机种子
+     */
+    public static List<Log> logs(int count, long seed) {
+        var random = new SplittableRandom(seed);
+        var now = System.currentTimeMillis();
+        var logs = new ArrayList<Log>(count);
+        for (int i = 0; i < count; i++) {
+            logs.add(log(random, now - (count - i) * 10L));
+        }
+        return logs;
+    }
+
+    /**
+     * 生成一条日志
+     */
+    public static Log log(SplittableRandom random, long timestamp) {
+        var log = new Log();
+        log.setType(TYPES[random.nextInt(TYPES.length)].getValue());
+        log.setTraceId(Long.toHexString(random.nextLong()));
+        log.setLevel(LEVELS[random.nextInt(LEVELS.length)].getValue());
+        log.setTimestamp(new Timestamp(timestamp));
+        log.setTenantCode(TENANTS[random.nextInt(TENANTS.length)]);
+        log.setApplicationCode(APPLICATIONS[random.nextInt(APPLICATIONS.length)]);
+        log.setServerHost("10.0.0." + random.nextInt(1, 255));
+        log.setServerPort("8080");
+        log.setService(log.getApplicationCode());
+        log.setThread("http-nio-8080-exec-" + random.nextInt(1, 200));
+        log.setLogger("central.studio.Benchmark");
+
+        var content = new StringBuilder(96);
+        for (int i = 0, words = random.nextInt(6, 16); i < words; i++) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        log.setContent(content.toString());
+        return log;
+    }
+
+    /**
+     * 生成指定大小的日志 JSON 数组（日志上传请求体）
+     *
+     * @param size 字节数（近似）
+     */
+    public static byte[] json(int size) throws IOException {
+        var mapper = new ObjectMapper();
+        var random = new SplittableRandom(size);
+        var now = System.currentTimeMillis();
+        var output = new ByteArrayOutputStream(size + 4096);
+        try (var generator = mapper.getFactory().createGenerator(output)) {
+            generator.writeStartArray();
+            while (output.size() < size) {
+                var log = log(random, now);
+                generator.writeObject(Map.of(
+                        "type", log.getType(),
+                        "traceId", log.getTraceId(),
+                        "level", log.getLevel(),
+                        "timestamp", log.getTimestamp().getTime(),
+                        "content", log.getContent(),
+                        "tenantCode", log.getTenantCode(),
+                        "applicationCode", log.getApplicationCode(),
+                        "serverHost", log.getServerHost(),
+                        "thread", log.getThread(),
+                        "logger", log.getLogger()));
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+        return output.toByteArray();
+    }
+}
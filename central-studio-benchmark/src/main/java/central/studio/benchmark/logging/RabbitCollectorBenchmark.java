@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.studio.logging.core.collector.Collector;
+import central.studio.logging.core.collector.impl.rabbit.InProcessMessageSource;
+import central.studio.logging.core.collector.impl.rabbit.RabbitCollector;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RabbitMQ 日志采集吞吐量测试
+ * <p>
+ * 使用 {@link InProcessMessageSource} 代替 RabbitMQ，测量解析、批量交付与批量确认的吞吐量。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>rabbit.messages: 消息数量，默认 20000</li>
+ *     <li>rabbit.size: 每条消息的大小（字节），默认 8192</li>
+ *     <li>rabbit.prefetch: 预取数量，默认 250</li>
+ *     <li>rabbit.concurrency: 消费者数量，默认 2</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class RabbitCollectorBenchmark {
+
+    private static final String QUEUE = "central.logging";
+
+    public static void main(String[] args) throws Exception {
+        var messages = Integer.getInteger("rabbit.messages", 20_000);
+        var size = Integer.getInteger("rabbit.size", 8 * 1024);
+        var prefetch = Integer.getInteger("rabbit.prefetch", 250);
+        var concurrency = Integer.getInteger("rabbit.concurrency", 2);
+
+        var body = LogFixtures.json(size);
+        var source = new InProcessMessageSource();
+        for (int i = 0; i < messages; i++) {
+            source.publish(QUEUE, body);
+        }
+
+        var collected = new AtomicLong();
+        var batches = new AtomicLong();
+
+        var collector = new RabbitCollector();
+        collector.setQueue(QUEUE);
+        collector.setPrefetch(prefetch);
+        collector.setConcurrency(concurrency);
+        collector.setBatchSize(1000);
+        collector.setSource(source);
+        collector.setDelegate(new Collector() {
+            @Override
+            public void collect(List<Log> logs) {
+                collected.addAndGet(logs.size());
+                batches.incrementAndGet();
+            }
+        });
+
+        var start = System.nanoTime();
+        collector.afterPropertiesSet();
+        try {
+            while (source.getAcked() < messages) {
+                if (System.nanoTime() - start > TimeUnit.MINUTES.toNanos(10)) {
+                    System.out.printf("timeout, %d messages acked%n", source.getAcked());
+                    return;
+                }
+                Thread.sleep(1);
+            }
+            var seconds = (System.nanoTime() - start) / 1_000_000_000d;
+            System.out.printf("%,d messages, %,d logs in %,d batches, %.2fs: %,.0f messages/s, %,.0f logs/s%n",
+                    messages, collected.get(), batches.get(), seconds, messages / seconds, collected.get() / seconds);
+        } finally {
+            collector.destroy();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.logging;
+
+import central.data.log.Log;
+import central.studio.logging.core.storage.impl.segment.SegmentStore;
+import central.studio.logging.core.storage.search.LogSearch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * 日志段存储基准测试
+ * <p>
+ * 生成指定数量的日志（均匀分布在最近几天内）写入日志段，然后重新打开存储（使用封存的索引），
+ * 分别测量写入速度和几类典型查询的耗时。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>segment.count: 日志数量，默认 10000000</li>
+ *     <li>segment.days: 日志分布的天数，默认 6</li>
+ *     <li>segment.dir: 存储目录，默认在系统临时目录下创建</li>
+ *     <li>segment.rounds: 每类查询的执行次数，默认 50</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class SegmentStoreBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var count = Integer.getInteger("segment.count", 10_000_000);
+        var days = Integer.getInteger("segment.days", 6);
+        var rounds = Integer.getInteger("segment.rounds", 50);
+        var directory = System.getProperty("segment.dir") == null ? Files.createTempDirectory("segments-") : Path.of(System.getProperty("segment.dir"));
+
+        var partition = Duration.ofHours(1);
+        var retention = Duration.ofDays(days + 1);
+        var end = System.currentTimeMillis();
+        var begin = end - Duration.ofDays(days).toMillis();
+        var step = Math.max(1, (end - begin) / count);
+
+        // 写入
+        var random = new SplittableRandom(42);
+        String sampleTrace = null;
+        var start = System.nanoTime();
+        try (var store = new SegmentStore(directory, partition, retention)) {
+            var batch = new ArrayList<Log>(1000);
+            for (int i = 0; i < count; i++) {
+                var log = LogFixtures.log(random, begin + i * step);
+                if (i == count / 2) {
+                    sampleTrace = log.getTraceId();
+                }
+                batch.add(log);
+                if (batch.size() == 1000) {
+                    store.append(batch);
+                    batch = new ArrayList<>(1000);
+                }
+            }
+            if (!batch.isEmpty()) {
+                store.append(batch);
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("写入 %d 条日志，耗时 %d ms，%.0f 条/秒，占用磁盘 %d MB%n",
+                count, elapsed / 1_000_000, count / (elapsed / 1_000_000_000d), size(directory) / 1024 / 1024);
+
+        // 查询
+        var hour = Duration.ofHours(1).toMillis();
+        var middle = begin + (end - begin) / 2;
+        var trace = sampleTrace;
+        try (var store = new SegmentStore(directory, partition, retention)) {
+            measure("跟踪标识（全时间范围）", rounds, () -> LogSearch.builder().traceId(trace).limit(100).build(), store);
+            measure("租户 + 等级（1 小时）", rounds, () -> LogSearch.builder().from(middle).to(middle + hour).tenantCode("tenant-a").level("error").limit(100).build(), store);
+            measure("租户 + 关键字（1 天）", rounds, () -> LogSearch.builder().from(middle).to(middle + 24 * hour).tenantCode("master").keyword("upload failed").limit(100).build(), store);
+            measure("应用（全时间范围，第一页）", rounds, () -> LogSearch.builder().applicationCode("central-gateway").limit(100).build(), store);
+            measure("时间范围（10 分钟，无其它条件）", rounds, () -> LogSearch.builder().from(middle).to(middle + hour / 6).limit(1000).build(), store);
+        } finally {
+            if (System.getProperty("segment.dir") == null) {
+                try (var files = Files.walk(directory)) {
+                    for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void measure(String name, int rounds, Supplier<LogSearch> search, SegmentStore store) throws Exception {
+        // 预热，同时加载索引
+        var page = store.search(search.get());
+        var start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            page = store.search(search.get());
+        }
+        var elapsed = System.nanoTime() - start;
+        System.out.printf("%s: 平均 %.3f ms，返回 %d 条%n", name, elapsed / 1_000_000d / rounds, page.getData().size());
+    }
+
+    private static long size(Path directory) throws Exception {
+        try (var files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(it -> it.toFile().length()).sum();
+        }
+    }
+}
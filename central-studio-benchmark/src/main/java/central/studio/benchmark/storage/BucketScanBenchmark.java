@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.studio.storage.core.impl.local.LocalBucket;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 孤立数据遍历基准测试
+ * <p>
+ * 对象回收任务按存储键分页遍历本地存储桶，本测试衡量完整遍历一次的耗时（即遍历速度）。
+ * 数据文件直接按存储桶的目录结构生成（{前三个字符}/{摘要}），不计算真实摘要。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class BucketScanBenchmark {
+
+    @Param({"100000"})
+    public int files;
+
+    @Param({"1000"})
+    public int pageSize;
+
+    private Path location;
+
+    private LocalBucket bucket;
+
+    @Setup
+    public void setup() throws Exception {
+        this.location = Files.createTempDirectory("bucket-scan-");
+        this.bucket = new LocalBucket(this.location.toString());
+        this.bucket.afterPropertiesSet();
+
+        var random = new SplittableRandom(42);
+        var digest = new byte[32];
+        for (int i = 0; i < this.files; i++) {
+            random.nextBytes(digest);
+            var key = HexFormat.of().formatHex(digest);
+            var dir = Files.createDirectories(this.location.resolve(key.substring(0, 3)));
+            Files.write(dir.resolve(key), new byte[0]);
+        }
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        try (var files = Files.walk(this.location)) {
+            files.sorted(Comparator.reverseOrder()).forEach(it -> it.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long scan() throws IOException {
+        long count = 0;
+        String after = null;
+        while (true) {
+            var entries = this.bucket.list(after, this.pageSize);
+            count += entries.size();
+            if (entries.size() < this.pageSize) {
+                return count;
+            }
+            after = entries.get(entries.size() - 1).key();
+        }
+    }
+}
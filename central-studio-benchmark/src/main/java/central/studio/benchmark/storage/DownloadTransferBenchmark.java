@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.studio.storage.controller.render.ObjectRender;
+import central.studio.storage.core.stream.FileObjectStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 对象下载传输吞吐量测试
+ * <p>
+ * 启动内嵌 Tomcat，由 {@link ObjectRender} 将对象写入 Servlet 响应，客户端通过本机回环读取并丢弃数据。
+ * 分别在关闭与开启 sendfile 的两个连接器上下载同一个对象，对比经过 Servlet 输出流复制与 sendfile（零拷贝）的吞吐量。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>download.sizes: 对象大小（MB），逗号分隔，默认 1,100,1024</li>
+ *     <li>download.rounds: 每种方式的运行轮数，默认 5</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class DownloadTransferBenchmark {
+
+    /**
+     * 当前下载的对象
+     */
+    private static volatile File current;
+
+    public static void main(String[] args) throws Exception {
+        var sizes = Arrays.stream(System.getProperty("download.sizes", "1,100,1024").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        var rounds = Integer.getInteger("download.rounds", 5);
+
+        var base = Files.createTempDirectory("download-tomcat-");
+        var tomcat = new Tomcat();
+        tomcat.setBaseDir(base.toString());
+
+        var copying = connector(false);
+        var sendfile = connector(true);
+        tomcat.getService().addConnector(copying);
+        tomcat.getService().addConnector(sendfile);
+
+        var context = tomcat.addContext("", base.toString());
+        Tomcat.addServlet(context, "download", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                var file = current;
+                new ObjectRender(request, response)
+                        .setStream(new FileObjectStream(file))
+                        .setFileName(file.getName())
+                        .setContentLength(file.length())
+                        .render();
+            }
+        });
+        context.addServletMappingDecoded("/*", "download");
+        tomcat.start();
+
+        var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            for (var size : sizes) {
+                var file = File.createTempFile("download-", ".bin");
+                try {
+                    generate(file, size * 1024L * 1024L);
+                    current = file;
+
+                    double copy = 0, zeroCopy = 0;
+                    for (int i = 0; i < rounds; i++) {
+                        copy += measure(client, copying.getLocalPort(), size);
+                        zeroCopy += measure(client, sendfile.getLocalPort(), size);
+                    }
+                    System.out.printf("%5d MB: servlet stream %8.1f MB/s, sendfile %8.1f MB/s%n", size, copy / rounds, zeroCopy / rounds);
+                } finally {
+                    Files.deleteIfExists(file.toPath());
+                }
+            }
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private static Connector connector(boolean sendfile) {
+        var connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("useSendfile", String.valueOf(sendfile));
+        return connector;
+    }
+
+    /**
+     * 下载一次，返回吞吐量（MB/s）
+     */
+    private static double measure(HttpClient client, int port, int megabytes) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/object")).GET().build();
+        var start = System.nanoTime();
+        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        var elapsed = System.nanoTime() - start;
+        if (response.statusCode() != 200) {
+            throw new IOException("下载失败: " + response.statusCode());
+        }
+        return megabytes / (elapsed / 1_000_000_000d);
+    }
+
+    private static void generate(File file, long size) throws IOException {
+        var random = new SplittableRandom(size);
+        var buffer = new byte[1024 * 1024];
+        try (OutputStream output = Files.newOutputStream(file.toPath())) {
+            for (long written = 0; written < size; written += buffer.length) {
+                random.nextBytes(buffer);
+                output.write(buffer, 0, (int) Math.min(buffer.length, size - written));
+            }
+        }
+    }
+}
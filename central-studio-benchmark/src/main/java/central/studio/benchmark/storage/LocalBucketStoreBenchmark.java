@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.studio.storage.core.impl.local.LocalBucket;
+import central.studio.storage.core.stream.FileObjectStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+/**
+ * 本地存储桶保存吞吐量测试
+ * <p>
+ * 对比原实现（先读一遍计算摘要，再读一遍写入文件）与单次读取（写入临时文件的同时计算摘要，再原子移动）的吞吐量。
+ * 每种方式每个大小各运行若干轮，输出平均吞吐量（MB/s）。注意操作系统页缓存会影响结果，大文件更接近真实磁盘性能。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>store.sizes: 对象大小（MB），逗号分隔，默认 1,100,1024</li>
+ *     <li>store.rounds: 每种方式的运行轮数，默认 3</li>
+ *     <li>store.dir: 存储目录，默认在系统临时目录下创建</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class LocalBucketStoreBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var sizes = Arrays.stream(System.getProperty("store.sizes", "1,100,1024").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        var rounds = Integer.getInteger("store.rounds", 3);
+        var root = System.getProperty("store.dir") == null ? Files.createTempDirectory("bucket-") : Path.of(System.getProperty("store.dir"));
+
+        for (var size : sizes) {
+            var source = root.resolve("source-" + size + ".bin").toFile();
+            generate(source, size * 1024L * 1024L);
+            try {
+                var location = root.resolve("objects").toFile();
+                var bucket = new LocalBucket(location.getAbsolutePath());
+                bucket.afterPropertiesSet();
+
+                double twoPass = 0, singlePass = 0;
+                for (int i = 0; i < rounds; i++) {
+                    twoPass += measure(size, () -> {
+                        // 原实现：getDigest 读一遍，transferTo 再读一遍
+                        var stream = new FileObjectStream(source);
+                        var digest = stream.getDigest();
+                        var dir = new File(location, digest.substring(0, 3));
+                        dir.mkdirs();
+                        stream.transferTo(new File(dir, digest));
+                    });
+                    clean(location);
+
+                    singlePass += measure(size, () -> bucket.store(new FileObjectStream(source)));
+                    clean(location);
+                }
+
+                System.out.printf("%5d MB: two-pass %8.1f MB/s, single-pass %8.1f MB/s%n", size, twoPass / rounds, singlePass / rounds);
+            } finally {
+                Files.deleteIfExists(source.toPath());
+            }
+        }
+    }
+
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    /**
+     * 运行一次，返回吞吐量（MB/s）
+     */
+    private static double measure(int megabytes, Task task) throws IOException {
+        var start = System.nanoTime();
+        task.run();
+        return megabytes / ((System.nanoTime() - start) / 1_000_000_000d);
+    }
+
+    private static void generate(File file, long size) throws IOException {
+        var random = new SplittableRandom(size);
+        var buffer = new byte[1024 * 1024];
+        try (OutputStream output = Files.newOutputStream(file.toPath())) {
+            for (long written = 0; written < size; written += buffer.length) {
+                random.nextBytes(buffer);
+                output.write(buffer, 0, (int) Math.min(buffer.length, size - written));
+            }
+        }
+    }
+
+    private static void clean(File location) throws IOException {
+        var dirs = location.listFiles(File::isDirectory);
+        if (dirs == null) {
+            return;
+        }
+        for (var dir : dirs) {
+            try (var files = Files.walk(dir.toPath())) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.studio.storage.core.cache.LocalCache;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 本地缓存边读边写吞吐量测试
+ * <p>
+ * 对比原实现（逐字节读取并写入缓存）与按块读取写入缓存的吞吐量，同时测试 put 的吞吐量。
+ * 数据源为内存中的随机数据，读取端通过 transferTo 消费，因此结果主要反映缓存写入的开销。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>cache.sizes: 数据大小（MB），逗号分隔，默认 1,64,256</li>
+ *     <li>cache.rounds: 每种方式的运行轮数，默认 3</li>
+ *     <li>cache.dir: 缓存目录，默认在系统临时目录下创建</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class LocalCacheBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var sizes = Arrays.stream(System.getProperty("cache.sizes", "1,64,256").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        var rounds = Integer.getInteger("cache.rounds", 3);
+        var root = System.getProperty("cache.dir") == null ? Files.createTempDirectory("cache-") : Path.of(System.getProperty("cache.dir"));
+        var cache = new LocalCache(root);
+
+        for (var size : sizes) {
+            var data = new byte[size * 1024 * 1024];
+            new SplittableRandom(size).nextBytes(data);
+
+            double legacy = 0, bulk = 0, put = 0;
+            for (int i = 0; i < rounds; i++) {
+                legacy += measure(size, () -> {
+                    try (var stream = legacy(root.resolve("legacy"), new ByteArrayInputStream(data))) {
+                        stream.transferTo(OutputStream.nullOutputStream());
+                    }
+                });
+                Files.deleteIfExists(root.resolve("legacy"));
+
+                bulk += measure(size, () -> {
+                    try (var stream = cache.cache("bulk", new ByteArrayInputStream(data))) {
+                        stream.transferTo(OutputStream.nullOutputStream());
+                    }
+                });
+                cache.delete("bulk");
+
+                put += measure(size, () -> cache.put("put", new ByteArrayInputStream(data)));
+                cache.delete("put");
+            }
+
+            System.out.printf("%5d MB: per-byte tee %8.1f MB/s, bulk tee %8.1f MB/s, put %8.1f MB/s%n", size, legacy / rounds, bulk / rounds, put / rounds);
+        }
+    }
+
+    private interface Task {
+        void run() throws IOException;
+    }
+
+    /**
+     * 运行一次，返回吞吐量（MB/s）
+     */
+    private static double measure(int megabytes, Task task) throws IOException {
+        var start = System.nanoTime();
+        task.run();
+        return megabytes / ((System.nanoTime() - start) / 1_000_000_000d);
+    }
+
+    /**
+     * 原实现：只重写了 read()，所有读取都退化为逐字节读取、逐字节写入
+     */
+    private static InputStream legacy(Path cache, InputStream data) throws IOException {
+        var bufferedOutput = new BufferedOutputStream(Files.newOutputStream(cache, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        var bufferedInput = new BufferedInputStream(data);
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                int b = bufferedInput.read();
+                if (b >= 0) {
+                    bufferedOutput.write(b);
+                }
+                return b;
+            }
+
+            @Override
+            public void close() throws IOException {
+                bufferedInput.close();
+                bufferedOutput.flush();
+                bufferedOutput.close();
+                super.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.storage.client.data.Multipart;
+import central.studio.storage.core.BucketCache;
+import central.studio.storage.core.MultipartAssembler;
+import central.studio.storage.core.ObjectStream;
+import central.studio.storage.core.cache.LocalCache;
+import central.studio.storage.core.impl.local.LocalBucket;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * 分片上传组装测试
+ * <p>
+ * 对比原实现（每个分片保存为单独的缓存，完成时合并所有分片、计算摘要并复制到存储桶）与组装实现
+ * （分片并行写入预分配文件的对应位置，按顺序增量计算摘要，完成时只移动文件）。
+ * 分别输出上传所有分片的耗时与完成上传的耗时（毫秒），完成上传的耗时即客户端在最后等待的时间。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>multipart.sizes: 对象大小（MB），逗号分隔，默认 64,512</li>
+ *     <li>multipart.parallelism: 并行上传的分片数，默认 4</li>
+ *     <li>multipart.rounds: 每种方式的运行轮数，默认 3</li>
+ *     <li>multipart.dir: 工作目录，默认在系统临时目录下创建</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class MultipartAssemblyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var sizes = Arrays.stream(System.getProperty("multipart.sizes", "64,512").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        var parallelism = Integer.getInteger("multipart.parallelism", 4);
+        var rounds = Integer.getInteger("multipart.rounds", 3);
+        var root = System.getProperty("multipart.dir") == null ? Files.createTempDirectory("multipart-") : Path.of(System.getProperty("multipart.dir"));
+
+        var cache = new LocalCache(root.resolve("cache"));
+        var bucket = new LocalBucket(root.resolve("objects").toString());
+        bucket.afterPropertiesSet();
+        var assembler = new MultipartAssembler();
+        assembler.setCache(cache);
+
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (var size : sizes) {
+                var data = new byte[size * 1024 * 1024];
+                new SplittableRandom(size).nextBytes(data);
+
+                long legacyUpload = 0, legacyComplete = 0, assemblyUpload = 0, assemblyComplete = 0;
+                for (int i = 0; i < rounds; i++) {
+                    // 原实现
+                    var multipart = new Multipart(null, (long) data.length);
+                    var start = System.nanoTime();
+                    upload(executor, multipart, (index, chunk) -> cache.put(multipart.getId() + "_" + index, chunk), data);
+                    var uploaded = System.nanoTime();
+                    var keys = IntStream.range(0, multipart.getChunkCount().intValue()).mapToObj(it -> multipart.getId() + "_" + it).toList();
+                    bucket.store(chunks(cache, keys, multipart.getSize()));
+                    cache.delete(keys);
+                    legacyUpload += uploaded - start;
+                    legacyComplete += System.nanoTime() - uploaded;
+                    clean(root.resolve("objects"));
+
+                    // 组装实现
+                    var assembly = new Multipart(null, (long) data.length);
+                    start = System.nanoTime();
+                    assembler.create(assembly);
+                    upload(executor, assembly, (index, chunk) -> assembler.write(assembly, index, chunk, null), data);
+                    uploaded = System.nanoTime();
+                    bucket.store(assembler.complete(assembly, "test.bin"));
+                    assembler.remove(assembly.getId());
+                    assemblyUpload += uploaded - start;
+                    assemblyComplete += System.nanoTime() - uploaded;
+                    clean(root.resolve("objects"));
+                }
+
+                System.out.printf("%5d MB: legacy upload %7.1f ms, complete %7.1f ms; assembly upload %7.1f ms, complete %7.1f ms%n", size,
+                        legacyUpload / rounds / 1e6, legacyComplete / rounds / 1e6, assemblyUpload / rounds / 1e6, assemblyComplete / rounds / 1e6);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface ChunkWriter {
+        void write(int index, ByteArrayInputStream chunk) throws IOException;
+    }
+
+    /**
+     * 按分片下标顺序并行上传所有分片
+     */
+    private static void upload(ExecutorService executor, Multipart multipart, ChunkWriter writer, byte[] data) throws Exception {
+        var tasks = new ArrayList<Callable<Void>>();
+        for (var index : multipart.getChunks()) {
+            tasks.add(() -> {
+                var position = (int) (index * multipart.getChunkSize());
+                writer.write(index, new ByteArrayInputStream(data, position, (int) MultipartAssembler.getChunkSize(multipart, index)));
+                return null;
+            });
+        }
+        for (var future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    /**
+     * 原实现：按顺序读取所有分片缓存
+     */
+    private static ObjectStream chunks(BucketCache cache, List<String> keys, long size) {
+        return new ObjectStream() {
+            @Override
+            public String getFilename() {
+                return "test.bin";
+            }
+
+            @Override
+            public long getSize() {
+                return size;
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return cache.get(keys);
+            }
+        };
+    }
+
+    private static void clean(Path location) throws IOException {
+        try (var files = Files.walk(location)) {
+            files.sorted(Comparator.reverseOrder()).filter(it -> !it.equals(location)).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
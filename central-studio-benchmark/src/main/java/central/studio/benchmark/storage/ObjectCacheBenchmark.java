@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.data.storage.StorageObject;
+import central.studio.storage.core.cache.ObjectCache;
+import central.studio.storage.core.impl.local.LocalBucket;
+import central.studio.storage.core.stream.BytesObjectStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 热点小对象下载基准测试
+ * <p>
+ * 反复下载少量小对象（如头像），对比:
+ * <ul>
+ *     <li>bucket: 原实现，每次从存储桶（本地磁盘）打开文件读取</li>
+ *     <li>cached: 从热点对象缓存中读取</li>
+ * </ul>
+ * 原实现每次下载还需要向数据中心查询对象信息（一次网络请求），本测试未计入该开销，实际差距更大。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ObjectCacheBenchmark {
+
+    @Param({"16384"})
+    public int size;
+
+    @Param({"100"})
+    public int objects;
+
+    private Path location;
+
+    private LocalBucket bucket;
+
+    private ObjectCache cache;
+
+    private String[] keys;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup
+    public void setup() throws Exception {
+        this.location = Files.createTempDirectory("object-cache-");
+        this.bucket = new LocalBucket(this.location.toString());
+        this.bucket.afterPropertiesSet();
+        this.cache = new ObjectCache(256 * 1024, 64 * 1024 * 1024, Duration.ofMinutes(5));
+
+        this.keys = new String[this.objects];
+        for (int i = 0; i < this.objects; i++) {
+            var data = new byte[this.size];
+            new SplittableRandom(i).nextBytes(data);
+            var key = this.bucket.store(new BytesObjectStream("avatar-" + i + ".png", data));
+
+            var object = new StorageObject();
+            object.setId(String.valueOf(i));
+            object.setName("avatar-" + i + ".png");
+            object.setSize((long) this.size);
+            object.setDigest(key);
+            object.setKey(key);
+            this.cache.put(ObjectCache.getKey("master", "bucket", object.getId()), object, data);
+            this.keys[i] = key;
+        }
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        try (var files = Files.walk(this.location)) {
+            files.sorted(Comparator.reverseOrder()).forEach(it -> it.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void bucket() throws IOException {
+        var stream = this.bucket.get(this.keys[this.random.nextInt(this.objects)]);
+        stream.transferTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void cached() throws IOException {
+        var entry = this.cache.get(ObjectCache.getKey("master", "bucket", String.valueOf(this.random.nextInt(this.objects))));
+        new BytesObjectStream(entry.object().getName(), entry.data()).transferTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+/**
+ * 存储对象查询延迟测试
+ * <p>
+ * 在本地 H2 文件库中创建与 X_STO_OBJECT 相同结构的表并写入大量对象，分别测试建立索引（v0_0_7_storage）前后
+ * 秒传（存储桶 + 摘要）、对象列表（租户 + 存储桶 + 主键）、删除前查询（存储桶 + 主键）的平均延迟，
+ * 以及回收数据前批量查询引用时按存储键（无索引）与按摘要（有索引）查询的平均延迟。
+ * <p>
+ * 参数（系统属性）:
+ * <ul>
+ *     <li>object.count: 对象数量，默认 1000000</li>
+ *     <li>object.buckets: 存储桶数量，默认 10</li>
+ *     <li>object.lookups: 每种查询的次数，默认 1000（未建索引时会很慢，可以适当调小）</li>
+ *     <li>object.url: 连接字符串，默认在系统临时目录创建 H2 数据库</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+public class ObjectLookupBenchmark {
+
+    /**
+     * 回收数据时每次查询的存储键数量，与 ObjectReclaimer.BATCH_SIZE 一致
+     */
+    private static final int REFERENCE_BATCH = 1000;
+
+    public static void main(String[] args) throws Exception {
+        var count = Integer.getInteger("object.count", 1_000_000);
+        var buckets = Integer.getInteger("object.buckets", 10);
+        var lookups = Integer.getInteger("object.lookups", 1000);
+        var url = System.getProperty("object.url");
+        if (url == null) {
+            var dir = Files.createTempDirectory("object-lookup-").toFile();
+            url = "jdbc:h2:" + new File(dir, "provider").getAbsolutePath();
+        }
+
+        try (var connection = DriverManager.getConnection(url, "centralx", "central.x")) {
+            prepare(connection, count, buckets);
+
+            System.out.println("Without indexes:");
+            measure(connection, count, buckets, lookups);
+
+            try (var statement = connection.createStatement()) {
+                var start = System.nanoTime();
+                statement.execute("CREATE INDEX X_SOBJ_BD ON X_STO_OBJECT (BUCKET_ID, DIGEST)");
+                statement.execute("CREATE INDEX X_SOBJ_DIGEST ON X_STO_OBJECT (DIGEST)");
+                statement.execute("CREATE INDEX X_SOBJ_TB ON X_STO_OBJECT (TENANT_CODE, BUCKET_ID)");
+                System.out.printf("Indexes created in %.1f s%n", (System.nanoTime() - start) / 1e9);
+            }
+
+            System.out.println("With indexes:");
+            measure(connection, count, buckets, lookups);
+        }
+    }
+
+    private static void prepare(Connection connection, int count, int buckets) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS X_STO_OBJECT");
+            statement.execute("""
+                    CREATE TABLE X_STO_OBJECT (
+                        ID VARCHAR(32) PRIMARY KEY,
+                        BUCKET_ID VARCHAR(32),
+                        NAME VARCHAR(50),
+                        SIZE INTEGER,
+                        DIGEST VARCHAR(128),
+                        "KEY" VARCHAR(2048),
+                        CONFIRMED BOOLEAN,
+                        CREATOR_ID VARCHAR(36),
+                        CREATE_DATE TIMESTAMP,
+                        MODIFIER_ID VARCHAR(36),
+                        MODIFY_DATE TIMESTAMP,
+                        TENANT_CODE VARCHAR(32)
+                    )""");
+        }
+
+        var start = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (var statement = connection.prepareStatement("INSERT INTO X_STO_OBJECT VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, ?, CURRENT_TIMESTAMP, ?)")) {
+            for (int i = 0; i < count; i++) {
+                var digest = digest(i);
+                statement.setString(1, id(i));
+                statement.setString(2, bucket(i % buckets));
+                statement.setString(3, "object-" + i + ".bin");
+                statement.setInt(4, i);
+                statement.setString(5, digest);
+                statement.setString(6, digest);
+                statement.setBoolean(7, true);
+                statement.setString(8, "syssa");
+                statement.setString(9, "syssa");
+                statement.setString(10, "master");
+                statement.addBatch();
+                if ((i + 1) % 10_000 == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        System.out.printf("Inserted %d objects in %.1f s%n", count, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static void measure(Connection connection, int count, int buckets, int lookups) throws SQLException {
+        var random = new SplittableRandom(42);
+
+        // 秒传：按存储桶和摘要查询
+        try (var statement = connection.prepareStatement("SELECT * FROM X_STO_OBJECT WHERE BUCKET_ID = ? AND DIGEST = ? AND TENANT_CODE = ? LIMIT 1")) {
+            var start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                var index = random.nextInt(count);
+                statement.setString(1, bucket(index % buckets));
+                statement.setString(2, digest(index));
+                statement.setString(3, "master");
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                }
+            }
+            System.out.printf("  rapid upload (bucket + digest): %10.1f us/op%n", (System.nanoTime() - start) / 1e3 / lookups);
+        }
+
+        // 下载、删除：按存储桶和主键查询
+        try (var statement = connection.prepareStatement("SELECT * FROM X_STO_OBJECT WHERE BUCKET_ID = ? AND ID = ? AND TENANT_CODE = ?")) {
+            var start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                var index = random.nextInt(count);
+                statement.setString(1, bucket(index % buckets));
+                statement.setString(2, id(index));
+                statement.setString(3, "master");
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                }
+            }
+            System.out.printf("  download (bucket + id):         %10.1f us/op%n", (System.nanoTime() - start) / 1e3 / lookups);
+        }
+
+        // 回收：批量查询存储键是否仍被引用，对比按存储键与按摘要（存储键就是摘要）查询
+        var placeholders = String.join(", ", Collections.nCopies(REFERENCE_BATCH, "?"));
+        for (var column : new String[]{"\"KEY\"", "DIGEST"}) {
+            // 不限定存储桶，其它存储桶可能使用相同的存储位置
+            try (var statement = connection.prepareStatement("SELECT * FROM X_STO_OBJECT WHERE " + column + " IN (" + placeholders + ") AND TENANT_CODE = ? LIMIT " + REFERENCE_BATCH)) {
+                var rounds = Math.max(1, lookups / 100);
+                var start = System.nanoTime();
+                for (int i = 0; i < rounds; i++) {
+                    for (int j = 0; j < REFERENCE_BATCH; j++) {
+                        statement.setString(j + 1, digest(random.nextInt(count)));
+                    }
+                    statement.setString(REFERENCE_BATCH + 1, "master");
+                    try (var result = statement.executeQuery()) {
+                        while (result.next()) {
+                            // 读取所有结果
+                        }
+                    }
+                }
+                System.out.printf("  reclaim (%-6s IN):            %10.1f us/op%n", column.replace("\"", ""), (System.nanoTime() - start) / 1e3 / rounds);
+            }
+        }
+
+        // 统计：按租户和存储桶计数
+        try (var statement = connection.prepareStatement("SELECT COUNT(*) FROM X_STO_OBJECT WHERE TENANT_CODE = ? AND BUCKET_ID = ?")) {
+            var rounds = Math.max(1, lookups / 100);
+            var start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                statement.setString(1, "master");
+                statement.setString(2, bucket(random.nextInt(buckets)));
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                }
+            }
+            System.out.printf("  count (tenant + bucket):        %10.1f us/op%n", (System.nanoTime() - start) / 1e3 / rounds);
+        }
+    }
+
+    private static String id(int index) {
+        return String.format("%032d", index);
+    }
+
+    private static String bucket(int index) {
+        return String.format("bucket%026d", index);
+    }
+
+    private static String digest(int index) {
+        var bytes = new byte[32];
+        new SplittableRandom(index).nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
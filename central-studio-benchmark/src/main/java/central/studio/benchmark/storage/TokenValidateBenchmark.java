@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.benchmark.storage;
+
+import central.studio.storage.core.cache.TokenCache;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 访问凭证校验基准测试
+ * <p>
+ * 存储中心每个接口都需要校验访问凭证，对比:
+ * <ul>
+ *     <li>rebuild: 原实现，每次请求都创建校验器并校验签名</li>
+ *     <li>verifier: 按密钥复用校验器，每次请求校验签名</li>
+ *     <li>cached: 复用校验器，并缓存已校验的凭证（同一凭证重复使用，如反复下载同一对象）</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class TokenValidateBenchmark {
+
+    private static final String SECRET = "xGkN2tQ7rW9vY3zB5cE8hJ4mP6sU1aD0";
+
+    private String token;
+
+    private TokenCache cache;
+
+    @Setup
+    public void setup() {
+        this.token = JWT.create()
+                .withClaim("permissions", "view")
+                .withAudience("1")
+                .withExpiresAt(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .sign(Algorithm.HMAC256(SECRET));
+        this.cache = new TokenCache(10000, Duration.ofMinutes(5));
+    }
+
+    @Benchmark
+    public DecodedJWT rebuild() {
+        return JWT.require(Algorithm.HMAC256(SECRET)).build().verify(this.token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifier() {
+        return this.cache.getVerifier(SECRET).verify(this.token);
+    }
+
+    @Benchmark
+    public DecodedJWT cached() {
+        return this.cache.verify(SECRET, this.token);
+    }
+}